@@ -1,17 +1,23 @@
 package io.chazza.advancementapi;
 
 import java.io.File;
-import java.io.FileWriter;
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
-import java.util.LinkedList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
 
 import org.bukkit.Bukkit;
 import org.bukkit.NamespacedKey;
-import org.bukkit.advancement.Advancement;
-import org.bukkit.advancement.AdvancementProgress;
+import org.bukkit.World;
 import org.bukkit.entity.Player;
 import org.bukkit.plugin.java.JavaPlugin;
 
@@ -19,13 +25,24 @@ import com.google.gson.Gson;
 import com.google.gson.GsonBuilder;
 import com.google.gson.JsonElement;
 import com.google.gson.JsonObject;
+import com.google.gson.JsonParseException;
+import com.google.gson.JsonParser;
 
 import io.chazza.advancementapi.Display.DisplayBuilder;
 import io.chazza.advancementapi.Requirements.RequirementsBuilder;
 import io.chazza.advancementapi.Rewards.RewardsBuilder;
 import io.chazza.advancementapi.Trigger.TriggerBuilder;
 import io.chazza.advancementapi.common.Builder;
+import io.chazza.advancementapi.common.CompactList;
 import io.chazza.advancementapi.common.Jsonable;
+import io.chazza.advancementapi.storage.AtomicFileWriter;
+import io.chazza.advancementapi.storage.BatchWriter;
+import io.chazza.advancementapi.storage.CatalogCache;
+import io.chazza.advancementapi.storage.ContentIndex;
+import io.chazza.advancementapi.storage.ContentIndex.Status;
+import io.chazza.advancementapi.storage.SaveResult;
+import io.chazza.advancementapi.transport.AdvancementTransport;
+import io.chazza.advancementapi.transport.BukkitTransport;
 
 /**
  * This API provides simple access and support for creating Advancements in
@@ -41,12 +58,14 @@ import io.chazza.advancementapi.common.Jsonable;
  * {@link AdvancementAPIBuilder#trigger(TriggerBuilder)
  * trigger(TriggerBuilder)}. At the end of building your advancement call the
  * {@link AdvancementAPIBuilder#build() build()} method. This will build your
- * Advancement and give you the correct object.
+ * Advancement and give you the correct object. Later changes of the builders
+ * do not affect the built advancement.
  * <p>
  * <b>Working with Advancements</b>
  * <p>
  * On the Advancement you can access some basic actions for working with them as
- * {@link #grant(Player...)} and {@link #revoke(Player...)}. You can also save
+ * {@link #grant(Player...)}, {@link #revoke(Player...)} and
+ * {@link #reset(Player...)}. You can also save
  * them to your server world when using {@link #save(String)} and
  * {@link #delete(String)}. When saving with these method remember to restart or
  * reload your server to apply changes.
@@ -81,18 +100,30 @@ import io.chazza.advancementapi.common.Jsonable;
  * @see "https://github.com/kaonashi97/AdvancementAPI"
  */
 public class AdvancementAPI implements Jsonable {
+    /**
+     * The version of the Json rendered by the builders. It is increased with
+     * every change of the rendering (e.g. the decimal
+     * {@link io.chazza.advancementapi.conditions.primitive.Range Range}s), so
+     * caches of rendered Json like the {@link CatalogCache} are rebuilt.
+     */
+    public static final int JSON_VERSION = 2;
+
     private static final String LOG_PREFIX = "[AdvancementAPI] ";
     private static final Gson gson = new GsonBuilder().setPrettyPrinting().create();
+    private static final Trigger DEFAULT_TRIGGER = Trigger.builder(TriggerType.IMPOSSIBLE, "default").build();
+    private static volatile AdvancementTransport transport = new BukkitTransport();
+    private static volatile AtomicFileWriter fileWriter = new AtomicFileWriter(false);
 
     private NamespacedKey id;
     private String parent;
-    private DisplayBuilder display;
-    private List<TriggerBuilder> triggers = new LinkedList<>();
-    private RequirementsBuilder requirements;
-    private RewardsBuilder rewards;
-
-    private AdvancementAPI(NamespacedKey id, String parent, DisplayBuilder display, List<TriggerBuilder> triggers,
-            RequirementsBuilder requirements, RewardsBuilder rewards) {
+    private Display display;
+    private List<Trigger> triggers;
+    private Requirements requirements;
+    private Rewards rewards;
+    private byte[] source;
+
+    private AdvancementAPI(NamespacedKey id, String parent, Display display, List<Trigger> triggers,
+            Requirements requirements, Rewards rewards) {
         this.id = id;
         this.parent = parent;
         this.display = display;
@@ -101,6 +132,67 @@ public class AdvancementAPI implements Jsonable {
         this.rewards = rewards;
     }
 
+    private AdvancementAPI(NamespacedKey id, String parent, byte[] source) {
+        this.id = id;
+        this.parent = parent;
+        this.triggers = Collections.emptyList();
+        this.source = source;
+    }
+
+    /**
+     * Creates an advancement from its Json, e.g. read from an advancement file
+     * (see {@link io.chazza.advancementapi.storage.AdvancementLoader
+     * AdvancementLoader}).
+     * <p>
+     * The Json is kept as it is and only parsed for validation and the parent,
+     * so saving the advancement writes the very same bytes again. The array
+     * must not be modified afterwards.
+     * 
+     * @param id the advancement id
+     * @param json the UTF-8 encoded Json
+     * @return the advancement
+     * @throws JsonParseException if the Json is not an advancement
+     */
+    public static AdvancementAPI fromJson(NamespacedKey id, byte[] json) {
+        JsonElement element = new JsonParser().parse(new String(json, StandardCharsets.UTF_8));
+        if (!element.isJsonObject() || !element.getAsJsonObject().has("criteria")
+                || !element.getAsJsonObject().get("criteria").isJsonObject()) {
+            throw new JsonParseException("Advancement " + id + " has no criteria");
+        }
+        JsonElement parent = element.getAsJsonObject().get("parent");
+        if (parent != null && !(parent.isJsonPrimitive() && parent.getAsJsonPrimitive().isString())) {
+            throw new JsonParseException("Advancement " + id + " has an invalid parent");
+        }
+        return new AdvancementAPI(id, parent == null ? null : parent.getAsString(), json);
+    }
+
+    /**
+     * Creates an advancement from Json which was validated before, e.g. when
+     * restoring a {@link io.chazza.advancementapi.storage.CatalogCache
+     * CatalogCache}. Unlike {@link #fromJson(NamespacedKey, byte[])} the Json
+     * is not parsed at all.
+     * 
+     * @param id the advancement id
+     * @param parent the parent advancement id or <code>null</code>
+     * @param json the UTF-8 encoded Json
+     * @return the advancement
+     */
+    public static AdvancementAPI fromJson(NamespacedKey id, String parent, byte[] json) {
+        return new AdvancementAPI(id, parent, json);
+    }
+
+    /**
+     * See {@link #fromJson(NamespacedKey, byte[])} for more information.
+     * 
+     * @param id the advancement id
+     * @param json the Json
+     * @return the advancement
+     * @throws JsonParseException if the Json is not an advancement
+     */
+    public static AdvancementAPI fromJson(NamespacedKey id, String json) {
+        return fromJson(id, json.getBytes(StandardCharsets.UTF_8));
+    }
+
     /**
      * Returns a {@link AdvancementAPIBuilder} for building
      * {@link AdvancementAPI}s.
@@ -112,6 +204,50 @@ public class AdvancementAPI implements Jsonable {
         return new AdvancementAPIBuilder(id);
     }
 
+    /**
+     * Returns a {@link AdvancementAPIBuilder} initialized with this
+     * advancement.
+     * <p>
+     * See {@link #toBuilder(NamespacedKey)} for more information.
+     * 
+     * @return the builder
+     * @throws IllegalStateException if the advancement was loaded from Json
+     */
+    public AdvancementAPIBuilder toBuilder() {
+        return toBuilder(id);
+    }
+
+    /**
+     * Returns a {@link AdvancementAPIBuilder} initialized with this
+     * advancement, but with another id. Useful for variants like tiers which
+     * only differ in a title or a range:
+     * 
+     * <pre>
+     * AdvancementAPI gold = bronze.toBuilder(goldId).display(bronzeDisplay.toBuilder().title("Gold")).build();
+     * </pre>
+     * 
+     * The builder shares all parts with this advancement. Parts are replaced,
+     * not changed, so a replaced part does not affect this advancement and
+     * unchanged parts (including the list of triggers) are shared by the built
+     * variant as well.
+     * 
+     * @param id the id of the variant
+     * @return the builder
+     * @throws IllegalStateException if the advancement was loaded from Json
+     */
+    public AdvancementAPIBuilder toBuilder(NamespacedKey id) {
+        if (source != null) {
+            throw new IllegalStateException("Advancement " + this.id + " was loaded from Json");
+        }
+        AdvancementAPIBuilder builder = new AdvancementAPIBuilder(id);
+        builder.parent = parent;
+        builder.display = AdvancementAPIBuilder.built(display);
+        builder.sharedTriggers = triggers;
+        builder.requirements = AdvancementAPIBuilder.built(requirements);
+        builder.rewards = AdvancementAPIBuilder.built(rewards);
+        return builder;
+    }
+
     /**
      * Returns the advancement id.
      * 
@@ -132,23 +268,27 @@ public class AdvancementAPI implements Jsonable {
 
     @Override
     public JsonElement toJson() {
+        if (source != null) {
+            return new JsonParser().parse(new String(source, StandardCharsets.UTF_8));
+        }
         JsonObject advancementObj = new JsonObject();
 
         //@formatter:off
         if (parent != null) advancementObj.addProperty("parent", parent);
-        if (display != null) advancementObj.add("display", display.build().toJson());
+        if (display != null) advancementObj.add("display", display.toJson());
         //@formatter:on
 
         JsonObject criteria = new JsonObject();
-        triggers.forEach(triggerBuilder -> {
-            Trigger trigger = triggerBuilder.build();
-            criteria.add(trigger.getJsonKey(), trigger.toJson());
-        });
+        triggers.forEach(trigger -> criteria.add(trigger.getJsonKey(), trigger.toJson()));
+        if (triggers.isEmpty()) {
+            // the server needs a criterion, not part of the model so variants with triggers don't inherit it
+            criteria.add(DEFAULT_TRIGGER.getJsonKey(), DEFAULT_TRIGGER.toJson());
+        }
         advancementObj.add("criteria", criteria);
 
         //@formatter:off
-        if (requirements != null) advancementObj.add("requirements", requirements.build().toJson());
-        if (rewards != null) advancementObj.add("rewards", rewards.build().toJson());
+        if (requirements != null) advancementObj.add("requirements", requirements.toJson());
+        if (rewards != null) advancementObj.add("rewards", rewards.toJson());
         //@formatter:on
 
         return advancementObj;
@@ -160,9 +300,26 @@ public class AdvancementAPI implements Jsonable {
      * @return the Json String
      */
     public String getJson() {
+        if (source != null) {
+            return new String(source, StandardCharsets.UTF_8);
+        }
         return gson.toJson(toJson());
     }
 
+    /**
+     * Returns the Json of this advancement as UTF-8 encoded bytes.
+     * <p>
+     * The Json is serialized on every call, unless the advancement was
+     * created from its Json. Callers writing an advancement multiple times
+     * should serialize it once and reuse the buffer.
+     * 
+     * @return a read-only {@link ByteBuffer} of the Json
+     */
+    public ByteBuffer getJsonBytes() {
+        byte[] bytes = source != null ? source : getJson().getBytes(StandardCharsets.UTF_8);
+        return ByteBuffer.wrap(bytes).asReadOnlyBuffer();
+    }
+
     /**
      * Adds the advancement to the server.
      * 
@@ -177,14 +334,8 @@ public class AdvancementAPI implements Jsonable {
         return this;
     }
 
-    @SuppressWarnings("deprecation")
     boolean add0() {
-        try {
-            return Bukkit.getUnsafe().loadAdvancement(id, getJson()) != null;
-        } catch (Exception ex) {
-            ex.printStackTrace();
-        }
-        return false;
+        return transport.register(id, getJson());
     }
 
     /**
@@ -201,13 +352,16 @@ public class AdvancementAPI implements Jsonable {
         return this;
     }
 
-    @SuppressWarnings("deprecation")
     boolean remove0() {
-        return Bukkit.getUnsafe().removeAdvancement(id);
+        return transport.unregister(id);
     }
 
     /**
      * Shows the advancement to the {@link Player}s.
+     * <p>
+     * Each call registers and unregisters this advancement. For showing toasts
+     * frequently use a {@link io.chazza.advancementapi.toast.ToastPool
+     * ToastPool} instead.
      * 
      * @param plugin the owning {@link JavaPlugin}
      * @param players the list of {@link Player}s
@@ -230,16 +384,7 @@ public class AdvancementAPI implements Jsonable {
      * @return this advancement
      */
     public AdvancementAPI grant(Player... players) {
-        Advancement advancement = getAdvancement();
-        for (Player player : players) {
-            AdvancementProgress progress = player.getAdvancementProgress(advancement);
-            if (!progress.isDone()) {
-                Collection<String> remainingCriteria = progress.getRemainingCriteria();
-                for (String remainingCriterion : remainingCriteria) {
-                    progress.awardCriteria(remainingCriterion);
-                }
-            }
-        }
+        transport.grant(Arrays.asList(players), id);
         return this;
     }
 
@@ -250,36 +395,116 @@ public class AdvancementAPI implements Jsonable {
      * @return this advancement
      */
     public AdvancementAPI revoke(Player... players) {
-        Advancement advancement = getAdvancement();
         for (Player player : players) {
-            AdvancementProgress progress = player.getAdvancementProgress(advancement);
-            if (progress.isDone()) {
-                Collection<String> awardedCriteria = progress.getAwardedCriteria();
-                for (String awardedCriterion : awardedCriteria) {
-                    progress.revokeCriteria(awardedCriterion);
-                }
+            if (transport.isDone(player, id)) {
+                transport.revoke(player, id);
             }
         }
         return this;
     }
 
     /**
-     * Gets the Bukkit implementation of this {@link Advancement}.
+     * Resets this advancement for the given {@link Player}s.
+     * <p>
+     * Unlike {@link #revoke(Player...)} this also clears the criteria of
+     * advancements which are only partially progressed.
+     * 
+     * @param players the list of {@link Player}s
+     * @return this advancement
+     */
+    public AdvancementAPI reset(Player... players) {
+        transport.revoke(Arrays.asList(players), id);
+        return this;
+    }
+
+    /**
+     * Resets all advancements of the given namespace for the given
+     * {@link Player}s. See {@link #reset(Player...)} for more information.
+     * <p>
+     * The advancements are looked up once and each player's progress is then
+     * reset in a single pass over all of them (see
+     * {@link AdvancementTransport#revokeAll(Collection, Collection)}).
+     * 
+     * @param namespace the namespace (e.g. the name of your plugin)
+     * @param players the list of {@link Player}s
+     * @return the number of advancements in the namespace
+     */
+    public static int resetAll(String namespace, Player... players) {
+        Collection<NamespacedKey> ids = transport.getAdvancements(namespace);
+        transport.revokeAll(Arrays.asList(players), ids);
+        return ids.size();
+    }
+
+    /**
+     * Returns the {@link AdvancementTransport} used for registering
+     * advancements and changing the progress of players.
+     * 
+     * @return the transport
+     */
+    public static AdvancementTransport getTransport() {
+        return transport;
+    }
+
+    /**
+     * Returns the {@link AtomicFileWriter} used for saving advancements.
+     * 
+     * @return the writer
+     */
+    public static AtomicFileWriter getFileWriter() {
+        return fileWriter;
+    }
+
+    /**
+     * Sets the {@link AtomicFileWriter} used for saving advancements. By
+     * default the written files are not synced to the disk.
+     * 
+     * @param fileWriter the writer
+     */
+    public static void setFileWriter(AtomicFileWriter fileWriter) {
+        if (fileWriter == null) {
+            throw new IllegalArgumentException("fileWriter must not be null");
+        }
+        AdvancementAPI.fileWriter = fileWriter;
+    }
+
+    /**
+     * Sets the {@link AdvancementTransport} used for registering advancements
+     * and changing the progress of players. By default this is a
+     * {@link BukkitTransport}.
      * 
-     * @return the Bukkit {@link Advancement}
+     * @param transport the transport
      */
-    private Advancement getAdvancement() {
-        return Bukkit.getAdvancement(id);
+    public static void setTransport(AdvancementTransport transport) {
+        if (transport == null) {
+            throw new IllegalArgumentException("transport must not be null");
+        }
+        AdvancementAPI.transport = transport;
+    }
+
+    private static Path getAdvancementsFolder(File worldFolder) {
+        return worldFolder.toPath().resolve("data").resolve("advancements");
+    }
+
+    private Path getAdvancementFile(Path advancementsFolder) {
+        return advancementsFolder.resolve(getAdvancementFile(id));
     }
 
-    private String getAdvancementFile() {
-        return "data" + File.separator + "advancements" + File.separator + id.getNamespace() + File.separator
-                + id.getKey() + ".json";
+    private static String getAdvancementFile(NamespacedKey id) {
+        return id.getNamespace() + "/" + id.getKey() + ".json";
     }
 
     /**
      * Saves this advancement in the world folder.
      * <p>
+     * The file is written atomically as UTF-8 through the
+     * {@link AtomicFileWriter} set with
+     * {@link #setFileWriter(AtomicFileWriter)}. The content hash of each
+     * written file is kept in a {@link ContentIndex} within the
+     * <code>data/advancements</code> folder, so saving an unchanged
+     * advancement again does not touch its file. Only a single line is
+     * appended to the index, use {@link #saveAll(World, Collection)} for
+     * saving many advancements.
+     * <p>
      * This will not register this advancement within the server. You have to
      * restart the server or use {@link #add()}.
      * 
@@ -294,18 +519,149 @@ public class AdvancementAPI implements Jsonable {
     }
 
     boolean save0(File worldFolder) {
-        File file = new File(worldFolder, getAdvancementFile());
-        File dir = file.getParentFile();
-        if (dir.mkdirs() || dir.exists()) {
-            try (FileWriter writer = new FileWriter(file)) {
-                writer.write(getJson());
+        Path folder = getAdvancementsFolder(worldFolder);
+        Path file = getAdvancementFile(folder);
+        ContentIndex index = ContentIndex.of(folder);
+        ByteBuffer content = getJsonBytes();
+        String hash = ContentIndex.hash(content);
+        // one save per folder at a time, so the index matches the files
+        synchronized (index) {
+            try {
+                if (index.check(file, hash, content.remaining()) != Status.UNCHANGED) {
+                    fileWriter.write(file, content);
+                    index.put(file, hash, content.remaining());
+                    index.append(file, fileWriter);
+                }
                 return true;
             } catch (IOException ex) {
                 ex.printStackTrace();
                 return false;
             }
         }
-        return false;
+    }
+
+    /**
+     * Saves all advancements in the world folder. See {@link #save(String)}
+     * for more information.
+     * <p>
+     * Unlike calling {@link #save(String)} for each advancement, the Json is
+     * serialized in parallel, each namespace directory is created only once
+     * and the files are written by a bounded number of threads (see
+     * {@link BatchWriter}). A single summary is logged instead of one line per
+     * advancement.
+     * <p>
+     * Unchanged files are skipped (see {@link #save(String)}). Files which
+     * are not part of the collection are kept, use
+     * {@link #replaceAll(World, Collection)} for removing them.
+     * 
+     * @param world the {@link World}
+     * @param advancements the advancements
+     * @return the {@link SaveResult}
+     */
+    public static SaveResult<AdvancementAPI> saveAll(World world, Collection<AdvancementAPI> advancements) {
+        SaveResult<AdvancementAPI> result = saveAll0(world.getWorldFolder(), advancements,
+                BatchWriter.defaultParallelism(), false);
+        logSaveResult(world, result, advancements.size());
+        return result;
+    }
+
+    /**
+     * Saves all advancements in the world folder like
+     * {@link #saveAll(World, Collection)}, but treats them as the complete
+     * content of their namespaces: files saved before in one of these
+     * namespaces which are not part of the collection anymore are deleted.
+     * Other files are never touched.
+     * 
+     * @param world the {@link World}
+     * @param advancements the advancements
+     * @return the {@link SaveResult}
+     */
+    public static SaveResult<AdvancementAPI> replaceAll(World world, Collection<AdvancementAPI> advancements) {
+        SaveResult<AdvancementAPI> result = saveAll0(world.getWorldFolder(), advancements,
+                BatchWriter.defaultParallelism(), true);
+        logSaveResult(world, result, advancements.size());
+        return result;
+    }
+
+    /**
+     * Saves all advancements in the folders of all worlds. See
+     * {@link #saveAll(World, Collection)} for more information.
+     * <p>
+     * Each advancement is serialized only once, the same bytes are written to
+     * all worlds.
+     * 
+     * @param worlds the {@link World}s
+     * @param advancements the advancements
+     * @return the {@link SaveResult} of each world
+     */
+    public static Map<World, SaveResult<AdvancementAPI>> saveAll(Collection<World> worlds,
+            Collection<AdvancementAPI> advancements) {
+        return saveAll(worlds, advancements, false);
+    }
+
+    /**
+     * Saves all advancements in the folders of all worlds and deletes the
+     * ones which are not part of the collection anymore from all worlds in the
+     * same batch. See {@link #replaceAll(World, Collection)} for more
+     * information.
+     * 
+     * @param worlds the {@link World}s
+     * @param advancements the advancements
+     * @return the {@link SaveResult} of each world
+     */
+    public static Map<World, SaveResult<AdvancementAPI>> replaceAll(Collection<World> worlds,
+            Collection<AdvancementAPI> advancements) {
+        return saveAll(worlds, advancements, true);
+    }
+
+    private static Map<World, SaveResult<AdvancementAPI>> saveAll(Collection<World> worlds,
+            Collection<AdvancementAPI> advancements, boolean replace) {
+        Map<World, Path> folders = new LinkedHashMap<>();
+        worlds.forEach(world -> folders.put(world, getAdvancementsFolder(world.getWorldFolder())));
+        Map<Path, SaveResult<AdvancementAPI>> results = saveAll0(folders.values(), advancements,
+                BatchWriter.defaultParallelism(), replace);
+        Map<World, SaveResult<AdvancementAPI>> worldResults = new LinkedHashMap<>();
+        folders.forEach((world, folder) -> {
+            SaveResult<AdvancementAPI> result = results.get(folder);
+            worldResults.put(world, result);
+            logSaveResult(world, result, advancements.size());
+        });
+        return worldResults;
+    }
+
+    static Map<Path, SaveResult<AdvancementAPI>> saveAll0(Collection<Path> folders,
+            Collection<AdvancementAPI> advancements, int parallelism, boolean replace) {
+        BatchWriter batchWriter = new BatchWriter(fileWriter, parallelism);
+        Function<AdvancementAPI, String> files = advancement -> getAdvancementFile(advancement.getId());
+        //@formatter:off
+        return replace
+                ? batchWriter.replaceAll(folders, advancements, files, AdvancementAPI::getJsonBytes)
+                : batchWriter.writeAll(folders, advancements, files, AdvancementAPI::getJsonBytes);
+        //@formatter:on
+    }
+
+    private static void logSaveResult(World world, SaveResult<AdvancementAPI> result, int size) {
+        if (result.isSuccess()) {
+            Bukkit.getLogger().info(() -> LOG_PREFIX + "Saved advancements in " + world.getName() + " ("
+                    + result.getNew() + " new, " + result.getChanged() + " changed, " + result.getUnchanged()
+                    + " unchanged, " + result.getDeleted() + " deleted) in "
+                    + result.getDuration(TimeUnit.MILLISECONDS) + " ms");
+            return;
+        }
+        Bukkit.getLogger().severe(() -> LOG_PREFIX + "Error on saving " + result.getFailed().size() + " of " + size
+                + " advancements in " + world.getName());
+    }
+
+    static SaveResult<AdvancementAPI> saveAll0(File worldFolder, Collection<AdvancementAPI> advancements,
+            int parallelism, boolean replace) {
+        Path folder = getAdvancementsFolder(worldFolder);
+        BatchWriter batchWriter = new BatchWriter(fileWriter, parallelism, ContentIndex.of(folder));
+        Function<AdvancementAPI, Path> files = advancement -> advancement.getAdvancementFile(folder);
+        //@formatter:off
+        return replace
+                ? batchWriter.replaceAll(advancements, files, AdvancementAPI::getJsonBytes)
+                : batchWriter.writeAll(advancements, files, AdvancementAPI::getJsonBytes);
+        //@formatter:on
     }
 
     /**
@@ -324,8 +680,42 @@ public class AdvancementAPI implements Jsonable {
         Bukkit.getLogger().severe(() -> LOG_PREFIX + "Error on deleting advancement " + id);
     }
 
+    /**
+     * Deletes the advancements from the folders of all worlds. See
+     * {@link #delete(String)} for more information.
+     * <p>
+     * Unlike calling {@link #delete(String)} for each advancement and world,
+     * the {@link ContentIndex} of each world is written only once.
+     * 
+     * @param worlds the {@link World}s
+     * @param ids the ids of the advancements
+     * @return the number of deleted files
+     */
+    public static int deleteAll(Collection<World> worlds, Collection<NamespacedKey> ids) {
+        List<Path> folders = new ArrayList<>(worlds.size());
+        worlds.forEach(world -> folders.add(getAdvancementsFolder(world.getWorldFolder())));
+        int deleted = deleteAll0(folders, ids);
+        Bukkit.getLogger().info(() -> LOG_PREFIX + "Deleted " + deleted + " advancement files");
+        return deleted;
+    }
+
+    static int deleteAll0(Collection<Path> folders, Collection<NamespacedKey> ids) {
+        List<String> files = new ArrayList<>(ids.size());
+        ids.forEach(id -> files.add(getAdvancementFile(id)));
+        return new BatchWriter(fileWriter, 1).deleteAll(folders, files);
+    }
+
     boolean delete0(File worldFolder) {
-        File file = new File(worldFolder, getAdvancementFile());
+        Path folder = getAdvancementsFolder(worldFolder);
+        File file = getAdvancementFile(folder).toFile();
+        ContentIndex index = ContentIndex.of(folder);
+        if (index.remove(file.toPath())) {
+            try {
+                index.append(file.toPath(), fileWriter);
+            } catch (IOException ex) {
+                ex.printStackTrace();
+            }
+        }
         if (file.exists()) {
             return file.delete();
         }
@@ -341,10 +731,11 @@ public class AdvancementAPI implements Jsonable {
     public static class AdvancementAPIBuilder implements Builder<AdvancementAPI> {
         private NamespacedKey id;
         private String parent;
-        private DisplayBuilder display;
-        private List<TriggerBuilder> triggers = new LinkedList<>();
-        private RequirementsBuilder requirements;
-        private RewardsBuilder rewards;
+        private Builder<Display> display;
+        private List<Trigger> sharedTriggers;
+        private List<TriggerBuilder> triggers = new ArrayList<>();
+        private Builder<Requirements> requirements;
+        private Builder<Rewards> rewards;
 
         private AdvancementAPIBuilder(NamespacedKey id) {
             this.id = id;
@@ -415,7 +806,7 @@ public class AdvancementAPI implements Jsonable {
          * @return this builder
          */
         public AdvancementAPIBuilder trigger(TriggerBuilder trigger) {
-            this.triggers.add(trigger);
+            mutableTriggers().add(trigger);
             return this;
         }
 
@@ -429,7 +820,7 @@ public class AdvancementAPI implements Jsonable {
          * @return this builder
          */
         public AdvancementAPIBuilder triggers(Collection<? extends TriggerBuilder> triggers) {
-            this.triggers.addAll(triggers);
+            mutableTriggers().addAll(triggers);
             return this;
         }
 
@@ -439,7 +830,8 @@ public class AdvancementAPI implements Jsonable {
          * @return this builder
          */
         public AdvancementAPIBuilder clearTriggers() {
-            this.triggers.clear();
+            this.sharedTriggers = null;
+            this.triggers = new ArrayList<>();
             return this;
         }
 
@@ -478,13 +870,34 @@ public class AdvancementAPI implements Jsonable {
             return this;
         }
 
+        private List<TriggerBuilder> mutableTriggers() {
+            // the triggers of a source advancement are shared until the first change
+            if (sharedTriggers != null) {
+                sharedTriggers.forEach(trigger -> triggers.add(trigger.toBuilder()));
+                sharedTriggers = null;
+            }
+            return triggers;
+        }
+
+        private static <T> Builder<T> built(T part) {
+            return part == null ? null : () -> part;
+        }
+
+        private static <T> T build(Builder<T> builder) {
+            return builder == null ? null : builder.build();
+        }
+
         @Override
         public AdvancementAPI build() {
-            if (triggers.isEmpty()) {
-                triggers.add(Trigger.builder(TriggerType.IMPOSSIBLE, "default"));
+            List<Trigger> built = sharedTriggers;
+            if (built == null) {
+                built = new ArrayList<>(triggers.size());
+                for (TriggerBuilder trigger : triggers) {
+                    built.add(trigger.build());
+                }
             }
-            return new AdvancementAPI(id, parent, display, Collections.unmodifiableList(triggers), requirements,
-                    rewards);
+            return new AdvancementAPI(id, parent, build(display), CompactList.copyOf(built), build(requirements),
+                    build(rewards));
         }
     }
 }
\ No newline at end of file
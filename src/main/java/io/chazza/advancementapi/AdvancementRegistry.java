@@ -0,0 +1,266 @@
+package io.chazza.advancementapi;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.bukkit.NamespacedKey;
+
+/**
+ * A registry of {@link AdvancementAPI}s by id, e.g. filled by an
+ * {@link io.chazza.advancementapi.storage.AdvancementLoader
+ * AdvancementLoader}.
+ * <p>
+ * Besides the advancements the registry keeps the children of each
+ * advancement, so the whole tree can be added to the server parent-first with
+ * {@link #addAll()}. All methods are thread-safe.
+ * 
+ * @author Kaonashi97
+ */
+public class AdvancementRegistry {
+    private final Map<NamespacedKey, AdvancementAPI> advancements = new ConcurrentHashMap<>();
+    private final Map<NamespacedKey, List<NamespacedKey>> children = new ConcurrentHashMap<>();
+
+    /**
+     * Registers the advancement, replacing an advancement with the same id.
+     * 
+     * @param advancement the advancement
+     * @return the replaced advancement or <code>null</code>
+     */
+    public synchronized AdvancementAPI register(AdvancementAPI advancement) {
+        AdvancementAPI previous = advancements.put(advancement.getId(), advancement);
+        if (previous != null) {
+            removeChild(previous);
+        }
+        if (advancement.getParent() != null) {
+            children.computeIfAbsent(parseId(advancement.getParent()), parent -> new ArrayList<>())
+                    .add(advancement.getId());
+        }
+        return previous;
+    }
+
+    /**
+     * Unregisters the advancement.
+     * 
+     * @param id the advancement id
+     * @return the unregistered advancement or <code>null</code>
+     */
+    public synchronized AdvancementAPI unregister(NamespacedKey id) {
+        AdvancementAPI previous = advancements.remove(id);
+        if (previous != null) {
+            removeChild(previous);
+        }
+        return previous;
+    }
+
+    private void removeChild(AdvancementAPI advancement) {
+        if (advancement.getParent() == null) {
+            return;
+        }
+        NamespacedKey parent = parseId(advancement.getParent());
+        List<NamespacedKey> siblings = children.get(parent);
+        if (siblings != null) {
+            siblings.remove(advancement.getId());
+            if (siblings.isEmpty()) {
+                children.remove(parent);
+            }
+        }
+    }
+
+    /**
+     * Returns the advancement.
+     * 
+     * @param id the advancement id
+     * @return the advancement or <code>null</code> if not registered
+     */
+    public AdvancementAPI get(NamespacedKey id) {
+        return advancements.get(id);
+    }
+
+    /**
+     * Returns whether the advancement is registered.
+     * 
+     * @param id the advancement id
+     * @return <code>true</code> if registered
+     */
+    public boolean contains(NamespacedKey id) {
+        return advancements.containsKey(id);
+    }
+
+    /**
+     * Returns the number of registered advancements.
+     * 
+     * @return the number of advancements
+     */
+    public int size() {
+        return advancements.size();
+    }
+
+    /**
+     * Returns all registered advancements.
+     * 
+     * @return an unmodifiable view of the advancements
+     */
+    public Collection<AdvancementAPI> getAdvancements() {
+        return Collections.unmodifiableCollection(advancements.values());
+    }
+
+    /**
+     * Returns the registered advancements whose parent is the given
+     * advancement.
+     * 
+     * @param id the parent advancement id
+     * @return the children
+     */
+    public synchronized List<AdvancementAPI> getChildren(NamespacedKey id) {
+        List<NamespacedKey> ids = children.get(id);
+        if (ids == null) {
+            return Collections.emptyList();
+        }
+        List<AdvancementAPI> result = new ArrayList<>(ids.size());
+        for (NamespacedKey child : ids) {
+            result.add(advancements.get(child));
+        }
+        return result;
+    }
+
+    /**
+     * Returns the given advancement and all of its registered descendants.
+     * Each advancement is returned after its parent.
+     * 
+     * @param id the advancement id
+     * @return the advancements or an empty list if not registered
+     */
+    public synchronized List<AdvancementAPI> getSubtree(NamespacedKey id) {
+        List<AdvancementAPI> result = new ArrayList<>();
+        AdvancementAPI root = advancements.get(id);
+        if (root != null) {
+            result.add(root);
+            for (int i = 0; i < result.size(); i++) {
+                result.addAll(getChildren(result.get(i).getId()));
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Returns all registered advancements, each one after its parent.
+     * Advancements whose parent is not registered (e.g. vanilla advancements)
+     * are treated as roots.
+     * <p>
+     * Advancements whose parents form a cycle cannot be sorted and are not
+     * returned, see {@link #getCyclic()}.
+     * 
+     * @return the advancements
+     */
+    public synchronized List<AdvancementAPI> getSorted() {
+        List<AdvancementAPI> result = new ArrayList<>(advancements.size());
+        for (AdvancementAPI advancement : advancements.values()) {
+            if (advancement.getParent() == null || !advancements.containsKey(parseId(advancement.getParent()))) {
+                result.add(advancement);
+            }
+        }
+        for (int i = 0; i < result.size(); i++) {
+            result.addAll(getChildren(result.get(i).getId()));
+        }
+        return result;
+    }
+
+    /**
+     * Returns the registered advancements which are not returned by
+     * {@link #getSorted()}, because their parents form a cycle (e.g.
+     * <code>a</code> is the parent of <code>b</code> and <code>b</code> the
+     * parent of <code>a</code>). The descendants of such advancements are
+     * returned as well.
+     * 
+     * @return the advancements
+     */
+    public synchronized List<AdvancementAPI> getCyclic() {
+        if (advancements.isEmpty()) {
+            return Collections.emptyList();
+        }
+        Set<NamespacedKey> sorted = new HashSet<>();
+        getSorted().forEach(advancement -> sorted.add(advancement.getId()));
+        List<AdvancementAPI> result = new ArrayList<>();
+        for (AdvancementAPI advancement : advancements.values()) {
+            if (!sorted.contains(advancement.getId())) {
+                result.add(advancement);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Adds all registered advancements to the server, parents before their
+     * children, through one batch of the {@link AdvancementAPI#getTransport()
+     * transport}. Advancements whose parents form a cycle are not added (see
+     * {@link #getCyclic()}).
+     * 
+     * @return the number of added advancements
+     */
+    public int addAll() {
+        Map<NamespacedKey, String> jsons = new LinkedHashMap<>();
+        for (AdvancementAPI advancement : getSorted()) {
+            jsons.put(advancement.getId(), advancement.getJson());
+        }
+        return AdvancementAPI.getTransport().registerAll(jsons);
+    }
+
+    /**
+     * Replaces and removes advancements in this registry and on the server in
+     * one batch.
+     * <p>
+     * Removing an advancement from the server removes its descendants as
+     * well, so all descendants of the changed and removed advancements are
+     * re-added. First all affected advancements are removed from the server,
+     * then the registry is updated and finally all affected advancements which
+     * are still registered are added again, parents before their children.
+     * Each advancement is sent to the server only once, regardless of how many
+     * of its ancestors changed.
+     * 
+     * @param changed the new or changed advancements
+     * @param removed the ids of the removed advancements
+     * @return the number of advancements added to the server
+     */
+    public synchronized int update(Collection<AdvancementAPI> changed, Collection<NamespacedKey> removed) {
+        Set<NamespacedKey> affected = new LinkedHashSet<>();
+        List<NamespacedKey> roots = new ArrayList<>(removed);
+        changed.forEach(advancement -> roots.add(advancement.getId()));
+        for (NamespacedKey id : roots) {
+            getSubtree(id).forEach(advancement -> affected.add(advancement.getId()));
+        }
+        List<NamespacedKey> unregister = new ArrayList<>(affected);
+        Collections.reverse(unregister);
+        AdvancementAPI.getTransport().unregisterAll(unregister);
+
+        removed.forEach(this::unregister);
+        changed.forEach(this::register);
+        for (AdvancementAPI advancement : changed) {
+            getSubtree(advancement.getId()).forEach(child -> affected.add(child.getId()));
+        }
+
+        Map<NamespacedKey, String> jsons = new LinkedHashMap<>();
+        for (AdvancementAPI advancement : getSorted()) {
+            if (affected.contains(advancement.getId())) {
+                jsons.put(advancement.getId(), advancement.getJson());
+            }
+        }
+        return AdvancementAPI.getTransport().registerAll(jsons);
+    }
+
+    @SuppressWarnings("deprecation")
+    private static NamespacedKey parseId(String id) {
+        int index = id.indexOf(':');
+        if (index < 0) {
+            return NamespacedKey.minecraft(id);
+        }
+        return new NamespacedKey(id.substring(0, index), id.substring(index + 1));
+    }
+}
@@ -0,0 +1,241 @@
+package io.chazza.advancementapi;
+
+import java.nio.charset.StandardCharsets;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.bukkit.NamespacedKey;
+
+import io.chazza.advancementapi.AdvancementAPI.AdvancementAPIBuilder;
+import io.chazza.advancementapi.common.JsonTemplate;
+import io.chazza.advancementapi.conditions.primitive.Item;
+import io.chazza.advancementapi.conditions.primitive.Range;
+import io.chazza.advancementapi.conditions.primitive.Range.RangeBuilder;
+
+/**
+ * A compiled advancement with parameters for creating many similar
+ * advancements, e.g. one for each block of a "collect every block" tab.
+ * <p>
+ * The template is declared once by an {@link AdvancementAPIBuilder} which uses
+ * the placeholders of {@link Parameter}s instead of values. Compiling renders
+ * the advancement and splits its Json around the placeholders, so creating an
+ * advancement from the template only splices the values into the pre-rendered
+ * Json instead of building all nested builders again.
+ * 
+ * <pre>
+ * TextParameter block = AdvancementTemplate.text("block");
+ * TextParameter title = AdvancementTemplate.text("title");
+ * RangeParameter count = AdvancementTemplate.range("count");
+ * AdvancementTemplate template = AdvancementTemplate.compile(AdvancementAPI.builder(templateId)
+ *         .parent("blocks:root")
+ *         .display(Display.builder(title.placeholder(), "", block.placeholder()))
+ *         .trigger(Trigger.builder(TriggerType.INVENTORY_CHANGED, "collect")
+ *                 .condition(Condition.builder("items",
+ *                         ItemList.builder().add(Item.builder(block.placeholder()).count(count.placeholder()))))),
+ *         block, title, count);
+ * 
+ * template.create(stoneId, "minecraft:stone", "Stone", Range.atLeast(64));
+ * </pre>
+ * 
+ * The created advancements are kept as Json like the ones of
+ * {@link AdvancementAPI#fromJson(NamespacedKey, String, byte[])}. Text values
+ * are inserted as they are, e.g. an item id starting with <code>#</code> is not
+ * turned into a tag like {@link Item} does.
+ * 
+ * @author Kaonashi97
+ */
+public final class AdvancementTemplate {
+    private static final AtomicInteger rangeCounter = new AtomicInteger();
+
+    private final Parameter<?>[] parameters;
+    private final JsonTemplate json;
+    private final JsonTemplate parent;
+
+    private AdvancementTemplate(Parameter<?>[] parameters, JsonTemplate json, JsonTemplate parent) {
+        this.parameters = parameters;
+        this.json = json;
+        this.parent = parent;
+    }
+
+    /**
+     * Returns a new text parameter, e.g. for an item id or a title.
+     * 
+     * @param name the name, unique within a template
+     * @return the parameter
+     */
+    public static TextParameter text(String name) {
+        return new TextParameter(name);
+    }
+
+    /**
+     * Returns a new range parameter, e.g. for a count.
+     * 
+     * @param name the name, unique within a template
+     * @return the parameter
+     */
+    public static RangeParameter range(String name) {
+        return new RangeParameter(name);
+    }
+
+    /**
+     * Compiles the advancement into a template. The values for
+     * {@link #create(NamespacedKey, Object...)} are passed in the order of the
+     * parameters given here.
+     * 
+     * @param builder the {@link AdvancementAPIBuilder} using the placeholders
+     * @param parameters the parameters
+     * @return the template
+     * @throws IllegalArgumentException if a parameter name is not unique or
+     *         its placeholder does not occur in the rendered advancement
+     */
+    public static AdvancementTemplate compile(AdvancementAPIBuilder builder, Parameter<?>... parameters) {
+        Set<String> names = new HashSet<>();
+        String[] tokens = new String[parameters.length];
+        for (int i = 0; i < parameters.length; i++) {
+            if (!names.add(parameters[i].name)) {
+                throw new IllegalArgumentException("Duplicate parameter " + parameters[i].name);
+            }
+            tokens[i] = parameters[i].token;
+        }
+        AdvancementAPI advancement = builder.build();
+        JsonTemplate json = JsonTemplate.compile(advancement.getJson(), tokens);
+        JsonTemplate parent = advancement.getParent() == null ? null
+                : JsonTemplate.compile(advancement.getParent(), tokens);
+        for (int i = 0; i < parameters.length; i++) {
+            if (!json.contains(i) && (parent == null || !parent.contains(i))) {
+                throw new IllegalArgumentException("Parameter " + parameters[i].name + " is not used");
+            }
+        }
+        return new AdvancementTemplate(parameters.clone(), json, parent);
+    }
+
+    /**
+     * Creates an advancement from the template.
+     * 
+     * @param id the advancement id
+     * @param values the values in the order of the parameters
+     * @return the advancement
+     * @throws IllegalArgumentException if a value is missing or of the wrong
+     *         type
+     */
+    public AdvancementAPI create(NamespacedKey id, Object... values) {
+        if (values.length != parameters.length) {
+            throw new IllegalArgumentException("Expected " + parameters.length + " values but got " + values.length);
+        }
+        String[] fragments = new String[values.length];
+        String[] raw = new String[values.length];
+        for (int i = 0; i < values.length; i++) {
+            fragments[i] = fragment(parameters[i], values[i]);
+            raw[i] = values[i] instanceof String ? (String) values[i] : fragments[i];
+        }
+        return AdvancementAPI.fromJson(id, parent == null ? null : parent.renderRaw(raw),
+                json.renderRaw(fragments).getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static <T> String fragment(Parameter<T> parameter, Object value) {
+        if (!parameter.type.isInstance(value)) {
+            throw new IllegalArgumentException(
+                    "Parameter " + parameter.name + " expects a " + parameter.type.getSimpleName() + " value");
+        }
+        return parameter.toJson(parameter.type.cast(value));
+    }
+
+    /**
+     * A typed parameter of a template. Use the placeholder of the parameter in
+     * the {@link AdvancementAPIBuilder} of the template.
+     * 
+     * @param <T> the type of the values
+     * @author Kaonashi97
+     */
+    public abstract static class Parameter<T> {
+        private final String name;
+        private final Class<T> type;
+        private final String token;
+
+        private Parameter(String name, Class<T> type, String token) {
+            this.name = name;
+            this.type = type;
+            this.token = token;
+        }
+
+        /**
+         * Returns the name of the parameter.
+         * 
+         * @return the name
+         */
+        public String getName() {
+            return name;
+        }
+
+        /**
+         * Returns the type of the values.
+         * 
+         * @return the type
+         */
+        public Class<T> getType() {
+            return type;
+        }
+
+        abstract String toJson(T value);
+    }
+
+    /**
+     * A parameter for text, which is used inside of Json strings.
+     * 
+     * @author Kaonashi97
+     */
+    public static final class TextParameter extends Parameter<String> {
+        private TextParameter(String name) {
+            super(name, String.class, "{{" + name + "}}");
+        }
+
+        /**
+         * Returns the placeholder for the builder, e.g. <code>{{title}}</code>.
+         * 
+         * @return the placeholder
+         */
+        public String placeholder() {
+            return super.token;
+        }
+
+        @Override
+        String toJson(String value) {
+            return JsonTemplate.escape(value);
+        }
+    }
+
+    /**
+     * A parameter for {@link Range}s.
+     * 
+     * @author Kaonashi97
+     */
+    public static final class RangeParameter extends Parameter<Range> {
+        private final double marker;
+
+        private RangeParameter(String name, double marker) {
+            super(name, Range.class, Range.exactly(marker).getJsonFragment());
+            this.marker = marker;
+        }
+
+        private RangeParameter(String name) {
+            // an unlikely decimal, the trailing 7 keeps markers from being prefixes of each other
+            this(name, Double.parseDouble("-1.2345" + rangeCounter.incrementAndGet() + "7E-300"));
+        }
+
+        /**
+         * Returns the placeholder for the builder, a range with a unique marker
+         * value.
+         * 
+         * @return the placeholder
+         */
+        public RangeBuilder placeholder() {
+            return Range.builder().range(marker);
+        }
+
+        @Override
+        String toJson(Range value) {
+            return value.getJsonFragment();
+        }
+    }
+}
@@ -39,17 +39,16 @@ import io.chazza.advancementapi.conditions.StatusEffect.StatusEffectBuilder;
  */
 public class Condition implements KeyedJsonable {
     private String name;
-    private Builder<? extends Jsonable> condition;
+    private Jsonable condition;
     private boolean wrapInJsonObject = false;
 
-    private Condition(String name, Builder<? extends Jsonable> condition) {
+    private Condition(String name, Jsonable condition) {
         this.name = name;
         this.condition = condition;
 
-        Jsonable preBuiltCondition = condition.build();
-        if (preBuiltCondition instanceof KeyedJsonable) {
+        if (condition instanceof KeyedJsonable) {
             if (name == null) {
-                this.name = ((KeyedJsonable) preBuiltCondition).getJsonKey();
+                this.name = ((KeyedJsonable) condition).getJsonKey();
             } else {
                 wrapInJsonObject = true;
             }
@@ -96,6 +95,19 @@ public class Condition implements KeyedJsonable {
         return new ConditionBuilder().name(name).set(string);
     }
 
+    /**
+     * Returns a {@link ConditionBuilder} initialized with this condition. The
+     * builder shares the built condition value with this condition.
+     * 
+     * @return the builder
+     */
+    public ConditionBuilder toBuilder() {
+        Jsonable built = condition;
+        // a name taken from the condition value is taken again on build
+        String builtName = built instanceof KeyedJsonable && !wrapInJsonObject ? null : name;
+        return new ConditionBuilder().name(builtName).set(() -> built);
+    }
+
     @Override
     public String getJsonKey() {
         return name;
@@ -105,10 +117,10 @@ public class Condition implements KeyedJsonable {
     public JsonElement toJson() {
         if (wrapInJsonObject) {
             JsonObject obj = new JsonObject();
-            obj.add(((KeyedJsonable) condition.build()).getJsonKey(), condition.build().toJson());
+            obj.add(((KeyedJsonable) condition).getJsonKey(), condition.toJson());
             return obj;
         }
-        return condition.build().toJson();
+        return condition.toJson();
     }
 
     /**
@@ -162,7 +174,7 @@ public class Condition implements KeyedJsonable {
 
         @Override
         public Condition build() {
-            return new Condition(name, condition);
+            return new Condition(name, condition.build());
         }
     }
 }
\ No newline at end of file
@@ -6,6 +6,7 @@ import com.google.gson.JsonObject;
 
 import io.chazza.advancementapi.common.Builder;
 import io.chazza.advancementapi.common.Jsonable;
+import io.chazza.advancementapi.common.TriStateFlags;
 import net.md_5.bungee.api.chat.TextComponent;
 import net.md_5.bungee.chat.ComponentSerializer;
 
@@ -159,26 +160,26 @@ import net.md_5.bungee.chat.ComponentSerializer;
  */
 public class Display implements Jsonable {
     private static final Gson gson = new Gson();
+    private static final String[] FLAG_KEYS = { "show_toast", "announce_to_chat", "hidden" };
+    private static final int TOAST = 0;
+    private static final int ANNOUNCE = 1;
+    private static final int HIDDEN = 2;
 
     private TextComponent title;
     private TextComponent description;
     private String icon;
     private String background;
     private FrameType frame;
-    private Boolean announce;
-    private Boolean toast;
-    private Boolean hidden;
+    private int flags;
 
     private Display(TextComponent title, TextComponent description, String icon, String background, FrameType frame,
-            Boolean announce, Boolean toast, Boolean hidden) {
+            int flags) {
         this.title = title;
         this.description = description;
         this.icon = icon;
         this.background = background;
         this.frame = frame;
-        this.announce = announce;
-        this.toast = toast;
-        this.hidden = hidden;
+        this.flags = flags;
     }
 
     /**
@@ -193,6 +194,21 @@ public class Display implements Jsonable {
         return new DisplayBuilder().title(title).description(description).icon(icon);
     }
 
+    /**
+     * Returns a {@link DisplayBuilder} initialized with this display. The
+     * builder shares all parts with this display, set parts replace them only
+     * in the builder.
+     * 
+     * @return the builder
+     */
+    public DisplayBuilder toBuilder() {
+        DisplayBuilder builder = new DisplayBuilder().title(title).description(description).icon(icon);
+        builder.background = background;
+        builder.frame = frame;
+        builder.flags = flags;
+        return builder;
+    }
+
     @Override
     public JsonElement toJson() {
         JsonObject displayObj = new JsonObject();
@@ -214,10 +230,8 @@ public class Display implements Jsonable {
         //@formatter:off
         if (background != null) displayObj.addProperty("background", background);
         if (frame != null) displayObj.addProperty("frame", frame.toString());
-        if (toast != null) displayObj.addProperty("show_toast", toast);
-        if (announce != null) displayObj.addProperty("announce_to_chat", announce);
-        if (hidden != null) displayObj.addProperty("hidden", hidden);
         //@formatter:on
+        TriStateFlags.write(displayObj, flags, FLAG_KEYS);
 
         return displayObj;
     }
@@ -237,9 +251,7 @@ public class Display implements Jsonable {
         private String icon;
         private String background;
         private FrameType frame;
-        private Boolean announce;
-        private Boolean toast;
-        private Boolean hidden;
+        private int flags;
 
         private DisplayBuilder() {
             // builder pattern
@@ -353,7 +365,7 @@ public class Display implements Jsonable {
          * @return this builder
          */
         public DisplayBuilder announce(boolean announce) {
-            this.announce = new Boolean(announce);
+            this.flags = TriStateFlags.set(flags, ANNOUNCE, announce);
             return this;
         }
 
@@ -367,7 +379,7 @@ public class Display implements Jsonable {
          * @return this builder
          */
         public DisplayBuilder toast(boolean toast) {
-            this.toast = new Boolean(toast);
+            this.flags = TriStateFlags.set(flags, TOAST, toast);
             return this;
         }
 
@@ -380,13 +392,13 @@ public class Display implements Jsonable {
          * @return this builder
          */
         public DisplayBuilder hidden(boolean hidden) {
-            this.hidden = new Boolean(hidden);
+            this.flags = TriStateFlags.set(flags, HIDDEN, hidden);
             return this;
         }
 
         @Override
         public Display build() {
-            return new Display(title, description, icon, background, frame, announce, toast, hidden);
+            return new Display(title, description, icon, background, frame, flags);
         }
     }
 }
\ No newline at end of file
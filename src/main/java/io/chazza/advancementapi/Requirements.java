@@ -1,13 +1,13 @@
 package io.chazza.advancementapi;
 
-import java.util.Arrays;
-import java.util.LinkedList;
+import java.util.ArrayList;
 import java.util.List;
 
 import com.google.gson.JsonArray;
 import com.google.gson.JsonElement;
 
 import io.chazza.advancementapi.common.Builder;
+import io.chazza.advancementapi.common.CompactList;
 import io.chazza.advancementapi.common.Jsonable;
 
 /**
@@ -147,7 +147,7 @@ import io.chazza.advancementapi.common.Jsonable;
  * @see "https://github.com/skylinerw/guides/blob/master/java/advancements.md#-requirements"
  */
 public class Requirements implements Jsonable {
-    private List<List<String>> requirements = new LinkedList<>();
+    private List<List<String>> requirements;
 
     private Requirements(List<List<String>> requirements) {
         this.requirements = requirements;
@@ -179,7 +179,7 @@ public class Requirements implements Jsonable {
      * @author Kaonashi97
      */
     public static class RequirementsBuilder implements Builder<Requirements> {
-        private List<List<String>> requirements = new LinkedList<>();
+        private List<List<String>> requirements = new ArrayList<>();
 
         private RequirementsBuilder() {
             // build pattern
@@ -194,13 +194,13 @@ public class Requirements implements Jsonable {
          * @return this builder
          */
         public RequirementsBuilder andOneOfThese(String... ors) {
-            requirements.add(Arrays.asList(ors));
+            requirements.add(CompactList.of(ors));
             return this;
         }
 
         @Override
         public Requirements build() {
-            return new Requirements(requirements);
+            return new Requirements(CompactList.copyOf(requirements));
         }
     }
 }
\ No newline at end of file
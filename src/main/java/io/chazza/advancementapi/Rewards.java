@@ -1,7 +1,7 @@
 package io.chazza.advancementapi;
 
+import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.LinkedList;
 import java.util.List;
 
 import com.google.gson.JsonArray;
@@ -9,6 +9,7 @@ import com.google.gson.JsonElement;
 import com.google.gson.JsonObject;
 
 import io.chazza.advancementapi.common.Builder;
+import io.chazza.advancementapi.common.CompactList;
 import io.chazza.advancementapi.common.Jsonable;
 
 /**
@@ -102,8 +103,8 @@ import io.chazza.advancementapi.common.Jsonable;
  * @see "https://github.com/skylinerw/guides/blob/master/java/advancements.md#-rewards"
  */
 public class Rewards implements Jsonable {
-    private List<String> recipes = new LinkedList<>();
-    private List<String> loots = new LinkedList<>();
+    private List<String> recipes;
+    private List<String> loots;
     private Integer experience;
     private String function;
 
@@ -149,8 +150,8 @@ public class Rewards implements Jsonable {
      * @author Kaonashi97
      */
     public static class RewardsBuilder implements Builder<Rewards> {
-        private List<String> recipes = new LinkedList<>();
-        private List<String> loots = new LinkedList<>();
+        private List<String> recipes = new ArrayList<>();
+        private List<String> loots = new ArrayList<>();
         private Integer experience;
         private String function;
 
@@ -217,7 +218,7 @@ public class Rewards implements Jsonable {
 
         @Override
         public Rewards build() {
-            return new Rewards(recipes, loots, experience, function);
+            return new Rewards(CompactList.copyOf(recipes), CompactList.copyOf(loots), experience, function);
         }
     }
 }
\ No newline at end of file
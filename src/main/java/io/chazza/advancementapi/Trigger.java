@@ -1,8 +1,7 @@
 package io.chazza.advancementapi;
 
+import java.util.ArrayList;
 import java.util.Collection;
-import java.util.Collections;
-import java.util.LinkedList;
 import java.util.List;
 
 import com.google.gson.JsonElement;
@@ -10,6 +9,7 @@ import com.google.gson.JsonObject;
 
 import io.chazza.advancementapi.Condition.ConditionBuilder;
 import io.chazza.advancementapi.common.Builder;
+import io.chazza.advancementapi.common.CompactList;
 import io.chazza.advancementapi.common.KeyedJsonable;
 
 /**
@@ -22,9 +22,9 @@ import io.chazza.advancementapi.common.KeyedJsonable;
 public class Trigger implements KeyedJsonable {
     private TriggerType type;
     private String name;
-    private List<ConditionBuilder> conditions = new LinkedList<>();
+    private List<Condition> conditions;
 
-    private Trigger(TriggerType type, String name, List<ConditionBuilder> conditions) {
+    private Trigger(TriggerType type, String name, List<Condition> conditions) {
         this.type = type;
         this.name = name;
         this.conditions = conditions;
@@ -41,6 +41,18 @@ public class Trigger implements KeyedJsonable {
         return new TriggerBuilder().type(type).name(name);
     }
 
+    /**
+     * Returns a {@link TriggerBuilder} initialized with this trigger. The
+     * builder shares the conditions with this trigger until they are changed.
+     * 
+     * @return the builder
+     */
+    public TriggerBuilder toBuilder() {
+        TriggerBuilder builder = new TriggerBuilder().type(type).name(name);
+        builder.sharedConditions = conditions;
+        return builder;
+    }
+
     @Override
     public String getJsonKey() {
         return name;
@@ -52,10 +64,7 @@ public class Trigger implements KeyedJsonable {
         triggerObj.addProperty("trigger", type.toString());
         if (!conditions.isEmpty()) {
             JsonObject conditionsObj = new JsonObject();
-            conditions.forEach(conditionBuilder -> {
-                Condition condition = conditionBuilder.build();
-                conditionsObj.add(condition.getJsonKey(), condition.toJson());
-            });
+            conditions.forEach(condition -> conditionsObj.add(condition.getJsonKey(), condition.toJson()));
             triggerObj.add("conditions", conditionsObj);
         }
         return triggerObj;
@@ -70,7 +79,8 @@ public class Trigger implements KeyedJsonable {
     public static class TriggerBuilder implements Builder<Trigger> {
         private TriggerType type;
         private String name;
-        private List<ConditionBuilder> conditions = new LinkedList<>();
+        private List<Condition> sharedConditions;
+        private List<ConditionBuilder> conditions = new ArrayList<>();
 
         private TriggerBuilder() {
             // builder pattern
@@ -105,7 +115,7 @@ public class Trigger implements KeyedJsonable {
          * @return this builder
          */
         public TriggerBuilder condition(ConditionBuilder condition) {
-            this.conditions.add(condition);
+            mutableConditions().add(condition);
             return this;
         }
 
@@ -116,7 +126,7 @@ public class Trigger implements KeyedJsonable {
          * @return this builder
          */
         public TriggerBuilder conditions(Collection<? extends ConditionBuilder> conditions) {
-            this.conditions.addAll(conditions);
+            mutableConditions().addAll(conditions);
             return this;
         }
 
@@ -126,13 +136,28 @@ public class Trigger implements KeyedJsonable {
          * @return this builder
          */
         public TriggerBuilder clearConditions() {
-            this.conditions.clear();
+            this.sharedConditions = null;
+            this.conditions = new ArrayList<>();
             return this;
         }
 
+        private List<ConditionBuilder> mutableConditions() {
+            // the conditions of a source trigger are shared until the first change
+            if (sharedConditions != null) {
+                sharedConditions.forEach(condition -> conditions.add(condition.toBuilder()));
+                sharedConditions = null;
+            }
+            return conditions;
+        }
+
         @Override
         public Trigger build() {
-            return new Trigger(type, name, Collections.unmodifiableList(this.conditions));
+            if (sharedConditions != null) {
+                return new Trigger(type, name, sharedConditions);
+            }
+            List<Condition> built = new ArrayList<>(conditions.size());
+            conditions.forEach(condition -> built.add(condition.build()));
+            return new Trigger(type, name, CompactList.copyOf(built));
         }
     }
 }
\ No newline at end of file
@@ -0,0 +1,91 @@
+package io.chazza.advancementapi.common;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.RandomAccess;
+import java.util.function.Consumer;
+
+/**
+ * An immutable list backed by an exactly sized array.
+ * <p>
+ * The built model keeps its lists for its whole lifetime, so they are copied
+ * into a single array of the final size instead of keeping the growable list
+ * of the builder. All empty lists share one instance.
+ *
+ * <pre>
+ * List&lt;String&gt; recipes = CompactList.copyOf(builder.recipes);
+ * </pre>
+ *
+ * @author Kaonashi97
+ * @param <E> the type of the elements
+ */
+public final class CompactList<E> extends AbstractList<E> implements RandomAccess {
+    private final Object[] elements;
+
+    private CompactList(Object[] elements) {
+        this.elements = elements;
+    }
+
+    /**
+     * Returns an immutable copy of the collection. The copy is not affected by
+     * later changes of the collection.
+     *
+     * @param collection the collection
+     * @param <E> the type of the elements
+     * @return the immutable list
+     */
+    @SuppressWarnings("unchecked")
+    public static <E> List<E> copyOf(Collection<? extends E> collection) {
+        if (collection instanceof CompactList) {
+            return (List<E>) collection;
+        }
+        if (collection.isEmpty()) {
+            return Collections.emptyList();
+        }
+        return new CompactList<>(collection.toArray());
+    }
+
+    /**
+     * Returns an immutable list of the elements.
+     *
+     * @param elements the elements
+     * @param <E> the type of the elements
+     * @return the immutable list
+     */
+    @SafeVarargs
+    public static <E> List<E> of(E... elements) {
+        if (elements.length == 0) {
+            return Collections.emptyList();
+        }
+        return new CompactList<>(Arrays.copyOf(elements, elements.length, Object[].class));
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public E get(int index) {
+        return (E) elements[index];
+    }
+
+    @Override
+    public int size() {
+        return elements.length;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public void forEach(Consumer<? super E> action) {
+        Objects.requireNonNull(action);
+        for (Object element : elements) {
+            action.accept((E) element);
+        }
+    }
+
+    @Override
+    public Object[] toArray() {
+        return elements.clone();
+    }
+}
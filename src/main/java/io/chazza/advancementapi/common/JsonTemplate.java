@@ -0,0 +1,167 @@
+package io.chazza.advancementapi.common;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A pre-split Json string with slots for string values.
+ * <p>
+ * The template is created from a rendered Json containing placeholders (e.g.
+ * <code>{{title}}</code>) inside of Json strings. The Json is split into
+ * segments around these placeholders once, so rendering the template only
+ * concatenates the segments with the escaped values. Placeholders outside of
+ * Json strings are filled with already rendered Json by
+ * {@link #renderRaw(String...)}.
+ * 
+ * <pre>
+ * JsonTemplate template = JsonTemplate.compile("{\"text\":\"{{title}}\"}", "{{title}}");
+ * template.render("Hello \"World\""); // {"text":"Hello \"World\""}
+ * </pre>
+ * 
+ * @author Kaonashi97
+ */
+public final class JsonTemplate {
+    private static final char[] HEX = "0123456789abcdef".toCharArray();
+
+    private final String[] segments;
+    private final int[] slots;
+    private final int slotCount;
+    private final int length;
+
+    private JsonTemplate(String[] segments, int[] slots, int slotCount) {
+        this.segments = segments;
+        this.slots = slots;
+        this.slotCount = slotCount;
+        int length = 0;
+        for (String segment : segments) {
+            length += segment.length();
+        }
+        this.length = length;
+    }
+
+    /**
+     * Compiles the Json into a template. Each placeholder can occur multiple
+     * times, the values for {@link #render(String...)} are passed in the order
+     * of the placeholders given here.
+     * 
+     * @param json the rendered Json
+     * @param placeholders the placeholders
+     * @return the template
+     */
+    public static JsonTemplate compile(String json, String... placeholders) {
+        List<String> segments = new ArrayList<>();
+        List<Integer> slots = new ArrayList<>();
+        int start = 0;
+        while (true) {
+            int next = -1;
+            int slot = -1;
+            for (int i = 0; i < placeholders.length; i++) {
+                int index = json.indexOf(placeholders[i], start);
+                if (index >= 0 && (next < 0 || index < next)) {
+                    next = index;
+                    slot = i;
+                }
+            }
+            if (next < 0) {
+                break;
+            }
+            segments.add(json.substring(start, next));
+            slots.add(slot);
+            start = next + placeholders[slot].length();
+        }
+        segments.add(json.substring(start));
+
+        int[] slotArray = new int[slots.size()];
+        for (int i = 0; i < slotArray.length; i++) {
+            slotArray[i] = slots.get(i);
+        }
+        return new JsonTemplate(segments.toArray(new String[segments.size()]), slotArray, placeholders.length);
+    }
+
+    /**
+     * Returns whether the placeholder occurs in the Json.
+     * 
+     * @param placeholder the index of the placeholder
+     * @return <code>true</code> if the placeholder has a slot
+     */
+    public boolean contains(int placeholder) {
+        for (int slot : slots) {
+            if (slot == placeholder) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Renders the template. The values are escaped for usage within Json
+     * strings.
+     * 
+     * @param values the values in the order of the placeholders
+     * @return the Json
+     */
+    public String render(String... values) {
+        String[] escaped = new String[values.length];
+        for (int i = 0; i < values.length; i++) {
+            escaped[i] = escape(values[i]);
+        }
+        return renderRaw(escaped);
+    }
+
+    /**
+     * Renders the template with values which are inserted as they are, e.g.
+     * escaped strings or Json fragments like <code>{"min":1}</code>.
+     * 
+     * @param fragments the values in the order of the placeholders
+     * @return the Json
+     */
+    public String renderRaw(String... fragments) {
+        if (fragments.length != slotCount) {
+            throw new IllegalArgumentException("Expected " + slotCount + " values but got " + fragments.length);
+        }
+        int capacity = length;
+        for (int slot : slots) {
+            capacity += fragments[slot].length();
+        }
+        StringBuilder builder = new StringBuilder(capacity);
+        for (int i = 0; i < slots.length; i++) {
+            builder.append(segments[i]).append(fragments[slots[i]]);
+        }
+        return builder.append(segments[slots.length]).toString();
+    }
+
+    /**
+     * Escapes the value for usage within a Json string (without the
+     * surrounding quotes).
+     * 
+     * @param value the value
+     * @return the escaped value
+     */
+    public static String escape(String value) {
+        StringBuilder builder = null;
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            String replacement = null;
+            if (c == '"') {
+                replacement = "\\\"";
+            } else if (c == '\\') {
+                replacement = "\\\\";
+            } else if (c == '\n') {
+                replacement = "\\n";
+            } else if (c == '\t') {
+                replacement = "\\t";
+            } else if (c < 0x20 || c == 0x2028 || c == 0x2029) {
+                replacement = "\\u" + HEX[c >> 12 & 0xF] + HEX[c >> 8 & 0xF] + HEX[c >> 4 & 0xF] + HEX[c & 0xF];
+            }
+            if (replacement != null) {
+                if (builder == null) {
+                    builder = new StringBuilder(value.length() + 16).append(value, 0, i);
+                }
+                builder.append(replacement);
+            } else if (builder != null) {
+                builder.append(c);
+            }
+        }
+        return builder == null ? value : builder.toString();
+    }
+}
@@ -0,0 +1,134 @@
+package io.chazza.advancementapi.common;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * A hierarchical timing wheel for scheduling elements a number of ticks ahead.
+ * <p>
+ * Each level of the wheel consists of a fixed number of buckets. A bucket of
+ * the first level covers one tick, a bucket of the second level covers as many
+ * ticks as the first level has buckets, and so on. Scheduling an element puts
+ * it into the bucket of its deadline on the lowest level that can hold it.
+ * Whenever the wheel reaches a bucket of a higher level, the elements of that
+ * bucket are moved down, until they are due in the first level. So scheduling
+ * and expiring an element costs constant time regardless of the delay, and a
+ * single repeating task can handle any number of scheduled elements instead of
+ * one task per element. Further levels are added on demand.
+ * <p>
+ * This class is not thread-safe.
+ * 
+ * @author Kaonashi97
+ * @param <T> the type of the scheduled elements
+ */
+public class TimingWheel<T> {
+    private final List<List<Entry<T>>[]> levels = new ArrayList<>();
+    private final int bits;
+    private final int mask;
+    private long tick;
+    private int size;
+
+    /**
+     * Creates a new timing wheel. The number of buckets per level is rounded
+     * up to the next power of two.
+     * 
+     * @param buckets the number of buckets per level
+     */
+    public TimingWheel(int buckets) {
+        int capacity = Integer.highestOneBit(Math.max(1, buckets - 1)) << 1;
+        this.bits = Integer.numberOfTrailingZeros(capacity);
+        this.mask = capacity - 1;
+    }
+
+    /**
+     * Schedules the element for the given number of ticks from now. A delay
+     * less than one is handled as one.
+     * 
+     * @param delay the delay in ticks
+     * @param element the element
+     */
+    public void schedule(long delay, T element) {
+        insert(new Entry<>(tick + Math.max(1L, delay), element));
+        size++;
+    }
+
+    /**
+     * Advances the wheel by one tick and passes all elements which are due to
+     * the consumer.
+     * 
+     * @param consumer the consumer for the due elements
+     */
+    public void advance(Consumer<? super T> consumer) {
+        tick++;
+        // cascade from the highest level whose bucket boundary was reached
+        int level = 1;
+        while (level < levels.size() && (tick & ((1L << (bits * level)) - 1)) == 0) {
+            level++;
+        }
+        for (level--; level > 0; level--) {
+            List<Entry<T>> bucket = levels.get(level)[(int) ((tick >>> (bits * level)) & mask)];
+            if (bucket != null && !bucket.isEmpty()) {
+                List<Entry<T>> entries = new ArrayList<>(bucket);
+                bucket.clear();
+                entries.forEach(this::insert);
+            }
+        }
+        if (levels.isEmpty()) {
+            return;
+        }
+        List<Entry<T>> due = levels.get(0)[(int) (tick & mask)];
+        if (due != null && !due.isEmpty()) {
+            List<Entry<T>> entries = new ArrayList<>(due);
+            due.clear();
+            size -= entries.size();
+            entries.forEach(entry -> consumer.accept(entry.element));
+        }
+    }
+
+    /**
+     * Returns the current tick of this wheel.
+     * 
+     * @return the tick
+     */
+    public long getTick() {
+        return tick;
+    }
+
+    /**
+     * Returns the number of scheduled elements.
+     * 
+     * @return the number of elements
+     */
+    public int size() {
+        return size;
+    }
+
+    @SuppressWarnings({ "unchecked", "rawtypes" })
+    private void insert(Entry<T> entry) {
+        long delta = entry.deadline - tick;
+        int level = 0;
+        while (level < 63 / bits && delta >= 1L << (bits * (level + 1))) {
+            level++;
+        }
+        while (levels.size() <= level) {
+            levels.add(new List[mask + 1]);
+        }
+        List<Entry<T>>[] buckets = levels.get(level);
+        int index = (int) ((entry.deadline >>> (bits * level)) & mask);
+        if (buckets[index] == null) {
+            buckets[index] = new ArrayList<>();
+        }
+        buckets[index].add(entry);
+    }
+
+    private static class Entry<T> {
+        private final long deadline;
+        private final T element;
+
+        private Entry(long deadline, T element) {
+            this.deadline = deadline;
+            this.element = element;
+        }
+    }
+}
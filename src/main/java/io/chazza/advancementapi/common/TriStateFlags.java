@@ -0,0 +1,98 @@
+package io.chazza.advancementapi.common;
+
+import com.google.gson.JsonObject;
+
+/**
+ * Optional booleans packed into a single int.
+ * <p>
+ * Each flag uses two bits: whether it is set and its value. So up to 16 flags
+ * which are either unset, <code>true</code> or <code>false</code> fit into one
+ * int instead of one boxed {@link Boolean} field each. The flags are indexed
+ * by their position in a static key table of the owning class, which is also
+ * used to serialize them.
+ * 
+ * <pre>
+ * private static final String[] KEYS = { "ambient", "visible" };
+ * private static final int AMBIENT = 0;
+ * 
+ * flags = TriStateFlags.set(flags, AMBIENT, true);
+ * TriStateFlags.write(jsonObject, flags, KEYS);
+ * </pre>
+ * 
+ * @author Kaonashi97
+ */
+public final class TriStateFlags {
+    /**
+     * The maximal number of flags in one int.
+     */
+    public static final int MAX_FLAGS = 16;
+
+    private TriStateFlags() {
+        // utility class
+    }
+
+    /**
+     * Sets the flag.
+     * 
+     * @param flags the packed flags
+     * @param index the index of the flag
+     * @param value the value
+     * @return the new packed flags
+     */
+    public static int set(int flags, int index, boolean value) {
+        int shift = index << 1;
+        int cleared = flags & ~(3 << shift);
+        return cleared | (value ? 3 : 1) << shift;
+    }
+
+    /**
+     * Unsets the flag.
+     * 
+     * @param flags the packed flags
+     * @param index the index of the flag
+     * @return the new packed flags
+     */
+    public static int unset(int flags, int index) {
+        return flags & ~(3 << (index << 1));
+    }
+
+    /**
+     * Returns whether the flag is set.
+     * 
+     * @param flags the packed flags
+     * @param index the index of the flag
+     * @return <code>true</code> if set
+     */
+    public static boolean isSet(int flags, int index) {
+        return (flags & 1 << (index << 1)) != 0;
+    }
+
+    /**
+     * Returns the value of the flag.
+     * 
+     * @param flags the packed flags
+     * @param index the index of the flag
+     * @return the value or <code>null</code> if not set
+     */
+    public static Boolean get(int flags, int index) {
+        if (!isSet(flags, index)) {
+            return null;
+        }
+        return Boolean.valueOf((flags & 2 << (index << 1)) != 0);
+    }
+
+    /**
+     * Adds all set flags to the Json object, in the order of the key table.
+     * 
+     * @param jsonObject the Json object
+     * @param flags the packed flags
+     * @param keys the key table
+     */
+    public static void write(JsonObject jsonObject, int flags, String[] keys) {
+        for (int i = 0; i < keys.length && flags >>> (i << 1) != 0; i++) {
+            if (isSet(flags, i)) {
+                jsonObject.addProperty(keys[i], get(flags, i));
+            }
+        }
+    }
+}
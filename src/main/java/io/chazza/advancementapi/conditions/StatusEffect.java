@@ -2,10 +2,10 @@ package io.chazza.advancementapi.conditions;
 
 import com.google.gson.JsonElement;
 import com.google.gson.JsonObject;
-import com.google.gson.JsonPrimitive;
 
 import io.chazza.advancementapi.common.Builder;
 import io.chazza.advancementapi.common.KeyedJsonable;
+import io.chazza.advancementapi.common.TriStateFlags;
 import io.chazza.advancementapi.conditions.enums.Effect;
 import io.chazza.advancementapi.conditions.primitive.Range.RangeBuilder;
 
@@ -54,19 +54,20 @@ import io.chazza.advancementapi.conditions.primitive.Range.RangeBuilder;
  * @see "https://github.com/skylinerw/guides/blob/master/java/advancements/data_structures.md#-shared-status-effects-object"
  */
 public class StatusEffect implements KeyedJsonable {
+    private static final String[] FLAG_KEYS = { "ambient", "visible" };
+    private static final int AMBIENT = 0;
+    private static final int VISIBLE = 1;
+
     private Effect effectType;
     private RangeBuilder amplifier;
     private RangeBuilder duration;
-    private Boolean ambient;
-    private Boolean visible;
+    private int flags;
 
-    private StatusEffect(Effect effectType, RangeBuilder amplifier, RangeBuilder duration, Boolean ambient,
-            Boolean visible) {
+    private StatusEffect(Effect effectType, RangeBuilder amplifier, RangeBuilder duration, int flags) {
         this.effectType = effectType;
         this.amplifier = amplifier;
         this.duration = duration;
-        this.ambient = ambient;
-        this.visible = visible;
+        this.flags = flags;
     }
 
     /**
@@ -85,9 +86,8 @@ public class StatusEffect implements KeyedJsonable {
         //@formatter:off
         if (amplifier != null) statusEffectObj.add("amplifier", amplifier.build().toJson());
         if (duration != null) statusEffectObj.add("duration", duration.build().toJson());
-        if (ambient != null) statusEffectObj.add("ambient", new JsonPrimitive(ambient));
-        if (visible != null) statusEffectObj.add("visible", new JsonPrimitive(visible));
         //@formatter:on
+        TriStateFlags.write(statusEffectObj, flags, FLAG_KEYS);
         return statusEffectObj;
     }
 
@@ -106,8 +106,7 @@ public class StatusEffect implements KeyedJsonable {
         private Effect effectType;
         private RangeBuilder amplifier;
         private RangeBuilder duration;
-        private Boolean ambient;
-        private Boolean visible;
+        private int flags;
 
         private StatusEffectBuilder(Effect effectType) {
             this.effectType = effectType;
@@ -145,7 +144,7 @@ public class StatusEffect implements KeyedJsonable {
          * @return this builder
          */
         public StatusEffectBuilder ambient(boolean ambient) {
-            this.ambient = new Boolean(ambient);
+            this.flags = TriStateFlags.set(flags, AMBIENT, ambient);
             return this;
         }
 
@@ -158,13 +157,13 @@ public class StatusEffect implements KeyedJsonable {
          * @return this builder
          */
         public StatusEffectBuilder visible(boolean visible) {
-            this.visible = new Boolean(visible);
+            this.flags = TriStateFlags.set(flags, VISIBLE, visible);
             return this;
         }
 
         @Override
         public StatusEffect build() {
-            return new StatusEffect(effectType, amplifier, duration, ambient, visible);
+            return new StatusEffect(effectType, amplifier, duration, flags);
         }
     }
 }
\ No newline at end of file
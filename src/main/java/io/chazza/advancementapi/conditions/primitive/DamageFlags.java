@@ -5,6 +5,7 @@ import com.google.gson.JsonObject;
 
 import io.chazza.advancementapi.common.Builder;
 import io.chazza.advancementapi.common.Jsonable;
+import io.chazza.advancementapi.common.TriStateFlags;
 import io.chazza.advancementapi.conditions.primitive.Entity.EntityBuilder;
 
 /**
@@ -122,26 +123,30 @@ import io.chazza.advancementapi.conditions.primitive.Entity.EntityBuilder;
  * @see "https://github.com/skylinerw/guides/blob/master/java/advancements/data_structures.md#-shared-damage-flags-object"
  */
 public class DamageFlags implements Jsonable {
-    private Boolean bypasses_armor;
-    private Boolean bypasses_invulnerability;
-    private Boolean bypasses_magic;
-    private Boolean is_explosion;
-    private Boolean is_fire;
-    private Boolean is_magic;
-    private Boolean is_projectile;
+    //@formatter:off
+    private static final String[] FLAG_KEYS = {
+            "bypasses_armor",
+            "bypasses_invulnerability",
+            "bypasses_magic",
+            "is_explosion",
+            "is_fire",
+            "is_magic",
+            "is_projectile" };
+    //@formatter:on
+    private static final int BYPASSES_ARMOR = 0;
+    private static final int BYPASSES_INVULNERABILITY = 1;
+    private static final int BYPASSES_MAGIC = 2;
+    private static final int IS_EXPLOSION = 3;
+    private static final int IS_FIRE = 4;
+    private static final int IS_MAGIC = 5;
+    private static final int IS_PROJECTILE = 6;
+
+    private int flags;
     private EntityBuilder source_entity;
     private EntityBuilder direct_entity;
 
-    private DamageFlags(Boolean bypasses_armor, Boolean bypasses_invulnerability, Boolean bypasses_magic,
-            Boolean is_explosion, Boolean is_fire, Boolean is_magic, Boolean is_projectile, EntityBuilder source_entity,
-            EntityBuilder direct_entity) {
-        this.bypasses_armor = bypasses_armor;
-        this.bypasses_invulnerability = bypasses_invulnerability;
-        this.bypasses_magic = bypasses_magic;
-        this.is_explosion = is_explosion;
-        this.is_fire = is_fire;
-        this.is_magic = is_magic;
-        this.is_projectile = is_projectile;
+    private DamageFlags(int flags, EntityBuilder source_entity, EntityBuilder direct_entity) {
+        this.flags = flags;
         this.source_entity = source_entity;
         this.direct_entity = direct_entity;
     }
@@ -159,13 +164,7 @@ public class DamageFlags implements Jsonable {
     public JsonElement toJson() {
         JsonObject damageFlagsObj = new JsonObject();
         //@formatter:off
-        if (bypasses_armor != null) damageFlagsObj.addProperty("bypasses_armor", bypasses_armor);
-        if (bypasses_invulnerability != null) damageFlagsObj.addProperty("bypasses_invulnerability", bypasses_invulnerability);
-        if (bypasses_magic != null) damageFlagsObj.addProperty("bypasses_magic", bypasses_magic);
-        if (is_explosion != null) damageFlagsObj.addProperty("is_explosion", is_explosion);
-        if (is_fire != null) damageFlagsObj.addProperty("is_fire", is_fire);
-        if (is_magic != null) damageFlagsObj.addProperty("is_magic", is_magic);
-        if (is_projectile != null) damageFlagsObj.addProperty("is_projectile", is_projectile);
+        TriStateFlags.write(damageFlagsObj, flags, FLAG_KEYS);
         if (source_entity != null) damageFlagsObj.add("source_entity", source_entity.build().toJson());
         if (direct_entity != null) damageFlagsObj.add("direct_entity", direct_entity.build().toJson());
         //@formatter:on
@@ -179,13 +178,7 @@ public class DamageFlags implements Jsonable {
      * @author Kaonashi97
      */
     public static class DamageFlagsBuilder implements Builder<DamageFlags> {
-        private Boolean bypasses_armor;
-        private Boolean bypasses_invulnerability;
-        private Boolean bypasses_magic;
-        private Boolean is_explosion;
-        private Boolean is_fire;
-        private Boolean is_magic;
-        private Boolean is_projectile;
+        private int flags;
         private EntityBuilder source_entity;
         private EntityBuilder direct_entity;
 
@@ -203,7 +196,7 @@ public class DamageFlags implements Jsonable {
          * @return this builder
          */
         public DamageFlagsBuilder bypassesArmor(boolean bypasses) {
-            this.bypasses_armor = new Boolean(bypasses);
+            this.flags = TriStateFlags.set(flags, BYPASSES_ARMOR, bypasses);
             return this;
         }
 
@@ -215,7 +208,7 @@ public class DamageFlags implements Jsonable {
          * @return this builder
          */
         public DamageFlagsBuilder bypassesInvulnerability(boolean bypasses) {
-            this.bypasses_invulnerability = new Boolean(bypasses);
+            this.flags = TriStateFlags.set(flags, BYPASSES_INVULNERABILITY, bypasses);
             return this;
         }
 
@@ -227,7 +220,7 @@ public class DamageFlags implements Jsonable {
          * @return this builder
          */
         public DamageFlagsBuilder bypassesMagic(boolean bypasses) {
-            this.bypasses_magic = new Boolean(bypasses);
+            this.flags = TriStateFlags.set(flags, BYPASSES_MAGIC, bypasses);
             return this;
         }
 
@@ -240,7 +233,7 @@ public class DamageFlags implements Jsonable {
          * @return this builder
          */
         public DamageFlagsBuilder isExplosion(boolean isExplosion) {
-            this.is_explosion = new Boolean(isExplosion);
+            this.flags = TriStateFlags.set(flags, IS_EXPLOSION, isExplosion);
             return this;
         }
 
@@ -253,7 +246,7 @@ public class DamageFlags implements Jsonable {
          * @return this builder
          */
         public DamageFlagsBuilder isFire(boolean isFire) {
-            this.is_fire = new Boolean(isFire);
+            this.flags = TriStateFlags.set(flags, IS_FIRE, isFire);
             return this;
         }
 
@@ -267,7 +260,7 @@ public class DamageFlags implements Jsonable {
          * @return this builder
          */
         public DamageFlagsBuilder isMagic(boolean isMagic) {
-            this.is_magic = new Boolean(isMagic);
+            this.flags = TriStateFlags.set(flags, IS_MAGIC, isMagic);
             return this;
         }
 
@@ -280,7 +273,7 @@ public class DamageFlags implements Jsonable {
          * @return this builder
          */
         public DamageFlagsBuilder isProjectile(boolean isProjectile) {
-            this.is_projectile = new Boolean(isProjectile);
+            this.flags = TriStateFlags.set(flags, IS_PROJECTILE, isProjectile);
             return this;
         }
 
@@ -315,8 +308,7 @@ public class DamageFlags implements Jsonable {
 
         @Override
         public DamageFlags build() {
-            return new DamageFlags(bypasses_armor, bypasses_invulnerability, bypasses_magic, is_explosion, is_fire,
-                    is_magic, is_projectile, source_entity, direct_entity);
+            return new DamageFlags(flags, source_entity, direct_entity);
         }
     }
 }
\ No newline at end of file
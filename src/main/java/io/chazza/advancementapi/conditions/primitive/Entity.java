@@ -93,6 +93,23 @@ public class Entity implements Jsonable {
         return new EntityBuilder();
     }
 
+    /**
+     * Returns a {@link EntityBuilder} initialized with this entity. The builder
+     * shares all parts with this entity, set parts replace them only in the
+     * builder.
+     * 
+     * @return the builder
+     */
+    public EntityBuilder toBuilder() {
+        EntityBuilder builder = new EntityBuilder();
+        builder.type = type;
+        builder.distance = distance;
+        builder.location = location;
+        builder.effects = effects;
+        builder.nbt = nbt;
+        return builder;
+    }
+
     @Override
     public JsonElement toJson() {
         JsonObject entityObj = new JsonObject();
@@ -1,7 +1,7 @@
 package io.chazza.advancementapi.conditions.primitive;
 
+import java.util.ArrayList;
 import java.util.Collection;
-import java.util.LinkedList;
 import java.util.List;
 
 import org.bukkit.Material;
@@ -12,6 +12,7 @@ import com.google.gson.JsonElement;
 import com.google.gson.JsonObject;
 
 import io.chazza.advancementapi.common.Builder;
+import io.chazza.advancementapi.common.CompactList;
 import io.chazza.advancementapi.common.Jsonable;
 import io.chazza.advancementapi.conditions.enums.Potion;
 import io.chazza.advancementapi.conditions.primitive.Enchantment.EnchantmentBuilder;
@@ -145,7 +146,7 @@ public class Item implements Jsonable {
     private RangeBuilder durability;
     private RangeBuilder count;
     private Potion potion;
-    private List<EnchantmentBuilder> enchantments = new LinkedList<>();
+    private List<EnchantmentBuilder> enchantments;
     private boolean isEmptyEnchantments;
     private String nbt;
 
@@ -190,6 +191,25 @@ public class Item implements Jsonable {
         return new ItemBuilder("minecraft:" + material.toString().toLowerCase());
     }
 
+    /**
+     * Returns a {@link ItemBuilder} initialized with this item. The builder
+     * shares all parts with this item, set parts replace them only in the
+     * builder. The enchantments are shared until they are changed.
+     * 
+     * @return the builder
+     */
+    public ItemBuilder toBuilder() {
+        ItemBuilder builder = new ItemBuilder(item);
+        builder.data = data;
+        builder.durability = durability;
+        builder.count = count;
+        builder.potion = potion;
+        builder.enchantments = enchantments;
+        builder.isEmptyEnchantments = isEmptyEnchantments;
+        builder.nbt = nbt;
+        return builder;
+    }
+
     @Override
     public JsonElement toJson() {
         JsonObject itemObj = new JsonObject();
@@ -243,7 +263,7 @@ public class Item implements Jsonable {
         private RangeBuilder durability;
         private RangeBuilder count;
         private Potion potion;
-        private List<EnchantmentBuilder> enchantments = new LinkedList<>();
+        private List<EnchantmentBuilder> enchantments = new ArrayList<>();
         private boolean isEmptyEnchantments;
         private String nbt;
 
@@ -315,7 +335,7 @@ public class Item implements Jsonable {
          * @return this builder
          */
         public ItemBuilder enchantment(EnchantmentBuilder enchantment) {
-            this.enchantments.add(enchantment);
+            mutableEnchantments().add(enchantment);
             this.isEmptyEnchantments = false;
             return this;
         }
@@ -346,7 +366,7 @@ public class Item implements Jsonable {
          * @return this builder
          */
         public ItemBuilder enchantments(Collection<? extends EnchantmentBuilder> enchantments) {
-            this.enchantments.addAll(enchantments);
+            mutableEnchantments().addAll(enchantments);
             this.isEmptyEnchantments = false;
             return this;
         }
@@ -359,7 +379,7 @@ public class Item implements Jsonable {
          * @return this bilder
          */
         public ItemBuilder clearEnchantments() {
-            this.enchantments.clear();
+            this.enchantments = new ArrayList<>();
             return this;
         }
 
@@ -376,9 +396,18 @@ public class Item implements Jsonable {
             return this;
         }
 
+        private List<EnchantmentBuilder> mutableEnchantments() {
+            // the list of a source item is shared until the first change
+            if (!(enchantments instanceof ArrayList)) {
+                enchantments = new ArrayList<>(enchantments);
+            }
+            return enchantments;
+        }
+
         @Override
         public Item build() {
-            return new Item(item, data, durability, count, potion, enchantments, isEmptyEnchantments, nbt);
+            return new Item(item, data, durability, count, potion, CompactList.copyOf(enchantments),
+                    isEmptyEnchantments, nbt);
         }
     }
 }
\ No newline at end of file
@@ -1,13 +1,13 @@
 package io.chazza.advancementapi.conditions.primitive;
 
-import java.util.Collections;
-import java.util.LinkedList;
+import java.util.ArrayList;
 import java.util.List;
 
 import com.google.gson.JsonArray;
 import com.google.gson.JsonElement;
 
 import io.chazza.advancementapi.common.Builder;
+import io.chazza.advancementapi.common.CompactList;
 import io.chazza.advancementapi.common.Jsonable;
 import io.chazza.advancementapi.conditions.primitive.Item.ItemBuilder;
 
@@ -17,7 +17,7 @@ import io.chazza.advancementapi.conditions.primitive.Item.ItemBuilder;
  * @author Kaonashi97
  */
 public class ItemList implements Jsonable {
-    private List<ItemBuilder> items = new LinkedList<>();
+    private List<ItemBuilder> items;
 
     private ItemList(List<ItemBuilder> items) {
         this.items = items;
@@ -46,7 +46,7 @@ public class ItemList implements Jsonable {
      * @author Kaonashi97
      */
     public static class ItemListBuilder implements Builder<ItemList> {
-        private List<ItemBuilder> items = new LinkedList<>();
+        private List<ItemBuilder> items = new ArrayList<>();
 
         private ItemListBuilder() {
             // builder pattern
@@ -75,7 +75,7 @@ public class ItemList implements Jsonable {
 
         @Override
         public ItemList build() {
-            return new ItemList(Collections.unmodifiableList(items));
+            return new ItemList(CompactList.copyOf(items));
         }
     }
 }
\ No newline at end of file
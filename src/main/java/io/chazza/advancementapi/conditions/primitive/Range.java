@@ -44,6 +44,12 @@ import io.chazza.advancementapi.common.Jsonable;
  * Range.builder().max(2).build();
  * </pre>
  * 
+ * Ranges of decimal numbers (e.g. distances) are built by passing doubles.
+ * 
+ * <pre>
+ * Range.builder().min(0.5).max(2.5).build();
+ * </pre>
+ * 
  * <b>Implementation default</b>
  * <p>
  * Setting no values will end in a range with the value of 1.
@@ -52,36 +58,246 @@ import io.chazza.advancementapi.common.Jsonable;
  * Range.builder().build();
  * </pre>
  * 
+ * <b>Flyweights</b>
+ * <p>
+ * A range is immutable and keeps its values as primitives together with its
+ * pre-rendered Json. Integer ranges with common values (exact values from -128
+ * to 1024, minimum and maximum from 0 to 64) are shared instances, so building
+ * them does not allocate a new range.
+ * 
  * @author Kaonashi97
  * @see "https://github.com/skylinerw/guides/blob/master/java/advancements/data_structures.md#-shared-range"
  */
-public class Range implements Jsonable {
-    private Integer min;
-    private Integer max;
-    private Integer range;
+public final class Range implements Jsonable {
+    private static final int HAS_MIN = 1;
+    private static final int HAS_MAX = 2;
+    private static final int EXACT = 4;
+    private static final int DECIMAL = 8;
+
+    private static final int EXACT_CACHE_LOW = -128;
+    private static final int EXACT_CACHE_HIGH = 1024;
+    private static final int BOUND_CACHE_HIGH = 64;
+    private static final Range[] exactCache = new Range[EXACT_CACHE_HIGH - EXACT_CACHE_LOW + 1];
+    private static final Range[] boundCache = new Range[(BOUND_CACHE_HIGH + 2) * (BOUND_CACHE_HIGH + 2)];
+
+    private final double min;
+    private final double max;
+    private final int flags;
+    private final String json;
+    private final JsonPrimitive jsonMin;
+    private final JsonPrimitive jsonMax;
 
-    private Range(Integer min, Integer max) {
+    private Range(double min, double max, int flags) {
         this.min = min;
         this.max = max;
+        this.flags = flags;
+        this.jsonMin = (flags & (HAS_MIN | EXACT)) != 0 ? primitive(min) : null;
+        this.jsonMax = (flags & HAS_MAX) != 0 ? primitive(max) : null;
+        this.json = render();
+    }
+
+    private JsonPrimitive primitive(double value) {
+        return (flags & DECIMAL) != 0 ? new JsonPrimitive(value) : new JsonPrimitive((int) value);
+    }
+
+    private String render() {
+        if ((flags & EXACT) != 0) {
+            return jsonMin.toString();
+        }
+        StringBuilder builder = new StringBuilder(24).append('{');
+        if (jsonMin != null) {
+            builder.append("\"min\":").append(jsonMin.toString());
+        }
+        if (jsonMax != null) {
+            builder.append(jsonMin != null ? "," : "").append("\"max\":").append(jsonMax.toString());
+        }
+        return builder.append('}').toString();
+    }
+
+    /**
+     * Returns a range of the exact value.
+     * 
+     * @param value the value
+     * @return the range
+     */
+    public static Range exactly(int value) {
+        if (value < EXACT_CACHE_LOW || value > EXACT_CACHE_HIGH) {
+            return new Range(value, value, EXACT);
+        }
+        int index = value - EXACT_CACHE_LOW;
+        Range range = exactCache[index];
+        if (range == null) {
+            // racing threads create equal instances, any of them may be kept
+            range = new Range(value, value, EXACT);
+            exactCache[index] = range;
+        }
+        return range;
+    }
+
+    /**
+     * Returns a range of the exact decimal value.
+     * 
+     * @param value the value
+     * @return the range
+     */
+    public static Range exactly(double value) {
+        return new Range(value, value, EXACT | DECIMAL);
+    }
+
+    /**
+     * Returns a range between the two values (both inclusive).
+     * 
+     * @param min the minimal value
+     * @param max the maximal value
+     * @return the range
+     */
+    public static Range between(int min, int max) {
+        return bounded(min, max, HAS_MIN | HAS_MAX);
+    }
+
+    /**
+     * Returns a range between the two decimal values (both inclusive).
+     * 
+     * @param min the minimal value
+     * @param max the maximal value
+     * @return the range
+     */
+    public static Range between(double min, double max) {
+        return new Range(min, max, HAS_MIN | HAS_MAX | DECIMAL);
+    }
+
+    /**
+     * Returns a range with a minimal value only.
+     * 
+     * @param min the minimal value
+     * @return the range
+     */
+    public static Range atLeast(int min) {
+        return bounded(min, 0, HAS_MIN);
+    }
+
+    /**
+     * Returns a range with a minimal decimal value only.
+     * 
+     * @param min the minimal value
+     * @return the range
+     */
+    public static Range atLeast(double min) {
+        return new Range(min, 0, HAS_MIN | DECIMAL);
+    }
+
+    /**
+     * Returns a range with a maximal value only.
+     * 
+     * @param max the maximal value
+     * @return the range
+     */
+    public static Range atMost(int max) {
+        return bounded(0, max, HAS_MAX);
+    }
+
+    /**
+     * Returns a range with a maximal decimal value only.
+     * 
+     * @param max the maximal value
+     * @return the range
+     */
+    public static Range atMost(double max) {
+        return new Range(0, max, HAS_MAX | DECIMAL);
+    }
+
+    private static Range bounded(int min, int max, int flags) {
+        if (min < 0 || min > BOUND_CACHE_HIGH || max < 0 || max > BOUND_CACHE_HIGH) {
+            return new Range(min, max, flags);
+        }
+        // a missing bound uses the extra slot BOUND_CACHE_HIGH + 1
+        int minSlot = (flags & HAS_MIN) != 0 ? min : BOUND_CACHE_HIGH + 1;
+        int maxSlot = (flags & HAS_MAX) != 0 ? max : BOUND_CACHE_HIGH + 1;
+        int index = minSlot * (BOUND_CACHE_HIGH + 2) + maxSlot;
+        Range range = boundCache[index];
+        if (range == null) {
+            range = new Range(min, max, flags);
+            boundCache[index] = range;
+        }
+        return range;
+    }
+
+    /**
+     * Returns whether this range checks for an exact value.
+     * 
+     * @return <code>true</code> if exact
+     */
+    public boolean isExact() {
+        return (flags & EXACT) != 0;
+    }
+
+    /**
+     * Returns whether this range has decimal values.
+     * 
+     * @return <code>true</code> if decimal
+     */
+    public boolean isDecimal() {
+        return (flags & DECIMAL) != 0;
+    }
+
+    /**
+     * Returns whether the value is within this range.
+     * 
+     * @param value the value
+     * @return <code>true</code> if within the range
+     */
+    public boolean test(double value) {
+        if ((flags & EXACT) != 0) {
+            return value == min;
+        }
+        return ((flags & HAS_MIN) == 0 || value >= min) && ((flags & HAS_MAX) == 0 || value <= max);
     }
 
-    private Range(Integer value) {
-        this.range = value;
+    /**
+     * Returns the pre-rendered Json of this range, e.g. <code>3</code> or
+     * <code>{"min":1,"max":3}</code>.
+     * 
+     * @return the Json
+     */
+    public String getJsonFragment() {
+        return json;
     }
 
     @Override
     public JsonElement toJson() {
-        if (this.min == null && this.max == null) {
-            return new JsonPrimitive(range);
+        if ((flags & EXACT) != 0) {
+            return jsonMin;
         }
         JsonObject rangeObj = new JsonObject();
         //@formatter:off
-        if (min != null) rangeObj.addProperty("min", min);
-        if (max != null) rangeObj.addProperty("max", max);
+        if (jsonMin != null) rangeObj.add("min", jsonMin);
+        if (jsonMax != null) rangeObj.add("max", jsonMax);
         //@formatter:on
         return rangeObj;
     }
 
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (!(obj instanceof Range)) {
+            return false;
+        }
+        Range other = (Range) obj;
+        return flags == other.flags && json.equals(other.json);
+    }
+
+    @Override
+    public int hashCode() {
+        return json.hashCode() * 31 + flags;
+    }
+
+    @Override
+    public String toString() {
+        return "Range" + json;
+    }
+
     /**
      * Returns a {@link RangeBuilder} for building {@link Range}s.
      * 
@@ -98,10 +314,13 @@ public class Range implements Jsonable {
      * @author Kaonashi97
      */
     public static class RangeBuilder implements Builder<Range> {
-        private Integer min;
-        private Integer max;
-        private Integer range = new Integer(1);
-        private boolean isRange = true;
+        private double min;
+        private double max;
+        private double range = 1;
+        private boolean decimalMin;
+        private boolean decimalMax;
+        private boolean decimalRange;
+        private int flags = EXACT;
 
         private RangeBuilder() {
             // builder pattern
@@ -116,8 +335,24 @@ public class Range implements Jsonable {
          * @return this builder
          */
         public RangeBuilder min(int min) {
-            this.min = new Integer(min);
-            this.isRange = false;
+            this.min = min;
+            this.decimalMin = false;
+            this.flags = (flags | HAS_MIN) & ~EXACT;
+            return this;
+        }
+
+        /**
+         * To check between two decimal values.
+         * <p>
+         * Sets the minimal value. If set a setted range will be ignored.
+         * 
+         * @param min the minimal value
+         * @return this builder
+         */
+        public RangeBuilder min(double min) {
+            this.min = min;
+            this.decimalMin = true;
+            this.flags = (flags | HAS_MIN) & ~EXACT;
             return this;
         }
 
@@ -130,8 +365,24 @@ public class Range implements Jsonable {
          * @return this builder
          */
         public RangeBuilder max(int max) {
-            this.max = new Integer(max);
-            this.isRange = false;
+            this.max = max;
+            this.decimalMax = false;
+            this.flags = (flags | HAS_MAX) & ~EXACT;
+            return this;
+        }
+
+        /**
+         * To check between two decimal values.
+         * <p>
+         * Sets the maximal value. If set a setted range will be ignored.
+         * 
+         * @param max the maximal value
+         * @return this builder
+         */
+        public RangeBuilder max(double max) {
+            this.max = max;
+            this.decimalMax = true;
+            this.flags = (flags | HAS_MAX) & ~EXACT;
             return this;
         }
 
@@ -142,17 +393,34 @@ public class Range implements Jsonable {
          * @return this builder
          */
         public RangeBuilder range(int value) {
-            this.range = new Integer(value);
-            this.isRange = true;
+            this.range = value;
+            this.decimalRange = false;
+            this.flags |= EXACT;
+            return this;
+        }
+
+        /**
+         * To check for an exact decimal value.
+         * 
+         * @param value the exacte value
+         * @return this builder
+         */
+        public RangeBuilder range(double value) {
+            this.range = value;
+            this.decimalRange = true;
+            this.flags |= EXACT;
             return this;
         }
 
         @Override
         public Range build() {
-            if (isRange) {
-                return new Range(range);
+            if ((flags & EXACT) != 0) {
+                return decimalRange ? exactly(range) : exactly((int) range);
+            }
+            if ((flags & HAS_MIN) != 0 && decimalMin || (flags & HAS_MAX) != 0 && decimalMax) {
+                return new Range(min, max, flags | DECIMAL);
             }
-            return new Range(min, max);
+            return bounded((int) min, (int) max, flags);
         }
     }
 }
\ No newline at end of file
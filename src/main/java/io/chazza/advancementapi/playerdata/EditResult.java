@@ -0,0 +1,103 @@
+package io.chazza.advancementapi.playerdata;
+
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The result of rewriting player progress files.
+ * 
+ * @author Kaonashi97
+ */
+public class EditResult {
+    private final int scanned;
+    private final int modified;
+    private final long removed;
+    private final long bytesReclaimed;
+    private final List<Path> failed;
+    private final long nanos;
+
+    EditResult(int scanned, int modified, long removed, long bytesReclaimed, List<Path> failed, long nanos) {
+        this.scanned = scanned;
+        this.modified = modified;
+        this.removed = removed;
+        this.bytesReclaimed = bytesReclaimed;
+        this.failed = Collections.unmodifiableList(failed);
+        this.nanos = nanos;
+    }
+
+    /**
+     * Returns the number of scanned files.
+     * 
+     * @return the number of files
+     */
+    public int getScanned() {
+        return scanned;
+    }
+
+    /**
+     * Returns the number of rewritten files. Files without a change are not
+     * rewritten.
+     * 
+     * @return the number of files
+     */
+    public int getModified() {
+        return modified;
+    }
+
+    /**
+     * Returns the number of removed entries and criteria.
+     * 
+     * @return the number of removed entries
+     */
+    public long getRemoved() {
+        return removed;
+    }
+
+    /**
+     * Returns the number of bytes the rewritten files shrank by. Negative if
+     * they grew, e.g. after awarding criteria.
+     * 
+     * @return the number of bytes
+     */
+    public long getBytesReclaimed() {
+        return bytesReclaimed;
+    }
+
+    /**
+     * Returns the files which could not be read, parsed or written. These
+     * files are left as they were.
+     * 
+     * @return the failed files
+     */
+    public List<Path> getFailed() {
+        return failed;
+    }
+
+    /**
+     * Returns whether all files were processed.
+     * 
+     * @return <code>true</code> if no file failed
+     */
+    public boolean isSuccess() {
+        return failed.isEmpty();
+    }
+
+    /**
+     * Returns the duration of the rewrite.
+     * 
+     * @param unit the {@link TimeUnit} of the result
+     * @return the duration
+     */
+    public long getDuration(TimeUnit unit) {
+        return unit.convert(nanos, TimeUnit.NANOSECONDS);
+    }
+
+    @Override
+    public String toString() {
+        return "EditResult[scanned=" + scanned + ", modified=" + modified + ", removed=" + removed
+                + ", bytesReclaimed=" + bytesReclaimed + ", failed=" + failed.size() + ", millis="
+                + getDuration(TimeUnit.MILLISECONDS) + "]";
+    }
+}
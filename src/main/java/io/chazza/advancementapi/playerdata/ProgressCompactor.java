@@ -0,0 +1,189 @@
+package io.chazza.advancementapi.playerdata;
+
+import java.io.IOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
+
+import org.bukkit.Bukkit;
+import org.bukkit.World;
+
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
+
+import io.chazza.advancementapi.AdvancementAPI;
+import io.chazza.advancementapi.AdvancementRegistry;
+import io.chazza.advancementapi.playerdata.ProgressFiles.Rewriter;
+import io.chazza.advancementapi.storage.AtomicFileWriter;
+import io.chazza.advancementapi.transport.AdvancementTransport;
+
+/**
+ * Removes the progress of deleted advancements from the vanilla player
+ * progress files (<code>world/advancements/&lt;uuid&gt;.json</code>).
+ * <p>
+ * The server never removes the progress of an advancement which does not exist
+ * anymore, so the files of all players keep growing with every deleted
+ * advancement. An entry is stale if its advancement is neither registered in
+ * the {@link AdvancementRegistry}, nor saved in the advancements folder
+ * (<code>world/data/advancements</code>), nor known to the server through the
+ * {@link AdvancementAPI#getTransport() transport} (e.g. added at runtime only).
+ * Only the namespaces of this plugin are compacted: the namespaces of the
+ * registered and saved advancements and the ones added with
+ * {@link #namespace(String)}. The progress of vanilla advancements and
+ * advancements of other plugins is kept, the <code>minecraft</code> namespace
+ * is never compacted.
+ * <p>
+ * The files are streamed and rewritten in parallel like with the
+ * {@link ProgressEditor}, each compacted file is written atomically and files
+ * without stale entries are not written.
+ * 
+ * <pre>
+ * EditResult result = new ProgressCompactor(registry).compact(world);
+ * plugin.getLogger().info("Reclaimed " + result.getBytesReclaimed() + " bytes");
+ * </pre>
+ * 
+ * @author Kaonashi97
+ */
+public class ProgressCompactor {
+    private static final String MINECRAFT = "minecraft";
+
+    private final AdvancementRegistry registry;
+    private final Set<String> namespaces = new HashSet<>();
+    private final AtomicFileWriter writer;
+
+    /**
+     * Creates a new compactor.
+     * 
+     * @param registry the {@link AdvancementRegistry} holding the existing
+     * advancements
+     */
+    public ProgressCompactor(AdvancementRegistry registry) {
+        this(registry, AdvancementAPI.getFileWriter());
+    }
+
+    /**
+     * Creates a new compactor.
+     * 
+     * @param registry the {@link AdvancementRegistry} holding the existing
+     * advancements
+     * @param writer the {@link AtomicFileWriter} to write the files with
+     */
+    public ProgressCompactor(AdvancementRegistry registry, AtomicFileWriter writer) {
+        this.registry = registry;
+        this.writer = writer;
+    }
+
+    /**
+     * Adds a namespace to compact, e.g. a namespace whose advancements were
+     * all deleted.
+     * 
+     * @param namespace the namespace
+     * @return this compactor
+     */
+    public ProgressCompactor namespace(String namespace) {
+        namespaces.add(namespace);
+        return this;
+    }
+
+    /**
+     * Compacts the progress files of all offline players of the world. The
+     * server overwrites the files of online players when saving, so they are
+     * skipped.
+     * 
+     * @param world the {@link World}
+     * @return the {@link EditResult}
+     */
+    public EditResult compact(World world) {
+        Set<UUID> online = new HashSet<>();
+        Bukkit.getOnlinePlayers().forEach(player -> online.add(player.getUniqueId()));
+        Path worldFolder = world.getWorldFolder().toPath();
+        return compact(worldFolder.resolve("data").resolve("advancements"), worldFolder.resolve("advancements"),
+                player -> !online.contains(player));
+    }
+
+    /**
+     * Compacts the progress files of the players in the folder.
+     * 
+     * @param advancementsFolder the folder of the saved advancements (e.g.
+     * <code>world/data/advancements</code>)
+     * @param progressFolder the folder of the progress files (e.g.
+     * <code>world/advancements</code>)
+     * @param players the filter for the players to compact
+     * @return the {@link EditResult}
+     */
+    public EditResult compact(Path advancementsFolder, Path progressFolder, Predicate<UUID> players) {
+        Set<String> ids = new HashSet<>();
+        Set<String> owned = new HashSet<>(namespaces);
+        registry.getAdvancements().forEach(advancement -> {
+            ids.add(advancement.getId().toString());
+            owned.add(advancement.getId().getNamespace());
+        });
+        try {
+            collect(advancementsFolder, ids, owned);
+            owned.remove(MINECRAFT);
+            AdvancementTransport transport = AdvancementAPI.getTransport();
+            for (String namespace : owned) {
+                transport.getAdvancements(namespace).forEach(id -> ids.add(id.toString()));
+            }
+            return ProgressFiles.rewriteAll(ProgressFiles.list(progressFolder, players),
+                    () -> new CompactRewriter(ids, owned), writer);
+        } catch (IOException ex) {
+            ex.printStackTrace();
+            return new EditResult(0, 0, 0, 0, Collections.singletonList(progressFolder), 0);
+        }
+    }
+
+    private static void collect(Path folder, Set<String> ids, Set<String> owned) throws IOException {
+        if (!Files.isDirectory(folder)) {
+            return;
+        }
+        try (DirectoryStream<Path> namespaceFolders = Files.newDirectoryStream(folder, Files::isDirectory)) {
+            for (Path namespaceFolder : namespaceFolders) {
+                String namespace = namespaceFolder.getFileName().toString();
+                owned.add(namespace);
+                try (Stream<Path> files = Files.walk(namespaceFolder)) {
+                    files.filter(file -> file.getFileName().toString().endsWith(".json")).forEach(file -> {
+                        String separator = file.getFileSystem().getSeparator();
+                        String key = namespaceFolder.relativize(file).toString().replace(separator, "/");
+                        ids.add(namespace + ":" + key.substring(0, key.length() - ".json".length()));
+                    });
+                }
+            }
+        }
+    }
+
+    private static class CompactRewriter implements Rewriter {
+        private final Set<String> ids;
+        private final Set<String> owned;
+        private long removed;
+
+        private CompactRewriter(Set<String> ids, Set<String> owned) {
+            this.ids = ids;
+            this.owned = owned;
+        }
+
+        @Override
+        public boolean entry(String name, JsonReader reader, JsonWriter writer) throws IOException {
+            int index = name.indexOf(':');
+            if (index > 0 && owned.contains(name.substring(0, index)) && !ids.contains(name)) {
+                reader.skipValue();
+                removed++;
+                return true;
+            }
+            writer.name(name);
+            ProgressFiles.copy(reader, writer);
+            return false;
+        }
+
+        @Override
+        public long getRemoved() {
+            return removed;
+        }
+    }
+}
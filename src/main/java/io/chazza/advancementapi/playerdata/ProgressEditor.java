@@ -0,0 +1,203 @@
+package io.chazza.advancementapi.playerdata;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Predicate;
+
+import org.bukkit.Bukkit;
+import org.bukkit.World;
+
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
+
+import io.chazza.advancementapi.AdvancementAPI;
+import io.chazza.advancementapi.playerdata.ProgressFiles.Definition;
+import io.chazza.advancementapi.playerdata.ProgressFiles.Rewriter;
+import io.chazza.advancementapi.storage.AtomicFileWriter;
+
+/**
+ * Edits the progress of advancements in the vanilla player progress files
+ * (<code>world/advancements/&lt;uuid&gt;.json</code>) without the players
+ * being online, e.g. to reset a season or to fix the progress of a player.
+ * <p>
+ * Each file is streamed through a {@link JsonReader} into a
+ * {@link JsonWriter}: entries of other advancements are copied as they are,
+ * only the entries of the edited advancements are rewritten. The files are
+ * processed in parallel, and each modified file is written atomically with the
+ * {@link AdvancementAPI#getFileWriter() file writer}, so a crash never leaves a
+ * half-written file behind. Files which are not modified are not written.
+ * <p>
+ * The server keeps the progress of online players in memory and overwrites
+ * their files when saving, so online players are skipped by
+ * {@link #editAll(World, Operation)}.
+ * 
+ * <pre>
+ * EditResult result = new ProgressEditor(seasonAdvancements).editAll(world, Operation.REVOKE);
+ * </pre>
+ * 
+ * @author Kaonashi97
+ */
+public class ProgressEditor {
+    private final Map<String, Definition> definitions;
+    private final AtomicFileWriter writer;
+
+    /**
+     * Creates a new editor for the advancements.
+     * 
+     * @param advancements the advancements to edit
+     */
+    public ProgressEditor(Collection<AdvancementAPI> advancements) {
+        this(advancements, AdvancementAPI.getFileWriter());
+    }
+
+    /**
+     * Creates a new editor for the advancements.
+     * 
+     * @param advancements the advancements to edit
+     * @param writer the {@link AtomicFileWriter} to write the files with
+     */
+    public ProgressEditor(Collection<AdvancementAPI> advancements, AtomicFileWriter writer) {
+        this.definitions = ProgressFiles.define(advancements);
+        this.writer = writer;
+    }
+
+    /**
+     * Edits the progress files of all offline players of the world.
+     * 
+     * @param world the {@link World}
+     * @param operation the {@link Operation}
+     * @return the {@link EditResult}
+     */
+    public EditResult editAll(World world, Operation operation) {
+        Set<UUID> online = new HashSet<>();
+        Bukkit.getOnlinePlayers().forEach(player -> online.add(player.getUniqueId()));
+        return editAll(world.getWorldFolder().toPath().resolve("advancements"), operation,
+                player -> !online.contains(player));
+    }
+
+    /**
+     * Edits the progress files of the players in the folder.
+     * 
+     * @param folder the folder of the progress files (e.g.
+     * <code>world/advancements</code>)
+     * @param operation the {@link Operation}
+     * @param players the filter for the players to edit
+     * @return the {@link EditResult}
+     */
+    public EditResult editAll(Path folder, Operation operation, Predicate<UUID> players) {
+        try {
+            return ProgressFiles.rewriteAll(ProgressFiles.list(folder, players),
+                    () -> new EditRewriter(operation, ProgressFiles.now()), writer);
+        } catch (IOException ex) {
+            ex.printStackTrace();
+            return new EditResult(0, 0, 0, 0, Collections.singletonList(folder), 0);
+        }
+    }
+
+    /**
+     * Edits a single progress file.
+     * 
+     * @param file the progress file
+     * @param operation the {@link Operation}
+     * @return the {@link EditResult}
+     */
+    public EditResult edit(Path file, Operation operation) {
+        return ProgressFiles.rewriteAll(Collections.singletonList(file),
+                () -> new EditRewriter(operation, ProgressFiles.now()), writer);
+    }
+
+    /**
+     * An edit of the progress of the advancements.
+     * 
+     * @author Kaonashi97
+     */
+    public enum Operation {
+        /**
+         * Awards all criteria which are not awarded yet. Already awarded
+         * criteria keep their date.
+         */
+        AWARD,
+        /**
+         * Revokes all criteria.
+         */
+        REVOKE,
+        /**
+         * Revokes the criteria which the advancement does not have anymore,
+         * e.g. after renaming a criterion, and updates <code>done</code>.
+         */
+        PURGE;
+    }
+
+    private class EditRewriter implements Rewriter {
+        private final Operation operation;
+        private final String now;
+        private final Set<String> seen = new HashSet<>();
+        private long removed;
+
+        private EditRewriter(Operation operation, String now) {
+            this.operation = operation;
+            this.now = now;
+        }
+
+        @Override
+        public boolean entry(String name, JsonReader reader, JsonWriter writer) throws IOException {
+            Definition definition = definitions.get(name);
+            if (definition == null) {
+                writer.name(name);
+                ProgressFiles.copy(reader, writer);
+                return false;
+            }
+            seen.add(name);
+            Map<String, String> criteria = new LinkedHashMap<>();
+            boolean wasDone = ProgressFiles.readProgress(reader, criteria);
+            int before = criteria.size();
+            switch (operation) {
+            case AWARD:
+                definition.criteria.forEach(criterion -> criteria.putIfAbsent(criterion, now));
+                break;
+            case REVOKE:
+                criteria.clear();
+                break;
+            case PURGE:
+                criteria.keySet().retainAll(definition.criteria);
+                break;
+            default:
+                throw new IllegalStateException("Unknown operation " + operation);
+            }
+            removed += Math.max(0, before - criteria.size());
+            boolean done = definition.isDone(criteria);
+            ProgressFiles.writeProgress(writer, name, criteria, done);
+            // e.g. PURGE after the requirements changed
+            return before != criteria.size() || !criteria.isEmpty() && done != wasDone;
+        }
+
+        @Override
+        public boolean finish(JsonWriter writer) throws IOException {
+            if (operation != Operation.AWARD) {
+                return false;
+            }
+            boolean appended = false;
+            for (Map.Entry<String, Definition> entry : definitions.entrySet()) {
+                if (!seen.contains(entry.getKey()) && !entry.getValue().criteria.isEmpty()) {
+                    Map<String, String> criteria = new LinkedHashMap<>();
+                    entry.getValue().criteria.forEach(criterion -> criteria.put(criterion, now));
+                    ProgressFiles.writeProgress(writer, entry.getKey(), criteria, entry.getValue().isDone(criteria));
+                    appended = true;
+                }
+            }
+            return appended;
+        }
+
+        @Override
+        public long getRemoved() {
+            return removed;
+        }
+    }
+}
@@ -0,0 +1,374 @@
+package io.chazza.advancementapi.playerdata;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParseException;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+
+import io.chazza.advancementapi.AdvancementAPI;
+import io.chazza.advancementapi.storage.AtomicFileWriter;
+
+/**
+ * Helpers for the vanilla player progress files
+ * (<code>world/advancements/&lt;uuid&gt;.json</code>).
+ * <p>
+ * A progress file is a Json object with one entry per advancement id, holding
+ * the awarded <code>criteria</code> with their dates and whether the
+ * advancement is <code>done</code>. Other top-level entries (e.g. the
+ * <code>DataVersion</code>) are copied as they are.
+ * 
+ * @author Kaonashi97
+ */
+final class ProgressFiles {
+    /**
+     * The date format of awarded criteria.
+     */
+    static final DateTimeFormatter DATE_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss Z");
+
+    private static final String EXTENSION = ".json";
+
+    private ProgressFiles() {
+        // utility class
+    }
+
+    /**
+     * Returns the progress files of all players in the folder.
+     * 
+     * @param folder the folder (e.g. <code>world/advancements</code>)
+     * @param players the filter for the players
+     * @return the files
+     * @throws IOException if the folder can't be read
+     */
+    static List<Path> list(Path folder, Predicate<UUID> players) throws IOException {
+        List<Path> files = new ArrayList<>();
+        if (!Files.isDirectory(folder)) {
+            return files;
+        }
+        try (DirectoryStream<Path> entries = Files.newDirectoryStream(folder, "*" + EXTENSION)) {
+            for (Path entry : entries) {
+                UUID player = getPlayer(entry);
+                if (player != null && players.test(player)) {
+                    files.add(entry);
+                }
+            }
+        }
+        return files;
+    }
+
+    /**
+     * Returns the player of the progress file.
+     * 
+     * @param file the file
+     * @return the player's {@link UUID} or <code>null</code> if the file is
+     * not a progress file
+     */
+    static UUID getPlayer(Path file) {
+        String name = file.getFileName().toString();
+        try {
+            return UUID.fromString(name.substring(0, name.length() - EXTENSION.length()));
+        } catch (IllegalArgumentException | StringIndexOutOfBoundsException ex) {
+            return null;
+        }
+    }
+
+    /**
+     * Returns the current date in the format of awarded criteria.
+     * 
+     * @return the date
+     */
+    static String now() {
+        return DATE_FORMAT.format(ZonedDateTime.now());
+    }
+
+    /**
+     * Rewrites all files in parallel on the common
+     * {@link java.util.concurrent.ForkJoinPool ForkJoinPool}. Modified files
+     * are written atomically, unmodified files are not touched.
+     * 
+     * @param files the files
+     * @param rewriters the supplier of a new {@link Rewriter} for each file
+     * @param writer the {@link AtomicFileWriter}
+     * @return the {@link EditResult}
+     */
+    static EditResult rewriteAll(Collection<Path> files, Supplier<? extends Rewriter> rewriters,
+            AtomicFileWriter writer) {
+        long start = System.nanoTime();
+        LongAdder modified = new LongAdder();
+        LongAdder entries = new LongAdder();
+        LongAdder bytesBefore = new LongAdder();
+        LongAdder bytesAfter = new LongAdder();
+        Queue<Path> failed = new ConcurrentLinkedQueue<>();
+        files.parallelStream().forEach(file -> {
+            try {
+                byte[] content = Files.readAllBytes(file);
+                Rewriter rewriter = rewriters.get();
+                byte[] rewritten = rewrite(content, rewriter);
+                if (rewritten != null) {
+                    writer.write(file, ByteBuffer.wrap(rewritten), false);
+                    modified.increment();
+                    entries.add(rewriter.getRemoved());
+                    bytesBefore.add(content.length);
+                    bytesAfter.add(rewritten.length);
+                }
+            } catch (IOException | JsonParseException | IllegalStateException ex) {
+                ex.printStackTrace();
+                failed.add(file);
+            }
+        });
+        return new EditResult(files.size(), modified.intValue(), entries.sum(), bytesBefore.sum() - bytesAfter.sum(),
+                new ArrayList<>(failed), System.nanoTime() - start);
+    }
+
+    /**
+     * Rewrites the content of a progress file.
+     * 
+     * @param content the content
+     * @param rewriter the {@link Rewriter}
+     * @return the new content or <code>null</code> if nothing changed
+     * @throws IOException if the content is not a progress file
+     */
+    static byte[] rewrite(byte[] content, Rewriter rewriter) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(content.length + 256);
+        boolean changed = false;
+        try (JsonReader reader = new JsonReader(
+                new InputStreamReader(new ByteArrayInputStream(content), StandardCharsets.UTF_8));
+                JsonWriter writer = new JsonWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8))) {
+            writer.setIndent("  ");
+            reader.beginObject();
+            writer.beginObject();
+            while (reader.hasNext()) {
+                changed |= rewriter.entry(reader.nextName(), reader, writer);
+            }
+            changed |= rewriter.finish(writer);
+            reader.endObject();
+            writer.endObject();
+        }
+        return changed ? out.toByteArray() : null;
+    }
+
+    /**
+     * Reads the progress of one advancement.
+     * 
+     * @param reader the {@link JsonReader} positioned at the value
+     * @param criteria the map to put the awarded criteria and their dates in
+     * @return the stored value of <code>done</code>, <code>false</code> if
+     *         missing
+     * @throws IOException if the value is not the progress of an advancement
+     */
+    static boolean readProgress(JsonReader reader, Map<String, String> criteria) throws IOException {
+        boolean done = false;
+        reader.beginObject();
+        while (reader.hasNext()) {
+            String name = reader.nextName();
+            if (name.equals("criteria") && reader.peek() == JsonToken.BEGIN_OBJECT) {
+                reader.beginObject();
+                while (reader.hasNext()) {
+                    criteria.put(reader.nextName(), reader.nextString());
+                }
+                reader.endObject();
+            } else if (name.equals("done") && reader.peek() == JsonToken.BOOLEAN) {
+                done = reader.nextBoolean();
+            } else {
+                reader.skipValue();
+            }
+        }
+        reader.endObject();
+        return done;
+    }
+
+    /**
+     * Writes the progress of one advancement. Nothing is written if no
+     * criterion is awarded.
+     * 
+     * @param writer the {@link JsonWriter}
+     * @param id the advancement id
+     * @param criteria the awarded criteria and their dates
+     * @param done whether the advancement is done
+     * @throws IOException if writing fails
+     */
+    static void writeProgress(JsonWriter writer, String id, Map<String, String> criteria, boolean done)
+            throws IOException {
+        if (criteria.isEmpty()) {
+            return;
+        }
+        writer.name(id).beginObject();
+        writer.name("criteria").beginObject();
+        for (Map.Entry<String, String> criterion : criteria.entrySet()) {
+            writer.name(criterion.getKey()).value(criterion.getValue());
+        }
+        writer.endObject();
+        writer.name("done").value(done);
+        writer.endObject();
+    }
+
+    /**
+     * Copies the next value.
+     * 
+     * @param reader the {@link JsonReader}
+     * @param writer the {@link JsonWriter}
+     * @throws IOException if reading or writing fails
+     */
+    static void copy(JsonReader reader, JsonWriter writer) throws IOException {
+        switch (reader.peek()) {
+        case BEGIN_OBJECT:
+            reader.beginObject();
+            writer.beginObject();
+            while (reader.hasNext()) {
+                writer.name(reader.nextName());
+                copy(reader, writer);
+            }
+            reader.endObject();
+            writer.endObject();
+            break;
+        case BEGIN_ARRAY:
+            reader.beginArray();
+            writer.beginArray();
+            while (reader.hasNext()) {
+                copy(reader, writer);
+            }
+            reader.endArray();
+            writer.endArray();
+            break;
+        case STRING:
+            writer.value(reader.nextString());
+            break;
+        case NUMBER:
+            writer.jsonValue(reader.nextString());
+            break;
+        case BOOLEAN:
+            writer.value(reader.nextBoolean());
+            break;
+        case NULL:
+            reader.nextNull();
+            writer.nullValue();
+            break;
+        default:
+            throw new IllegalStateException("Unexpected token " + reader.peek());
+        }
+    }
+
+    /**
+     * Rewrites the top-level entries of one progress file.
+     * 
+     * @author Kaonashi97
+     */
+    interface Rewriter {
+        /**
+         * Reads the value of the entry and writes the entry (or not).
+         * 
+         * @param name the name of the entry (e.g. the advancement id)
+         * @param reader the {@link JsonReader} positioned at the value
+         * @param writer the {@link JsonWriter}
+         * @return <code>true</code> if the entry was changed
+         * @throws IOException if reading or writing fails
+         */
+        boolean entry(String name, JsonReader reader, JsonWriter writer) throws IOException;
+
+        /**
+         * Appends new entries after all entries were read.
+         * 
+         * @param writer the {@link JsonWriter}
+         * @return <code>true</code> if entries were appended
+         * @throws IOException if writing fails
+         */
+        default boolean finish(JsonWriter writer) throws IOException {
+            return false;
+        }
+
+        /**
+         * Returns the number of removed entries and criteria.
+         * 
+         * @return the number of removed entries
+         */
+        default long getRemoved() {
+            return 0;
+        }
+    }
+
+    /**
+     * The criteria and requirements of an advancement.
+     * 
+     * @author Kaonashi97
+     */
+    static class Definition {
+        final List<String> criteria = new ArrayList<>();
+        final List<List<String>> requirements = new ArrayList<>();
+
+        /**
+         * Returns whether the advancement is done with the awarded criteria.
+         * 
+         * @param awarded the awarded criteria
+         * @return <code>true</code> if done
+         */
+        boolean isDone(Map<String, String> awarded) {
+            for (List<String> requirement : requirements) {
+                boolean met = false;
+                for (String criterion : requirement) {
+                    if (awarded.containsKey(criterion)) {
+                        met = true;
+                        break;
+                    }
+                }
+                if (!met) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+
+    /**
+     * Reads the criteria and requirements of the advancements.
+     * 
+     * @param advancements the advancements
+     * @return the definitions by advancement id
+     */
+    static Map<String, Definition> define(Collection<AdvancementAPI> advancements) {
+        Map<String, Definition> definitions = new LinkedHashMap<>();
+        for (AdvancementAPI advancement : advancements) {
+            JsonObject json = advancement.toJson().getAsJsonObject();
+            Definition definition = new Definition();
+            json.getAsJsonObject("criteria").entrySet().forEach(entry -> definition.criteria.add(entry.getKey()));
+            if (json.has("requirements")) {
+                json.getAsJsonArray("requirements").forEach(requirement -> {
+                    List<String> ors = new ArrayList<>();
+                    requirement.getAsJsonArray().forEach(criterion -> ors.add(criterion.getAsString()));
+                    definition.requirements.add(ors);
+                });
+            } else {
+                definition.criteria.forEach(criterion -> {
+                    List<String> single = new ArrayList<>();
+                    single.add(criterion);
+                    definition.requirements.add(single);
+                });
+            }
+            definitions.put(advancement.getId().toString(), definition);
+        }
+        return definitions;
+    }
+}
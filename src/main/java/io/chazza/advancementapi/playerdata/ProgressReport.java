@@ -0,0 +1,161 @@
+package io.chazza.advancementapi.playerdata;
+
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.bukkit.NamespacedKey;
+
+/**
+ * The counts of a {@link ProgressScanner} scan.
+ * 
+ * @author Kaonashi97
+ */
+public class ProgressReport {
+    private final int players;
+    private final Map<String, AdvancementStats> stats;
+    private final List<Path> failed;
+    private final long nanos;
+
+    ProgressReport(int players, Map<String, AdvancementStats> stats, List<Path> failed, long nanos) {
+        this.players = players;
+        this.stats = Collections.unmodifiableMap(stats);
+        this.failed = Collections.unmodifiableList(failed);
+        this.nanos = nanos;
+    }
+
+    /**
+     * Returns the number of players whose progress file was scanned.
+     * 
+     * @return the number of players
+     */
+    public int getPlayers() {
+        return players;
+    }
+
+    /**
+     * Returns the counts of the advancement.
+     * 
+     * @param id the advancement id
+     * @return the {@link AdvancementStats} or <code>null</code> if the
+     * advancement was not scanned
+     */
+    public AdvancementStats getStats(NamespacedKey id) {
+        return stats.get(id.toString());
+    }
+
+    /**
+     * Returns the counts of all scanned advancements by id.
+     * 
+     * @return the {@link AdvancementStats}
+     */
+    public Map<String, AdvancementStats> getStats() {
+        return stats;
+    }
+
+    /**
+     * Returns the files which could not be read or parsed. These files are not
+     * counted.
+     * 
+     * @return the failed files
+     */
+    public List<Path> getFailed() {
+        return failed;
+    }
+
+    /**
+     * Returns the duration of the scan.
+     * 
+     * @param unit the {@link TimeUnit} of the result
+     * @return the duration
+     */
+    public long getDuration(TimeUnit unit) {
+        return unit.convert(nanos, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Formats the report with one line per advancement, e.g.
+     * <code>tests:quest done=12 (40.0%) started=30 {a=30, b=12}</code>.
+     * 
+     * @return the report
+     */
+    public String format() {
+        StringBuilder builder = new StringBuilder(64 + stats.size() * 64);
+        builder.append(players).append(" players, ").append(failed.size()).append(" failed, ")
+                .append(getDuration(TimeUnit.MILLISECONDS)).append(" ms");
+        stats.forEach((id, advancement) -> {
+            builder.append('\n').append(id).append(" done=").append(advancement.done);
+            if (players > 0) {
+                builder.append(" (").append(String.format(Locale.ROOT, "%.1f", advancement.done * 100.0 / players))
+                        .append("%)");
+            }
+            builder.append(" started=").append(advancement.started).append(' ').append(advancement.criteria);
+        });
+        return builder.toString();
+    }
+
+    @Override
+    public String toString() {
+        return "ProgressReport[players=" + players + ", advancements=" + stats.size() + ", failed=" + failed.size()
+                + ", millis=" + getDuration(TimeUnit.MILLISECONDS) + "]";
+    }
+
+    /**
+     * The counts of one advancement.
+     * 
+     * @author Kaonashi97
+     */
+    public static class AdvancementStats {
+        private final long started;
+        private final long done;
+        private final Map<String, Long> criteria;
+
+        AdvancementStats(long started, long done, Map<String, Long> criteria) {
+            this.started = started;
+            this.done = done;
+            this.criteria = Collections.unmodifiableMap(criteria);
+        }
+
+        /**
+         * Returns the number of players with at least one awarded criterion.
+         * 
+         * @return the number of players
+         */
+        public long getStarted() {
+            return started;
+        }
+
+        /**
+         * Returns the number of players who completed the advancement.
+         * 
+         * @return the number of players
+         */
+        public long getDone() {
+            return done;
+        }
+
+        /**
+         * Returns the number of players who were awarded the criterion.
+         * 
+         * @param criterion the criterion name
+         * @return the number of players or 0 if the advancement does not have
+         * the criterion
+         */
+        public long getCriterion(String criterion) {
+            Long count = criteria.get(criterion);
+            return count == null ? 0 : count;
+        }
+
+        /**
+         * Returns the number of players who were awarded each criterion.
+         * 
+         * @return the counts by criterion name
+         */
+        public Map<String, Long> getCriteria() {
+            return criteria;
+        }
+    }
+}
@@ -0,0 +1,164 @@
+package io.chazza.advancementapi.playerdata;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.bukkit.World;
+
+import com.google.gson.JsonParseException;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+
+import io.chazza.advancementapi.AdvancementAPI;
+import io.chazza.advancementapi.playerdata.ProgressFiles.Definition;
+import io.chazza.advancementapi.playerdata.ProgressReport.AdvancementStats;
+
+/**
+ * Counts how many players started and completed advancements, and how many
+ * players were awarded each criterion, from the vanilla player progress files
+ * (<code>world/advancements/&lt;uuid&gt;.json</code>).
+ * <p>
+ * The files are scanned in parallel on the common
+ * {@link java.util.concurrent.ForkJoinPool ForkJoinPool}. Each file is streamed
+ * through a {@link JsonReader} without building a tree, entries of other
+ * advancements are skipped. The counts are kept in {@link LongAdder}s, so the
+ * threads do not contend on them.
+ * 
+ * <pre>
+ * ProgressReport report = new ProgressScanner(registry.getAdvancements()).scan(world);
+ * plugin.getLogger().info(report.format());
+ * </pre>
+ * 
+ * @author Kaonashi97
+ */
+public class ProgressScanner {
+    private final Map<String, Definition> definitions;
+
+    /**
+     * Creates a new scanner for the advancements.
+     * 
+     * @param advancements the advancements to count
+     */
+    public ProgressScanner(Collection<AdvancementAPI> advancements) {
+        this.definitions = ProgressFiles.define(advancements);
+    }
+
+    /**
+     * Scans the progress files of all players of the world.
+     * 
+     * @param world the {@link World}
+     * @return the {@link ProgressReport}
+     */
+    public ProgressReport scan(World world) {
+        return scan(world.getWorldFolder().toPath().resolve("advancements"));
+    }
+
+    /**
+     * Scans the progress files of all players in the folder.
+     * 
+     * @param folder the folder of the progress files (e.g.
+     * <code>world/advancements</code>)
+     * @return the {@link ProgressReport}
+     */
+    public ProgressReport scan(Path folder) {
+        long start = System.nanoTime();
+        List<Path> files;
+        try {
+            files = ProgressFiles.list(folder, player -> true);
+        } catch (IOException ex) {
+            ex.printStackTrace();
+            return new ProgressReport(0, Collections.emptyMap(), Collections.singletonList(folder), 0);
+        }
+
+        Map<String, Counter> counters = new HashMap<>();
+        definitions.forEach((id, definition) -> counters.put(id, new Counter(definition)));
+        Queue<Path> failed = new ConcurrentLinkedQueue<>();
+        files.parallelStream().forEach(file -> {
+            try (Reader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+                List<LongAdder> hits = new ArrayList<>();
+                scan(new JsonReader(reader), counters, hits);
+                // count a file only once it was parsed completely
+                hits.forEach(LongAdder::increment);
+            } catch (IOException | JsonParseException | IllegalStateException ex) {
+                ex.printStackTrace();
+                failed.add(file);
+            }
+        });
+
+        Map<String, AdvancementStats> stats = new LinkedHashMap<>();
+        definitions.keySet().forEach(id -> stats.put(id, counters.get(id).toStats()));
+        return new ProgressReport(files.size() - failed.size(), stats, new ArrayList<>(failed),
+                System.nanoTime() - start);
+    }
+
+    private static void scan(JsonReader reader, Map<String, Counter> counters, List<LongAdder> hits)
+            throws IOException {
+        reader.beginObject();
+        while (reader.hasNext()) {
+            Counter counter = counters.get(reader.nextName());
+            if (counter == null || reader.peek() != JsonToken.BEGIN_OBJECT) {
+                reader.skipValue();
+                continue;
+            }
+            boolean started = false;
+            boolean done = false;
+            reader.beginObject();
+            while (reader.hasNext()) {
+                String name = reader.nextName();
+                if (name.equals("criteria") && reader.peek() == JsonToken.BEGIN_OBJECT) {
+                    reader.beginObject();
+                    while (reader.hasNext()) {
+                        LongAdder criterion = counter.criteria.get(reader.nextName());
+                        if (criterion != null) {
+                            hits.add(criterion);
+                            started = true;
+                        }
+                        reader.skipValue();
+                    }
+                    reader.endObject();
+                } else if (name.equals("done") && reader.peek() == JsonToken.BOOLEAN) {
+                    done = reader.nextBoolean();
+                } else {
+                    reader.skipValue();
+                }
+            }
+            reader.endObject();
+            if (started) {
+                hits.add(counter.started);
+            }
+            if (done) {
+                hits.add(counter.done);
+            }
+        }
+        reader.endObject();
+    }
+
+    private static class Counter {
+        private final LongAdder started = new LongAdder();
+        private final LongAdder done = new LongAdder();
+        private final Map<String, LongAdder> criteria = new LinkedHashMap<>();
+
+        private Counter(Definition definition) {
+            definition.criteria.forEach(criterion -> criteria.put(criterion, new LongAdder()));
+        }
+
+        private AdvancementStats toStats() {
+            Map<String, Long> counts = new LinkedHashMap<>();
+            criteria.forEach((criterion, count) -> counts.put(criterion, count.sum()));
+            return new AdvancementStats(started.sum(), done.sum(), counts);
+        }
+    }
+}
@@ -0,0 +1,358 @@
+package io.chazza.advancementapi.progress;
+
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Function;
+
+import org.bukkit.Bukkit;
+import org.bukkit.NamespacedKey;
+import org.bukkit.entity.Player;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.HandlerList;
+import org.bukkit.event.Listener;
+import org.bukkit.event.player.PlayerJoinEvent;
+import org.bukkit.plugin.Plugin;
+import org.bukkit.scheduler.BukkitTask;
+
+import io.chazza.advancementapi.AdvancementAPI;
+import io.chazza.advancementapi.common.TimingWheel;
+
+/**
+ * Grants advancements for a limited time (e.g. temporary badges).
+ * <p>
+ * All expirations are kept in one {@link TimingWheel}, which is advanced by a
+ * single repeating task. Expiring an advancement revokes all of its criteria.
+ * If the player is offline at that time, the advancement is revoked on the
+ * next join.
+ * <p>
+ * Pending expirations are written to a journal in the plugin's data folder,
+ * so they survive restarts and reloads. The journal is appended while running
+ * and compacted on {@link #start()} and {@link #stop()}. A journal which could
+ * not be read is never compacted, only appended. All methods have to be called
+ * from the main thread.
+ * 
+ * <pre>
+ * ExpiryService expiries = new ExpiryService(plugin).start();
+ * expiries.grantFor(player, badge, Duration.ofHours(1));
+ * </pre>
+ * 
+ * @author Kaonashi97
+ */
+public class ExpiryService implements Listener {
+    private static final String LOG_PREFIX = "[AdvancementAPI] ";
+    private static final long MILLIS_PER_TICK = 50L;
+
+    private final Plugin plugin;
+    private final File journalFile;
+    private final TimingWheel<Expiry> wheel = new TimingWheel<>(64);
+    private final Map<Key, Expiry> expiries = new HashMap<>();
+    private final Map<UUID, Set<NamespacedKey>> overdue = new HashMap<>();
+    private Writer journal;
+    // the journal could not be read, compacting it would lose its expirations
+    private boolean loadFailed;
+    private BukkitTask task;
+
+    /**
+     * Creates a new service using the journal
+     * <code>advancement-expiries.journal</code> in the data folder of the
+     * plugin.
+     * 
+     * @param plugin the owning {@link Plugin}
+     */
+    public ExpiryService(Plugin plugin) {
+        this(plugin, new File(plugin.getDataFolder(), "advancement-expiries.journal"));
+    }
+
+    /**
+     * Creates a new service.
+     * 
+     * @param plugin the owning {@link Plugin}
+     * @param journalFile the journal file
+     */
+    public ExpiryService(Plugin plugin, File journalFile) {
+        this.plugin = plugin;
+        this.journalFile = journalFile;
+    }
+
+    /**
+     * Loads the journal, registers the join listener and starts the repeating
+     * task.
+     * 
+     * @return this service
+     */
+    public ExpiryService start() {
+        if (task != null) {
+            return this;
+        }
+        load();
+        Bukkit.getPluginManager().registerEvents(this, plugin);
+        task = Bukkit.getScheduler().runTaskTimer(plugin, this::tick, 1L, 1L);
+        return this;
+    }
+
+    /**
+     * Stops the repeating task, unregisters the join listener and compacts the
+     * journal. Pending expirations are kept in the journal.
+     */
+    public void stop() {
+        if (task != null) {
+            task.cancel();
+            task = null;
+        }
+        HandlerList.unregisterAll(this);
+        if (!loadFailed) {
+            compact();
+        }
+        closeJournal();
+    }
+
+    /**
+     * Grants the advancement to the {@link Player} and revokes it after the
+     * given {@link Duration}. Granting an advancement which is already granted
+     * through this service replaces its expiry. Durations too long to be
+     * represented expire never.
+     * 
+     * @param player the {@link Player}
+     * @param advancement the advancement
+     * @param duration the {@link Duration}
+     */
+    public void grantFor(Player player, AdvancementAPI advancement, Duration duration) {
+        if (duration.isNegative()) {
+            throw new IllegalArgumentException("duration must not be negative");
+        }
+        long now = System.currentTimeMillis();
+        long expiresAt;
+        try {
+            expiresAt = Math.addExact(now, duration.toMillis());
+        } catch (ArithmeticException ex) {
+            expiresAt = Long.MAX_VALUE;
+        }
+        advancement.grant(player);
+        schedule(player.getUniqueId(), advancement.getId(), expiresAt);
+    }
+
+    /**
+     * Returns the number of pending expirations.
+     * 
+     * @return the number of expirations
+     */
+    public int size() {
+        return expiries.size();
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onJoin(PlayerJoinEvent event) {
+        Set<NamespacedKey> ids = overdue.remove(event.getPlayer().getUniqueId());
+        if (ids != null) {
+            for (NamespacedKey id : ids) {
+                AdvancementAPI.getTransport().revoke(event.getPlayer(), id);
+                append("- " + event.getPlayer().getUniqueId() + " " + id);
+            }
+        }
+    }
+
+    private void schedule(UUID uuid, NamespacedKey id, long expiresAt) {
+        Expiry expiry = new Expiry(new Key(uuid, id), expiresAt);
+        expiries.put(expiry.key, expiry);
+        long ticks = (expiresAt - System.currentTimeMillis()) / MILLIS_PER_TICK;
+        wheel.schedule(ticks, expiry);
+        append("+ " + uuid + " " + id + " " + expiresAt);
+    }
+
+    private void tick() {
+        tick(Bukkit::getPlayer);
+    }
+
+    /**
+     * Advances the expirations by one tick.
+     * 
+     * @param players resolves the online players by {@link UUID}
+     */
+    void tick(Function<UUID, Player> players) {
+        wheel.advance(expiry -> expire(expiry, players));
+        flushJournal();
+    }
+
+    private void expire(Expiry expiry, Function<UUID, Player> players) {
+        // replaced by a later grant
+        if (expiries.get(expiry.key) != expiry) {
+            return;
+        }
+        expiries.remove(expiry.key);
+        Player player = players.apply(expiry.key.player);
+        if (player == null) {
+            overdue.computeIfAbsent(expiry.key.player, uuid -> new HashSet<>()).add(expiry.key.id);
+            return;
+        }
+        AdvancementAPI.getTransport().revoke(player, expiry.key.id);
+        append("- " + expiry.key.player + " " + expiry.key.id);
+    }
+
+    @SuppressWarnings("deprecation")
+    void load() {
+        loadFailed = false;
+        if (!journalFile.exists()) {
+            return;
+        }
+        List<String> lines;
+        try {
+            lines = Files.readAllLines(journalFile.toPath(), StandardCharsets.UTF_8);
+        } catch (IOException ex) {
+            // keep the journal as it is instead of compacting it to nothing
+            loadFailed = true;
+            Bukkit.getLogger().severe(() -> LOG_PREFIX + "Error reading expiry journal " + journalFile);
+            ex.printStackTrace();
+            return;
+        }
+        Map<Key, Long> pending = new HashMap<>();
+        for (String line : lines) {
+            String[] parts = line.split(" ");
+            if (parts.length < 3) {
+                continue;
+            }
+            try {
+                String[] id = parts[2].split(":", 2);
+                Key key = new Key(UUID.fromString(parts[1]), new NamespacedKey(id[0], id[1]));
+                if (parts[0].equals("+") && parts.length == 4) {
+                    pending.put(key, Long.valueOf(parts[3]));
+                } else if (parts[0].equals("-")) {
+                    pending.remove(key);
+                }
+            } catch (IllegalArgumentException | ArrayIndexOutOfBoundsException ex) {
+                Bukkit.getLogger().warning(() -> LOG_PREFIX + "Skipping invalid expiry journal line: " + line);
+            }
+        }
+
+        long now = System.currentTimeMillis();
+        pending.forEach((key, expiresAt) -> {
+            if (expiresAt <= now) {
+                overdue.computeIfAbsent(key.player, uuid -> new HashSet<>()).add(key.id);
+            } else {
+                Expiry expiry = new Expiry(key, expiresAt);
+                expiries.put(key, expiry);
+                wheel.schedule((expiresAt - now) / MILLIS_PER_TICK, expiry);
+            }
+        });
+        compact();
+    }
+
+    /**
+     * Rewrites the journal with the pending expirations only. Overdue
+     * expirations are written as already expired.
+     */
+    private void compact() {
+        closeJournal();
+        File tmp = new File(journalFile.getPath() + ".tmp");
+        File dir = journalFile.getAbsoluteFile().getParentFile();
+        if (!dir.mkdirs() && !dir.exists()) {
+            Bukkit.getLogger().severe(() -> LOG_PREFIX + "Error creating directory " + dir);
+            return;
+        }
+        try (Writer writer = Files.newBufferedWriter(tmp.toPath(), StandardCharsets.UTF_8)) {
+            for (Expiry expiry : expiries.values()) {
+                writer.write("+ " + expiry.key.player + " " + expiry.key.id + " " + expiry.expiresAt + "\n");
+            }
+            for (Map.Entry<UUID, Set<NamespacedKey>> entry : overdue.entrySet()) {
+                for (NamespacedKey id : entry.getValue()) {
+                    writer.write("+ " + entry.getKey() + " " + id + " 0\n");
+                }
+            }
+        } catch (IOException ex) {
+            Bukkit.getLogger().severe(() -> LOG_PREFIX + "Error writing expiry journal " + journalFile);
+            ex.printStackTrace();
+            return;
+        }
+        try {
+            Files.move(tmp.toPath(), journalFile.toPath(), StandardCopyOption.REPLACE_EXISTING);
+        } catch (IOException ex) {
+            Bukkit.getLogger().severe(() -> LOG_PREFIX + "Error writing expiry journal " + journalFile);
+            ex.printStackTrace();
+        }
+    }
+
+    private void append(String line) {
+        try {
+            if (journal == null) {
+                journal = new BufferedWriter(new OutputStreamWriter(Files.newOutputStream(journalFile.toPath(),
+                        StandardOpenOption.CREATE, StandardOpenOption.APPEND), StandardCharsets.UTF_8));
+            }
+            journal.write(line);
+            journal.write('\n');
+        } catch (IOException ex) {
+            Bukkit.getLogger().severe(() -> LOG_PREFIX + "Error writing expiry journal " + journalFile);
+            ex.printStackTrace();
+        }
+    }
+
+    private void flushJournal() {
+        if (journal == null) {
+            return;
+        }
+        try {
+            journal.flush();
+        } catch (IOException ex) {
+            ex.printStackTrace();
+        }
+    }
+
+    private void closeJournal() {
+        if (journal == null) {
+            return;
+        }
+        try {
+            journal.close();
+        } catch (IOException ex) {
+            ex.printStackTrace();
+        }
+        journal = null;
+    }
+
+    private static class Key {
+        private final UUID player;
+        private final NamespacedKey id;
+
+        private Key(UUID player, NamespacedKey id) {
+            this.player = player;
+            this.id = id;
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * player.hashCode() + id.hashCode();
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (!(obj instanceof Key)) {
+                return false;
+            }
+            Key other = (Key) obj;
+            return player.equals(other.player) && id.equals(other.id);
+        }
+    }
+
+    private static class Expiry {
+        private final Key key;
+        private final long expiresAt;
+
+        private Expiry(Key key, long expiresAt) {
+            this.key = key;
+            this.expiresAt = expiresAt;
+        }
+    }
+}
@@ -0,0 +1,282 @@
+package io.chazza.advancementapi.progress;
+
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+import org.bukkit.Bukkit;
+import org.bukkit.NamespacedKey;
+import org.bukkit.entity.Player;
+import org.bukkit.plugin.Plugin;
+import org.bukkit.scheduler.BukkitTask;
+
+import io.chazza.advancementapi.AdvancementAPI;
+import io.chazza.advancementapi.transport.AdvancementTransport;
+
+/**
+ * A thread-safe facade for granting, revoking and awarding advancements.
+ * <p>
+ * Requests can be submitted from any thread. They are collected in a lock-free
+ * queue and applied on the main thread by a single repeating task. Requests
+ * for the same player and advancement are coalesced, so only the resulting
+ * state is applied (e.g. a grant followed by a revoke within the same tick
+ * results in a single revoke).
+ * 
+ * <pre>
+ * ProgressQueue queue = new ProgressQueue().start(plugin);
+ * // from any thread
+ * queue.grant(player, advancement);
+ * </pre>
+ * 
+ * @author Kaonashi97
+ */
+public class ProgressQueue {
+    private final Queue<Request> requests = new ConcurrentLinkedQueue<>();
+    // only accessed by the main thread
+    private final Map<Key, Pending> pending = new LinkedHashMap<>();
+    private int maxPerTick = 1000;
+    private BukkitTask task;
+
+    /**
+     * Sets the maximum of coalesced requests applied per tick. Requests
+     * exceeding this limit are carried over to the next tick. Dropped requests
+     * of offline players do not count.
+     * 
+     * @param maxPerTick the maximum per tick
+     * @return this queue
+     */
+    public ProgressQueue maxPerTick(int maxPerTick) {
+        if (maxPerTick < 1) {
+            throw new IllegalArgumentException("maxPerTick must be at least 1");
+        }
+        this.maxPerTick = maxPerTick;
+        return this;
+    }
+
+    /**
+     * Starts the repeating task that applies the queued requests every tick.
+     * 
+     * @param plugin the owning {@link Plugin}
+     * @return this queue
+     */
+    public synchronized ProgressQueue start(Plugin plugin) {
+        if (task == null) {
+            task = Bukkit.getScheduler().runTaskTimer(plugin, this::drain, 1L, 1L);
+        }
+        return this;
+    }
+
+    /**
+     * Stops the repeating task. Requests which are still queued are applied
+     * immediately, so this has to be called from the main thread.
+     */
+    public synchronized void stop() {
+        if (task != null) {
+            task.cancel();
+            task = null;
+        }
+        while (drain() > 0) {
+            // apply remaining requests
+        }
+    }
+
+    /**
+     * Queues a grant of the advancement for the {@link Player}.
+     * 
+     * @param player the {@link Player}
+     * @param advancement the advancement
+     */
+    public void grant(Player player, AdvancementAPI advancement) {
+        grant(player, advancement.getId());
+    }
+
+    /**
+     * Queues a grant of the advancement for the {@link Player}.
+     * 
+     * @param player the {@link Player}
+     * @param id the advancement id
+     */
+    public void grant(Player player, NamespacedKey id) {
+        requests.add(new Request(player, id, Type.GRANT, null));
+    }
+
+    /**
+     * Queues a revoke of the advancement for the {@link Player}. All awarded
+     * criteria will be revoked, even if the advancement is not done.
+     * 
+     * @param player the {@link Player}
+     * @param advancement the advancement
+     */
+    public void revoke(Player player, AdvancementAPI advancement) {
+        revoke(player, advancement.getId());
+    }
+
+    /**
+     * Queues a revoke of the advancement for the {@link Player}. See
+     * {@link #revoke(Player, AdvancementAPI)} for more information.
+     * 
+     * @param player the {@link Player}
+     * @param id the advancement id
+     */
+    public void revoke(Player player, NamespacedKey id) {
+        requests.add(new Request(player, id, Type.REVOKE, null));
+    }
+
+    /**
+     * Queues awarding single criteria of the advancement for the
+     * {@link Player}.
+     * 
+     * @param player the {@link Player}
+     * @param advancement the advancement
+     * @param criteria the criteria names (trigger names)
+     */
+    public void award(Player player, AdvancementAPI advancement, String... criteria) {
+        award(player, advancement.getId(), criteria);
+    }
+
+    /**
+     * Queues awarding single criteria of the advancement for the
+     * {@link Player}.
+     * 
+     * @param player the {@link Player}
+     * @param id the advancement id
+     * @param criteria the criteria names (trigger names)
+     */
+    public void award(Player player, NamespacedKey id, String... criteria) {
+        requests.add(new Request(player, id, Type.AWARD, criteria));
+    }
+
+    /**
+     * Coalesces all queued requests and applies up to the configured maximum
+     * of them. Must be called from the main thread.
+     * 
+     * @return the number of coalesced requests still waiting after this call
+     */
+    public int drain() {
+        for (Request request = requests.poll(); request != null; request = requests.poll()) {
+            Key key = new Key(request.player.getUniqueId(), request.id);
+            Pending state = pending.get(key);
+            if (state == null) {
+                state = new Pending(request.player, request.id);
+                pending.put(key, state);
+            }
+            state.merge(request);
+        }
+
+        AdvancementTransport transport = AdvancementAPI.getTransport();
+        Iterator<Pending> iterator = pending.values().iterator();
+        int applied = 0;
+        while (applied < maxPerTick && iterator.hasNext()) {
+            Pending next = iterator.next();
+            iterator.remove();
+            // requests of offline players are dropped without using the budget
+            if (next.player.isOnline()) {
+                next.apply(transport);
+                applied++;
+            }
+        }
+        return pending.size();
+    }
+
+    private enum Type {
+        GRANT, REVOKE, AWARD
+    }
+
+    private static class Request {
+        private final Player player;
+        private final NamespacedKey id;
+        private final Type type;
+        private final String[] criteria;
+
+        private Request(Player player, NamespacedKey id, Type type, String[] criteria) {
+            this.player = player;
+            this.id = id;
+            this.type = type;
+            this.criteria = criteria;
+        }
+    }
+
+    private static class Key {
+        private final UUID player;
+        private final NamespacedKey id;
+
+        private Key(UUID player, NamespacedKey id) {
+            this.player = player;
+            this.id = id;
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * player.hashCode() + id.hashCode();
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (!(obj instanceof Key)) {
+                return false;
+            }
+            Key other = (Key) obj;
+            return player.equals(other.player) && id.equals(other.id);
+        }
+    }
+
+    /**
+     * The coalesced state of all requests for one player and advancement. It
+     * is applied as: revoke everything, then grant everything or award the
+     * collected criteria.
+     */
+    private static class Pending {
+        private Player player;
+        private final NamespacedKey id;
+        private boolean revoke;
+        private boolean grant;
+        private Set<String> criteria = Collections.emptySet();
+
+        private Pending(Player player, NamespacedKey id) {
+            this.player = player;
+            this.id = id;
+        }
+
+        private void merge(Request request) {
+            // a rejoined player has a new player object
+            this.player = request.player;
+            switch (request.type) {
+            case GRANT:
+                revoke = false;
+                grant = true;
+                criteria = Collections.emptySet();
+                break;
+            case REVOKE:
+                revoke = true;
+                grant = false;
+                criteria = Collections.emptySet();
+                break;
+            case AWARD:
+                if (!grant) {
+                    if (criteria.isEmpty()) {
+                        criteria = new HashSet<>();
+                    }
+                    Collections.addAll(criteria, request.criteria);
+                }
+                break;
+            }
+        }
+
+        private void apply(AdvancementTransport transport) {
+            if (revoke) {
+                transport.revoke(player, id);
+            }
+            if (grant) {
+                transport.grant(player, id);
+            } else if (!criteria.isEmpty()) {
+                transport.award(player, id, criteria);
+            }
+        }
+    }
+}
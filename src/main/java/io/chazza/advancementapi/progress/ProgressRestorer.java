@@ -0,0 +1,250 @@
+package io.chazza.advancementapi.progress;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Level;
+
+import org.bukkit.Bukkit;
+import org.bukkit.NamespacedKey;
+import org.bukkit.entity.Player;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+import org.bukkit.event.player.AsyncPlayerPreLoginEvent;
+import org.bukkit.event.player.PlayerJoinEvent;
+import org.bukkit.event.player.PlayerLoginEvent;
+import org.bukkit.event.player.PlayerQuitEvent;
+import org.bukkit.plugin.Plugin;
+
+/**
+ * Restores the advancement progress of players when they join.
+ * <p>
+ * The progress is loaded through a {@link ProgressLoader} during the
+ * {@link AsyncPlayerPreLoginEvent}, so the (possibly slow) data source is never
+ * queried on the main thread. After the player joined, the loaded progress is
+ * handed in chunks to a {@link ProgressQueue} over the next ticks instead of
+ * being applied within the {@link PlayerJoinEvent}. Everything cached for a
+ * player is released when the player quits or the login is denied. Progress
+ * of a login which never completes (e.g. the connection was closed) is
+ * released after a minute.
+ *
+ * <pre>
+ * ProgressQueue queue = new ProgressQueue().start(plugin);
+ * new ProgressRestorer(queue, uuid -&gt; database.loadAdvancements(uuid)).register(plugin);
+ * </pre>
+ *
+ * @author Kaonashi97
+ */
+public class ProgressRestorer implements Listener {
+    // time between the prelogin and the join after which preloaded progress is released
+    static final long PRELOAD_TIMEOUT = TimeUnit.MINUTES.toMillis(1);
+
+    private final ProgressQueue queue;
+    private final ProgressLoader loader;
+    private final Map<UUID, Preloaded> preloaded = new ConcurrentHashMap<>();
+    // only accessed by the main thread
+    private final Map<UUID, Restore> restoring = new LinkedHashMap<>();
+    private int chunkSize = 50;
+    private Plugin plugin;
+
+    /**
+     * Creates a new restorer.
+     *
+     * @param queue the {@link ProgressQueue} used for applying the progress
+     * @param loader the {@link ProgressLoader}
+     */
+    public ProgressRestorer(ProgressQueue queue, ProgressLoader loader) {
+        this.queue = queue;
+        this.loader = loader;
+    }
+
+    /**
+     * Sets the number of advancements handed to the {@link ProgressQueue} per
+     * player and tick.
+     *
+     * @param chunkSize the chunk size
+     * @return this restorer
+     */
+    public ProgressRestorer chunkSize(int chunkSize) {
+        if (chunkSize < 1) {
+            throw new IllegalArgumentException("chunkSize must be at least 1");
+        }
+        this.chunkSize = chunkSize;
+        return this;
+    }
+
+    /**
+     * Registers the listeners and starts the repeating task which feeds the
+     * {@link ProgressQueue}.
+     *
+     * @param plugin the owning {@link Plugin}
+     * @return this restorer
+     */
+    public ProgressRestorer register(Plugin plugin) {
+        this.plugin = plugin;
+        Bukkit.getPluginManager().registerEvents(this, plugin);
+        Bukkit.getScheduler().runTaskTimer(plugin, this::tick, 1L, 1L);
+        return this;
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onPreLogin(AsyncPlayerPreLoginEvent event) {
+        // replaces the progress of an earlier login which never completed
+        preloaded.remove(event.getUniqueId());
+        if (event.getLoginResult() != AsyncPlayerPreLoginEvent.Result.ALLOWED) {
+            return;
+        }
+        Map<NamespacedKey, Collection<String>> progress = load(event.getUniqueId());
+        if (progress != null) {
+            preloaded.put(event.getUniqueId(), new Preloaded(progress, System.currentTimeMillis()));
+        }
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onLogin(PlayerLoginEvent event) {
+        // a denied login (ban, whitelist, full server) is not followed by a quit
+        if (event.getResult() != PlayerLoginEvent.Result.ALLOWED) {
+            preloaded.remove(event.getPlayer().getUniqueId());
+        }
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onJoin(PlayerJoinEvent event) {
+        Player player = event.getPlayer();
+        Preloaded progress = preloaded.remove(player.getUniqueId());
+        if (progress != null) {
+            if (!progress.progress.isEmpty()) {
+                restoring.put(player.getUniqueId(), new Restore(player, progress.progress));
+            }
+            return;
+        }
+        // not preloaded (e.g. joined before the plugin was enabled)
+        Bukkit.getScheduler().runTaskAsynchronously(plugin, () -> {
+            Map<NamespacedKey, Collection<String>> loaded = load(player.getUniqueId());
+            if (loaded != null && !loaded.isEmpty()) {
+                Bukkit.getScheduler().runTask(plugin, () -> {
+                    if (player.isOnline()) {
+                        restoring.put(player.getUniqueId(), new Restore(player, loaded));
+                    }
+                });
+            }
+        });
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onQuit(PlayerQuitEvent event) {
+        UUID uuid = event.getPlayer().getUniqueId();
+        preloaded.remove(uuid);
+        restoring.remove(uuid);
+    }
+
+    /**
+     * Loads the progress.
+     *
+     * @param uuid the player's {@link UUID}
+     * @return the progress (empty if there is none) or <code>null</code> if
+     *         loading failed
+     */
+    private Map<NamespacedKey, Collection<String>> load(UUID uuid) {
+        try {
+            Map<NamespacedKey, Collection<String>> progress = loader.load(uuid);
+            return progress == null ? Collections.emptyMap() : progress;
+        } catch (Exception ex) {
+            Bukkit.getLogger().log(Level.SEVERE, "[AdvancementAPI] Error loading progress of " + uuid, ex);
+            return null;
+        }
+    }
+
+    /**
+     * Releases the progress preloaded more than {@link #PRELOAD_TIMEOUT}
+     * milliseconds before the given time.
+     *
+     * @param now the current time in milliseconds
+     */
+    void expirePreloaded(long now) {
+        preloaded.values().removeIf(progress -> now - progress.loaded > PRELOAD_TIMEOUT);
+    }
+
+    /**
+     * Returns whether progress is preloaded for the player.
+     *
+     * @param uuid the player's {@link UUID}
+     * @return <code>true</code> if preloaded
+     */
+    boolean isPreloaded(UUID uuid) {
+        return preloaded.containsKey(uuid);
+    }
+
+    private void tick() {
+        expirePreloaded(System.currentTimeMillis());
+        Iterator<Restore> iterator = restoring.values().iterator();
+        while (iterator.hasNext()) {
+            if (iterator.next().submit()) {
+                iterator.remove();
+            }
+        }
+    }
+
+    /**
+     * Loads the target progress of a player. Called asynchronously.
+     *
+     * @author Kaonashi97
+     */
+    @FunctionalInterface
+    public interface ProgressLoader {
+        /**
+         * Loads the progress of the player with the given {@link UUID}. The
+         * returned map contains the criteria to award per advancement. An
+         * empty collection grants the whole advancement.
+         *
+         * @param uuid the player's {@link UUID}
+         * @return the progress, may be <code>null</code> if there is none
+         * @throws Exception if loading fails
+         */
+        Map<NamespacedKey, Collection<String>> load(UUID uuid) throws Exception;
+    }
+
+    private static class Preloaded {
+        private final Map<NamespacedKey, Collection<String>> progress;
+        private final long loaded;
+
+        private Preloaded(Map<NamespacedKey, Collection<String>> progress, long loaded) {
+            this.progress = progress;
+            this.loaded = loaded;
+        }
+    }
+
+    private class Restore {
+        private final Player player;
+        private final Iterator<Entry<NamespacedKey, Collection<String>>> progress;
+
+        private Restore(Player player, Map<NamespacedKey, Collection<String>> progress) {
+            this.player = player;
+            this.progress = progress.entrySet().iterator();
+        }
+
+        /**
+         * Submits the next chunk to the queue.
+         *
+         * @return <code>true</code> if everything has been submitted
+         */
+        private boolean submit() {
+            for (int i = 0; i < chunkSize && progress.hasNext(); i++) {
+                Entry<NamespacedKey, Collection<String>> entry = progress.next();
+                if (entry.getValue().isEmpty()) {
+                    queue.grant(player, entry.getKey());
+                } else {
+                    queue.award(player, entry.getKey(), entry.getValue().toArray(new String[0]));
+                }
+            }
+            return !progress.hasNext();
+        }
+    }
+}
@@ -0,0 +1,233 @@
+package io.chazza.advancementapi.storage;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+
+import org.bukkit.NamespacedKey;
+import org.bukkit.World;
+
+import com.google.gson.JsonParseException;
+
+import io.chazza.advancementapi.AdvancementAPI;
+import io.chazza.advancementapi.AdvancementRegistry;
+
+/**
+ * Loads existing advancement files (<code>data/advancements/**.json</code>)
+ * into an {@link AdvancementRegistry}.
+ * <p>
+ * The directories are scanned with NIO directory streams, then the files are
+ * read and parsed in parallel on the common
+ * {@link java.util.concurrent.ForkJoinPool ForkJoinPool}. Small files are read
+ * into a buffer pooled per thread, large files are memory-mapped. Each file is
+ * turned into an advancement with
+ * {@link AdvancementAPI#fromJson(NamespacedKey, byte[])}, so saving it again
+ * keeps the file unchanged. Files which can't be read or parsed, whose path is
+ * no valid id or whose advancement is part of a parent cycle (see
+ * {@link AdvancementRegistry#getCyclic()}) are reported in the
+ * {@link LoadResult} and do not abort loading.
+ * 
+ * <pre>
+ * AdvancementRegistry registry = new AdvancementRegistry();
+ * LoadResult result = new AdvancementLoader().load(world, registry);
+ * registry.addAll();
+ * </pre>
+ * 
+ * @author Kaonashi97
+ */
+public class AdvancementLoader {
+    private static final String EXTENSION = ".json";
+    private static final int MAP_THRESHOLD = 64 * 1024;
+    private static final ThreadLocal<ByteBuffer> buffers = ThreadLocal.withInitial(() -> ByteBuffer.allocate(8192));
+
+    /**
+     * Loads all advancement files of the world.
+     * 
+     * @param world the {@link World}
+     * @param registry the {@link AdvancementRegistry} to register the
+     * advancements in
+     * @return the {@link LoadResult}
+     */
+    public LoadResult load(World world, AdvancementRegistry registry) {
+        return load(world.getWorldFolder().toPath().resolve("data").resolve("advancements"), registry);
+    }
+
+    /**
+     * Loads all advancement files below the folder. Each direct subfolder is a
+     * namespace, the path of a file within it is the key.
+     * 
+     * @param folder the advancements folder (e.g.
+     * <code>world/data/advancements</code>)
+     * @param registry the {@link AdvancementRegistry} to register the
+     * advancements in
+     * @return the {@link LoadResult}
+     */
+    public LoadResult load(Path folder, AdvancementRegistry registry) {
+        long start = System.nanoTime();
+        List<Path> files = new ArrayList<>();
+        Queue<Path> failed = new ConcurrentLinkedQueue<>();
+        if (Files.isDirectory(folder)) {
+            try (DirectoryStream<Path> namespaces = Files.newDirectoryStream(folder, Files::isDirectory)) {
+                for (Path namespace : namespaces) {
+                    scan(namespace, files, failed);
+                }
+            } catch (IOException ex) {
+                ex.printStackTrace();
+                failed.add(folder);
+            }
+        }
+
+        Map<NamespacedKey, Path> loaded = new ConcurrentHashMap<>();
+        files.parallelStream().forEach(file -> {
+            try {
+                NamespacedKey id = getId(folder, file);
+                registry.register(AdvancementAPI.fromJson(id, read(file)));
+                loaded.put(id, file);
+            } catch (IOException | JsonParseException | IllegalArgumentException ex) {
+                // IllegalArgumentException: the path is no valid NamespacedKey
+                ex.printStackTrace();
+                failed.add(file);
+            }
+        });
+        // registered, but cannot be added to the server
+        for (AdvancementAPI advancement : registry.getCyclic()) {
+            Path file = loaded.remove(advancement.getId());
+            if (file != null) {
+                failed.add(file);
+            }
+        }
+        return new LoadResult(loaded.size(), new ArrayList<>(failed), System.nanoTime() - start);
+    }
+
+    private static void scan(Path dir, List<Path> files, Queue<Path> failed) {
+        try (DirectoryStream<Path> entries = Files.newDirectoryStream(dir)) {
+            for (Path entry : entries) {
+                if (Files.isDirectory(entry)) {
+                    scan(entry, files, failed);
+                } else if (isAdvancementFile(entry)) {
+                    files.add(entry);
+                }
+            }
+        } catch (IOException ex) {
+            ex.printStackTrace();
+            failed.add(dir);
+        }
+    }
+
+    static boolean isAdvancementFile(Path file) {
+        String name = file.getFileName().toString();
+        return name.endsWith(EXTENSION) && !name.startsWith(".");
+    }
+
+    @SuppressWarnings("deprecation")
+    static NamespacedKey getId(Path folder, Path file) {
+        Path relative = folder.relativize(file);
+        StringBuilder key = new StringBuilder();
+        for (int i = 1; i < relative.getNameCount(); i++) {
+            if (key.length() > 0) {
+                key.append('/');
+            }
+            key.append(relative.getName(i));
+        }
+        key.setLength(key.length() - EXTENSION.length());
+        return new NamespacedKey(relative.getName(0).toString(), key.toString());
+    }
+
+    static Path getFile(Path folder, NamespacedKey id) {
+        return folder.resolve(id.getNamespace()).resolve(id.getKey() + EXTENSION);
+    }
+
+    static byte[] read(Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size > Integer.MAX_VALUE) {
+                throw new IOException("File too large: " + file);
+            }
+            byte[] bytes = new byte[(int) size];
+            if (size >= MAP_THRESHOLD) {
+                MappedByteBuffer mapped = channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+                mapped.get(bytes);
+                return bytes;
+            }
+            ByteBuffer buffer = buffers.get();
+            if (buffer.capacity() < size) {
+                buffer = ByteBuffer.allocate(Integer.highestOneBit((int) size) << 1);
+                buffers.set(buffer);
+            }
+            buffer.clear().limit((int) size);
+            while (buffer.hasRemaining() && channel.read(buffer) >= 0) {
+                // read until the buffer is full
+            }
+            buffer.flip();
+            if (buffer.remaining() != size) {
+                throw new IOException("File changed while reading: " + file);
+            }
+            buffer.get(bytes);
+            return bytes;
+        }
+    }
+
+    /**
+     * The result of loading advancement files.
+     * 
+     * @author Kaonashi97
+     */
+    public static class LoadResult {
+        private final int loaded;
+        private final List<Path> failed;
+        private final long nanos;
+
+        private LoadResult(int loaded, List<Path> failed, long nanos) {
+            this.loaded = loaded;
+            this.failed = Collections.unmodifiableList(failed);
+            this.nanos = nanos;
+        }
+
+        /**
+         * Returns the number of loaded advancements.
+         * 
+         * @return the number of advancements
+         */
+        public int getLoaded() {
+            return loaded;
+        }
+
+        /**
+         * Returns the files and directories which could not be loaded.
+         * 
+         * @return the failed paths
+         */
+        public List<Path> getFailed() {
+            return failed;
+        }
+
+        /**
+         * Returns the duration of loading.
+         * 
+         * @param unit the {@link TimeUnit} of the result
+         * @return the duration
+         */
+        public long getDuration(TimeUnit unit) {
+            return unit.convert(nanos, TimeUnit.NANOSECONDS);
+        }
+
+        @Override
+        public String toString() {
+            return "LoadResult[loaded=" + loaded + ", failed=" + failed.size() + ", millis="
+                    + getDuration(TimeUnit.MILLISECONDS) + "]";
+        }
+    }
+}
@@ -0,0 +1,363 @@
+package io.chazza.advancementapi.storage;
+
+import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.logging.Level;
+
+import org.bukkit.Bukkit;
+import org.bukkit.NamespacedKey;
+import org.bukkit.plugin.Plugin;
+import org.bukkit.scheduler.BukkitTask;
+
+import com.google.gson.JsonParseException;
+import com.google.gson.JsonParser;
+
+import io.chazza.advancementapi.AdvancementAPI;
+import io.chazza.advancementapi.AdvancementRegistry;
+
+/**
+ * Watches an advancements folder and reloads edited advancement files while
+ * the server is running.
+ * <p>
+ * A background thread waits for changes through a {@link WatchService} and
+ * re-parses only the changed file. Its Json is compared with the registered
+ * version, so saving a file without a change (or a change in formatting only)
+ * is ignored. The remaining changes are coalesced per advancement and applied
+ * on the main thread every {@link #interval(long) interval} ticks with a
+ * single {@link AdvancementRegistry#update(java.util.Collection,
+ * java.util.Collection) update}, which re-adds only the affected advancements
+ * and their descendants.
+ * <p>
+ * Files which can't be parsed (e.g. while still being written) are skipped
+ * with a warning, the next change of the file is picked up again. Deleting a
+ * directory removes all advancements below it. If the {@link WatchService}
+ * lost events, the directory is scanned again and advancements whose files
+ * are gone are removed.
+ * 
+ * <pre>
+ * AdvancementWatcher watcher = new AdvancementWatcher(plugin, folder, registry).start();
+ * </pre>
+ * 
+ * @author Kaonashi97
+ */
+public class AdvancementWatcher {
+    private static final String LOG_PREFIX = "[AdvancementAPI] ";
+
+    private final Plugin plugin;
+    private final Path folder;
+    private final AdvancementRegistry registry;
+    private final Map<NamespacedKey, Change> pending = new ConcurrentHashMap<>();
+    private final Map<WatchKey, Path> directories = new ConcurrentHashMap<>();
+    private long interval = 10L;
+    private WatchService watchService;
+    private BukkitTask task;
+
+    /**
+     * Creates a new watcher.
+     * 
+     * @param plugin the owning {@link Plugin}
+     * @param folder the advancements folder (e.g.
+     * <code>world/data/advancements</code>)
+     * @param registry the {@link AdvancementRegistry} holding the loaded
+     * advancements (see {@link AdvancementLoader})
+     */
+    public AdvancementWatcher(Plugin plugin, Path folder, AdvancementRegistry registry) {
+        this.plugin = plugin;
+        this.folder = folder.toAbsolutePath().normalize();
+        this.registry = registry;
+    }
+
+    /**
+     * Sets the number of ticks between applying the changes. Changes within
+     * this interval are coalesced. Defaults to 10.
+     * 
+     * @param interval the interval in ticks
+     * @return this watcher
+     */
+    public AdvancementWatcher interval(long interval) {
+        this.interval = Math.max(1L, interval);
+        return this;
+    }
+
+    /**
+     * Starts watching the folder and all of its subfolders.
+     * 
+     * @return this watcher
+     * @throws IOException if the folder can't be watched
+     */
+    public AdvancementWatcher start() throws IOException {
+        if (task != null) {
+            return this;
+        }
+        Files.createDirectories(folder);
+        watchService = folder.getFileSystem().newWatchService();
+        watch(folder);
+        Thread thread = new Thread(this::run, "AdvancementAPI-Watcher");
+        thread.setDaemon(true);
+        thread.start();
+        task = Bukkit.getScheduler().runTaskTimer(plugin, this::drain, interval, interval);
+        return this;
+    }
+
+    /**
+     * Stops watching. Pending changes are discarded.
+     */
+    public void stop() {
+        if (task != null) {
+            task.cancel();
+            task = null;
+        }
+        if (watchService != null) {
+            try {
+                watchService.close();
+            } catch (IOException ex) {
+                ex.printStackTrace();
+            }
+            watchService = null;
+        }
+        directories.clear();
+        pending.clear();
+    }
+
+    /**
+     * Applies all pending changes. Has to be called from the main thread.
+     * 
+     * @return the number of advancements added to the server
+     */
+    public int drain() {
+        int[] counts = drain0();
+        if (counts[0] + counts[1] > 0) {
+            Bukkit.getLogger().info(() -> LOG_PREFIX + "Reloaded " + counts[0] + " changed and " + counts[1]
+                    + " removed advancements (" + counts[2] + " re-added)");
+        }
+        return counts[2];
+    }
+
+    /**
+     * Applies all pending changes.
+     * 
+     * @return the number of changed, removed and re-added advancements
+     */
+    int[] drain0() {
+        if (pending.isEmpty()) {
+            return new int[3];
+        }
+        Map<NamespacedKey, Change> changes = new LinkedHashMap<>();
+        for (NamespacedKey id : new ArrayList<>(pending.keySet())) {
+            Change change = pending.remove(id);
+            if (change != null) {
+                changes.put(id, change);
+            }
+        }
+        List<AdvancementAPI> changed = new ArrayList<>();
+        List<NamespacedKey> removed = new ArrayList<>();
+        changes.forEach((id, change) -> {
+            if (change.advancement == null) {
+                if (registry.contains(id)) {
+                    removed.add(id);
+                }
+            } else if (isChanged(registry.get(id), change.advancement)) {
+                changed.add(change.advancement);
+            } else {
+                // keep the formatting of the file without touching the server
+                registry.register(change.advancement);
+            }
+        });
+        if (changed.isEmpty() && removed.isEmpty()) {
+            return new int[3];
+        }
+        return new int[] { changed.size(), removed.size(), registry.update(changed, removed) };
+    }
+
+    /**
+     * Handles a changed or deleted file. Called from the watcher thread.
+     * 
+     * @param file the file
+     */
+    void onChange(Path file) {
+        if (!AdvancementLoader.isAdvancementFile(file) || folder.relativize(file).getNameCount() < 2) {
+            return;
+        }
+        NamespacedKey id;
+        try {
+            id = AdvancementLoader.getId(folder, file);
+        } catch (IllegalArgumentException ex) {
+            Bukkit.getLogger().warning(() -> LOG_PREFIX + "Skipping advancement file with invalid name " + file);
+            return;
+        }
+        if (!Files.exists(file)) {
+            pending.put(id, new Change(null));
+            return;
+        }
+        try {
+            pending.put(id, new Change(AdvancementAPI.fromJson(id, AdvancementLoader.read(file))));
+        } catch (IOException | JsonParseException ex) {
+            Bukkit.getLogger().warning(() -> LOG_PREFIX + "Skipping invalid advancement file " + file + ": "
+                    + ex.getMessage());
+        }
+    }
+
+    /**
+     * Handles a deleted directory by removing all advancements below it,
+     * including the ones with pending changes. Called from the watcher thread.
+     * 
+     * @param dir the directory
+     */
+    void onDelete(Path dir) {
+        directories.values().removeIf(watched -> watched.startsWith(dir));
+        if (dir.equals(folder)) {
+            return;
+        }
+        for (NamespacedKey id : getIds(dir)) {
+            pending.put(id, new Change(null));
+        }
+    }
+
+    /**
+     * Handles all files below the directory as changed, e.g. after events
+     * were lost. Unchanged files are filtered when applying the changes.
+     * Advancements below the directory whose files are gone are removed.
+     * Called from the watcher thread.
+     * 
+     * @param dir the directory
+     */
+    void rescan(Path dir) {
+        scan(dir);
+        for (NamespacedKey id : getIds(dir)) {
+            if (!Files.exists(AdvancementLoader.getFile(folder, id))) {
+                pending.put(id, new Change(null));
+            }
+        }
+    }
+
+    /**
+     * Returns the ids of the registered advancements and the ones with pending
+     * changes whose files are below the directory.
+     */
+    private List<NamespacedKey> getIds(Path dir) {
+        Path relative = folder.relativize(dir);
+        List<NamespacedKey> ids = new ArrayList<>(pending.keySet());
+        registry.getAdvancements().forEach(advancement -> ids.add(advancement.getId()));
+        if (relative.toString().isEmpty()) {
+            return ids;
+        }
+        String namespace = relative.getName(0).toString();
+        StringBuilder prefix = new StringBuilder();
+        for (int i = 1; i < relative.getNameCount(); i++) {
+            prefix.append(relative.getName(i)).append('/');
+        }
+        ids.removeIf(id -> !id.getNamespace().equals(namespace) || !id.getKey().startsWith(prefix.toString()));
+        return ids;
+    }
+
+    private static boolean isChanged(AdvancementAPI previous, AdvancementAPI advancement) {
+        if (previous == null) {
+            return true;
+        }
+        if (previous.getJsonBytes().equals(advancement.getJsonBytes())) {
+            return false;
+        }
+        // ignore changes in formatting only
+        JsonParser parser = new JsonParser();
+        return !parser.parse(previous.getJson()).equals(parser.parse(advancement.getJson()));
+    }
+
+    private void run() {
+        WatchService service = watchService;
+        try {
+            while (true) {
+                WatchKey key = service.take();
+                Path dir = directories.get(key);
+                for (WatchEvent<?> event : key.pollEvents()) {
+                    if (dir == null) {
+                        continue;
+                    }
+                    // a single broken event must not stop the watcher
+                    try {
+                        onEvent(dir, event);
+                    } catch (ClosedWatchServiceException ex) {
+                        throw ex;
+                    } catch (IOException | RuntimeException ex) {
+                        Bukkit.getLogger().log(Level.WARNING, LOG_PREFIX + "Error on handling a change in " + dir, ex);
+                    }
+                }
+                if (!key.reset()) {
+                    directories.remove(key);
+                }
+            }
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        } catch (ClosedWatchServiceException ex) {
+            // stopped
+        }
+    }
+
+    private void onEvent(Path dir, WatchEvent<?> event) throws IOException {
+        if (event.kind() == StandardWatchEventKinds.OVERFLOW) {
+            rescan(dir);
+            return;
+        }
+        Path file = dir.resolve((Path) event.context());
+        if (event.kind() == StandardWatchEventKinds.ENTRY_CREATE && Files.isDirectory(file)) {
+            watch(file);
+            rescan(file);
+        } else if (event.kind() == StandardWatchEventKinds.ENTRY_DELETE && directories.containsValue(file)) {
+            onDelete(file);
+        } else {
+            onChange(file);
+        }
+    }
+
+    private void watch(Path dir) throws IOException {
+        //@formatter:off
+        WatchKey key = dir.register(watchService,
+                StandardWatchEventKinds.ENTRY_CREATE,
+                StandardWatchEventKinds.ENTRY_MODIFY,
+                StandardWatchEventKinds.ENTRY_DELETE);
+        //@formatter:on
+        directories.put(key, dir);
+        try (DirectoryStream<Path> children = Files.newDirectoryStream(dir, Files::isDirectory)) {
+            for (Path child : children) {
+                watch(child);
+            }
+        }
+    }
+
+    private void scan(Path dir) {
+        try (DirectoryStream<Path> children = Files.newDirectoryStream(dir)) {
+            for (Path child : children) {
+                if (Files.isDirectory(child)) {
+                    scan(child);
+                } else {
+                    try {
+                        onChange(child);
+                    } catch (RuntimeException ex) {
+                        ex.printStackTrace();
+                    }
+                }
+            }
+        } catch (IOException ex) {
+            ex.printStackTrace();
+        }
+    }
+
+    private static class Change {
+        private final AdvancementAPI advancement;
+
+        private Change(AdvancementAPI advancement) {
+            this.advancement = advancement;
+        }
+    }
+}
@@ -0,0 +1,143 @@
+package io.chazza.advancementapi.storage;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Writes files atomically.
+ * <p>
+ * The content is written to a temporary file in the target directory first,
+ * which is then moved over the target file. So a crash while writing never
+ * leaves a truncated file behind. The temporary file is created with the
+ * default permissions (so the umask applies as for any other file). Optionally
+ * the temporary file is synced to the disk before moving it, and the directory
+ * after moving it. The number and latency of writes are collected in
+ * {@link WriteMetrics}.
+ * 
+ * @author Kaonashi97
+ */
+public class AtomicFileWriter {
+    private final boolean fsync;
+    private final WriteMetrics metrics = new WriteMetrics();
+
+    /**
+     * Creates a new writer.
+     * 
+     * @param fsync <code>true</code> to sync the content to the disk before
+     * replacing the target file and the directory afterwards
+     */
+    public AtomicFileWriter(boolean fsync) {
+        this.fsync = fsync;
+    }
+
+    /**
+     * Returns whether the content is synced to the disk before replacing the
+     * target file.
+     * 
+     * @return <code>true</code> if the content is synced
+     */
+    public boolean isFsync() {
+        return fsync;
+    }
+
+    /**
+     * Returns the metrics of this writer.
+     * 
+     * @return the {@link WriteMetrics}
+     */
+    public WriteMetrics getMetrics() {
+        return metrics;
+    }
+
+    /**
+     * Writes the content to the file. Missing parent directories are created.
+     * 
+     * @param file the target file
+     * @param content the content, its position is not changed
+     * @throws IOException if writing fails
+     */
+    public void write(Path file, ByteBuffer content) throws IOException {
+        write(file, content, true);
+    }
+
+    /**
+     * Writes the content to the file.
+     * 
+     * @param file the target file
+     * @param content the content, its position is not changed
+     * @param createDirectories <code>false</code> if the parent directory is
+     * known to exist (e.g. when writing many files into the same directory)
+     * @throws IOException if writing fails
+     */
+    public void write(Path file, ByteBuffer content, boolean createDirectories) throws IOException {
+        long start = System.nanoTime();
+        ByteBuffer data = content.duplicate();
+        int size = data.remaining();
+        Path dir = file.toAbsolutePath().getParent();
+        Path tmp = null;
+        try {
+            if (createDirectories) {
+                Files.createDirectories(dir);
+            }
+            // not Files.createTempFile, which restricts the file to its owner
+            FileChannel channel = null;
+            while (channel == null) {
+                tmp = dir.resolve("." + file.getFileName() + "."
+                        + Long.toHexString(ThreadLocalRandom.current().nextLong()) + ".tmp");
+                try {
+                    channel = FileChannel.open(tmp, StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE);
+                } catch (FileAlreadyExistsException ex) {
+                    tmp = null;
+                }
+            }
+            try {
+                while (data.hasRemaining()) {
+                    channel.write(data);
+                }
+                if (fsync) {
+                    channel.force(true);
+                }
+            } finally {
+                channel.close();
+            }
+            try {
+                Files.move(tmp, file, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            } catch (AtomicMoveNotSupportedException ex) {
+                Files.move(tmp, file, StandardCopyOption.REPLACE_EXISTING);
+            }
+            tmp = null;
+            if (fsync) {
+                syncDirectory(dir);
+            }
+        } catch (IOException ex) {
+            metrics.recordFailure();
+            throw ex;
+        } finally {
+            if (tmp != null) {
+                Files.deleteIfExists(tmp);
+            }
+        }
+        metrics.record(size, System.nanoTime() - start);
+    }
+
+    /**
+     * Syncs the directory, so the rename is durable as well.
+     * 
+     * @param dir the directory
+     */
+    private static void syncDirectory(Path dir) {
+        try (FileChannel channel = FileChannel.open(dir, StandardOpenOption.READ)) {
+            channel.force(true);
+        } catch (IOException ex) {
+            // directories cannot be opened on every platform (e.g. Windows)
+        }
+    }
+}
@@ -0,0 +1,435 @@
+package io.chazza.advancementapi.storage;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import io.chazza.advancementapi.storage.ContentIndex.Status;
+
+/**
+ * Writes many files at once.
+ * <p>
+ * A batch runs in three steps:
+ * <ol>
+ * <li>the contents are serialized in parallel on the common
+ * {@link java.util.concurrent.ForkJoinPool ForkJoinPool},</li>
+ * <li>each parent directory is created once,</li>
+ * <li>the files are written through the {@link AtomicFileWriter} by a bounded
+ * number of threads, so the disk is not flooded with concurrent writes.</li>
+ * </ol>
+ * A failing file does not abort the batch, it is reported in the
+ * {@link SaveResult} instead. With a {@link ContentIndex} unchanged files are
+ * skipped, the contents are hashed in the first step as well.
+ * <p>
+ * Writing is additive, files which are not part of a batch are kept. Only the
+ * <code>replaceAll</code> methods treat a batch as the complete content of its
+ * directories and delete the indexed files which are not part of it anymore.
+ * If the calling thread is interrupted, the files which were not written yet
+ * are reported as failed and the {@link ContentIndex} is neither cleaned up
+ * nor saved.
+ * 
+ * <pre>
+ * SaveResult&lt;AdvancementAPI&gt; result = AdvancementAPI.saveAll(world, advancements);
+ * </pre>
+ * 
+ * @author Kaonashi97
+ */
+public class BatchWriter {
+    private final AtomicFileWriter writer;
+    private final int parallelism;
+    private final ContentIndex index;
+
+    /**
+     * Creates a new batch writer.
+     * 
+     * @param writer the {@link AtomicFileWriter} for writing the files
+     * @param parallelism the maximum number of concurrent writes
+     */
+    public BatchWriter(AtomicFileWriter writer, int parallelism) {
+        this(writer, parallelism, null);
+    }
+
+    /**
+     * Creates a new batch writer which skips unchanged files.
+     * 
+     * @param writer the {@link AtomicFileWriter} for writing the files
+     * @param parallelism the maximum number of concurrent writes
+     * @param index the {@link ContentIndex} or <code>null</code> for writing
+     * all files
+     */
+    public BatchWriter(AtomicFileWriter writer, int parallelism, ContentIndex index) {
+        if (parallelism < 1) {
+            throw new IllegalArgumentException("parallelism must be at least 1");
+        }
+        this.writer = writer;
+        this.parallelism = parallelism;
+        this.index = index;
+    }
+
+    /**
+     * Returns the default number of concurrent writes, which is the number of
+     * available processors but at most 4.
+     * 
+     * @return the parallelism
+     */
+    public static int defaultParallelism() {
+        return Math.min(4, Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * Writes a file for each element.
+     * 
+     * @param <T> the type of the elements
+     * @param elements the elements
+     * @param paths the function returning the file of an element
+     * @param contents the function serializing an element, called in parallel
+     * @return the {@link SaveResult}
+     */
+    public <T> SaveResult<T> writeAll(Collection<? extends T> elements, Function<? super T, Path> paths,
+            Function<? super T, ByteBuffer> contents) {
+        return writeAll(elements, paths, contents, false);
+    }
+
+    /**
+     * Writes a file for each element like
+     * {@link #writeAll(Collection, Function, Function)} and deletes the files
+     * of the {@link ContentIndex} in the directories of the batch which are not
+     * part of it anymore. Without an index nothing is deleted.
+     * 
+     * @param <T> the type of the elements
+     * @param elements the elements
+     * @param paths the function returning the file of an element
+     * @param contents the function serializing an element, called in parallel
+     * @return the {@link SaveResult}
+     */
+    public <T> SaveResult<T> replaceAll(Collection<? extends T> elements, Function<? super T, Path> paths,
+            Function<? super T, ByteBuffer> contents) {
+        return writeAll(elements, paths, contents, true);
+    }
+
+    private <T> SaveResult<T> writeAll(Collection<? extends T> elements, Function<? super T, Path> paths,
+            Function<? super T, ByteBuffer> contents, boolean replace) {
+        long start = System.nanoTime();
+        List<Content<T>> serialized = serialize(elements, contents, index != null);
+        Target<T> target = new Target<>(index);
+        List<Job<T>> jobs = new ArrayList<>(serialized.size());
+        for (Content<T> content : serialized) {
+            jobs.add(new Job<>(target, content, paths.apply(content.element)));
+        }
+        write(jobs, Collections.singletonList(target), replace);
+        return target.toResult(System.nanoTime() - start);
+    }
+
+    /**
+     * Writes a file for each element into each of the folders, e.g. for
+     * keeping the same advancements in multiple worlds.
+     * <p>
+     * Each element is serialized and hashed only once, the same content is
+     * then written to all folders by the same bounded number of threads. Each
+     * folder uses its own {@link ContentIndex#of(Path) ContentIndex}
+     * regardless of the index of this writer, so unchanged files are skipped.
+     * 
+     * @param <T> the type of the elements
+     * @param folders the target folders
+     * @param elements the elements
+     * @param files the function returning the path of an element's file
+     * relative to a folder, using <code>/</code> as separator
+     * @param contents the function serializing an element, called in parallel
+     * @return the {@link SaveResult} of each folder
+     */
+    public <T> Map<Path, SaveResult<T>> writeAll(Collection<Path> folders, Collection<? extends T> elements,
+            Function<? super T, String> files, Function<? super T, ByteBuffer> contents) {
+        return writeAll(folders, elements, files, contents, false);
+    }
+
+    /**
+     * Writes a file for each element into each of the folders like
+     * {@link #writeAll(Collection, Collection, Function, Function)} and deletes
+     * the indexed files in the directories of the batch which are not part of
+     * it anymore, e.g. for replacing a whole catalog.
+     * 
+     * @param <T> the type of the elements
+     * @param folders the target folders
+     * @param elements the elements
+     * @param files the function returning the path of an element's file
+     * relative to a folder, using <code>/</code> as separator
+     * @param contents the function serializing an element, called in parallel
+     * @return the {@link SaveResult} of each folder
+     */
+    public <T> Map<Path, SaveResult<T>> replaceAll(Collection<Path> folders, Collection<? extends T> elements,
+            Function<? super T, String> files, Function<? super T, ByteBuffer> contents) {
+        return writeAll(folders, elements, files, contents, true);
+    }
+
+    private <T> Map<Path, SaveResult<T>> writeAll(Collection<Path> folders, Collection<? extends T> elements,
+            Function<? super T, String> files, Function<? super T, ByteBuffer> contents, boolean replace) {
+        long start = System.nanoTime();
+        List<Content<T>> serialized = serialize(elements, contents, true);
+        Map<Path, Target<T>> targets = new LinkedHashMap<>();
+        List<Job<T>> jobs = new ArrayList<>(serialized.size() * folders.size());
+        for (Path folder : folders) {
+            Target<T> target = new Target<>(ContentIndex.of(folder));
+            targets.put(folder, target);
+            for (Content<T> content : serialized) {
+                jobs.add(new Job<>(target, content, folder.resolve(files.apply(content.element))));
+            }
+        }
+        write(jobs, targets.values(), replace);
+        long nanos = System.nanoTime() - start;
+        Map<Path, SaveResult<T>> results = new LinkedHashMap<>();
+        targets.forEach((folder, target) -> results.put(folder, target.toResult(nanos)));
+        return results;
+    }
+
+    /**
+     * Deletes the files from each of the folders and removes them from the
+     * {@link ContentIndex#of(Path) ContentIndex} of each folder. Each index is
+     * written only once.
+     * 
+     * @param folders the folders
+     * @param files the paths of the files relative to a folder, using
+     * <code>/</code> as separator
+     * @return the number of deleted files
+     */
+    public int deleteAll(Collection<Path> folders, Collection<String> files) {
+        int deleted = 0;
+        for (Path folder : folders) {
+            ContentIndex folderIndex = ContentIndex.of(folder);
+            boolean indexed = false;
+            for (String name : files) {
+                Path file = folder.resolve(name);
+                indexed |= folderIndex.remove(file);
+                try {
+                    if (Files.deleteIfExists(file)) {
+                        deleted++;
+                    }
+                } catch (IOException ex) {
+                    ex.printStackTrace();
+                }
+            }
+            if (indexed) {
+                saveIndex(folderIndex);
+            }
+        }
+        return deleted;
+    }
+
+    private static <T> List<Content<T>> serialize(Collection<? extends T> elements,
+            Function<? super T, ByteBuffer> contents, boolean hash) {
+        //@formatter:off
+        return elements.parallelStream()
+                .map(element -> new Content<T>(element, contents.apply(element), hash))
+                .collect(Collectors.toList());
+        //@formatter:on
+    }
+
+    private <T> void write(List<Job<T>> jobs, Collection<Target<T>> targets, boolean replace) {
+        Set<Path> failedDirs = new HashSet<>();
+        for (Job<T> job : jobs) {
+            Path dir = job.file.getParent();
+            if (job.target.dirs.add(dir) && !failedDirs.contains(dir)) {
+                try {
+                    Files.createDirectories(dir);
+                } catch (IOException ex) {
+                    ex.printStackTrace();
+                    failedDirs.add(dir);
+                }
+            }
+            job.target.files.add(job.file);
+        }
+
+        AtomicInteger next = new AtomicInteger();
+        Callable<Void> worker = () -> {
+            for (int i = next.getAndIncrement(); i < jobs.size()
+                    && !Thread.currentThread().isInterrupted(); i = next.getAndIncrement()) {
+                Job<T> job = jobs.get(i);
+                Target<T> target = job.target;
+                if (failedDirs.contains(job.file.getParent())) {
+                    if (job.finish()) {
+                        target.failed.add(job.content.element);
+                    }
+                    continue;
+                }
+                ByteBuffer content = job.content.content;
+                int size = content.remaining();
+                //@formatter:off
+                Status status = target.index == null
+                        ? Status.CHANGED
+                        : target.index.check(job.file, job.content.hash, size);
+                //@formatter:on
+                if (status == Status.UNCHANGED) {
+                    if (job.finish()) {
+                        target.unchanged.incrementAndGet();
+                    }
+                    continue;
+                }
+                try {
+                    writer.write(job.file, content, false);
+                    if (job.finish()) {
+                        (status == Status.NEW ? target.created : target.changed).incrementAndGet();
+                        target.bytes.add(size);
+                        if (target.index != null) {
+                            target.index.put(job.file, job.content.hash, size);
+                        }
+                    }
+                } catch (IOException ex) {
+                    ex.printStackTrace();
+                    if (job.finish()) {
+                        target.failed.add(job.content.element);
+                    }
+                }
+            }
+            return null;
+        };
+        if (!run(worker, Math.min(parallelism, jobs.size()))) {
+            // interrupted, the unfinished jobs are failures and the index is left alone
+            next.set(jobs.size());
+            for (Job<T> job : jobs) {
+                if (job.finish()) {
+                    job.target.failed.add(job.content.element);
+                }
+            }
+            return;
+        }
+
+        for (Target<T> target : targets) {
+            if (target.index != null) {
+                if (replace) {
+                    //@formatter:off
+                    target.deleted = target.index.deleteStale(file -> target.dirs.contains(file.getParent())
+                            && !target.files.contains(file));
+                    //@formatter:on
+                }
+                saveIndex(target.index);
+            }
+        }
+    }
+
+    private void saveIndex(ContentIndex contentIndex) {
+        try {
+            contentIndex.save(writer);
+        } catch (IOException ex) {
+            ex.printStackTrace();
+        }
+    }
+
+    // false if the calling thread was interrupted, the flag stays set
+    private static boolean run(Callable<Void> worker, int threads) {
+        if (threads <= 1) {
+            try {
+                worker.call();
+            } catch (Exception ex) {
+                throw new IllegalStateException(ex);
+            }
+            return !Thread.currentThread().isInterrupted();
+        }
+        ExecutorService executor = Executors.newFixedThreadPool(threads, runnable -> {
+            Thread thread = new Thread(runnable, "AdvancementAPI-BatchWriter");
+            thread.setDaemon(true);
+            return thread;
+        });
+        try {
+            List<Callable<Void>> workers = new ArrayList<>();
+            for (int i = 0; i < threads; i++) {
+                workers.add(worker);
+            }
+            for (Future<Void> future : executor.invokeAll(workers)) {
+                future.get();
+            }
+            return true;
+        } catch (InterruptedException ex) {
+            // the workers finish the file they are writing, so the result matches the disk
+            executor.shutdownNow();
+            awaitTermination(executor);
+            Thread.currentThread().interrupt();
+            return false;
+        } catch (ExecutionException ex) {
+            throw new IllegalStateException(ex.getCause());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private static void awaitTermination(ExecutorService executor) {
+        while (!executor.isTerminated()) {
+            try {
+                executor.awaitTermination(1L, TimeUnit.SECONDS);
+            } catch (InterruptedException ex) {
+                // interrupted again, the flag is set by the caller
+            }
+        }
+    }
+
+    private static class Content<T> {
+        private final T element;
+        private final ByteBuffer content;
+        private final String hash;
+
+        private Content(T element, ByteBuffer content, boolean hash) {
+            this.element = element;
+            this.content = content;
+            this.hash = hash ? ContentIndex.hash(content) : null;
+        }
+    }
+
+    private static class Job<T> {
+        private final Target<T> target;
+        private final Content<T> content;
+        private final Path file;
+        private final AtomicBoolean finished = new AtomicBoolean();
+
+        private Job(Target<T> target, Content<T> content, Path file) {
+            this.target = target;
+            this.content = content;
+            this.file = file.toAbsolutePath().normalize();
+        }
+
+        // only the first caller reports the result
+        private boolean finish() {
+            return finished.compareAndSet(false, true);
+        }
+    }
+
+    private static class Target<T> {
+        private final ContentIndex index;
+        private final Set<Path> dirs = new HashSet<>();
+        private final Set<Path> files = new HashSet<>();
+        private final AtomicInteger created = new AtomicInteger();
+        private final AtomicInteger changed = new AtomicInteger();
+        private final AtomicInteger unchanged = new AtomicInteger();
+        private final LongAdder bytes = new LongAdder();
+        private final Queue<T> failed = new ConcurrentLinkedQueue<>();
+        private int deleted;
+
+        private Target(ContentIndex index) {
+            this.index = index;
+        }
+
+        private SaveResult<T> toResult(long nanos) {
+            return new SaveResult<>(created.get(), changed.get(), unchanged.get(), deleted, new ArrayList<>(failed),
+                    bytes.sum(), nanos);
+        }
+    }
+}
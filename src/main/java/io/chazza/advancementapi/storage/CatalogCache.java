@@ -0,0 +1,341 @@
+package io.chazza.advancementapi.storage;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+import java.util.zip.CRC32;
+
+import org.bukkit.NamespacedKey;
+
+import com.google.gson.Gson;
+
+import io.chazza.advancementapi.AdvancementAPI;
+import io.chazza.advancementapi.AdvancementRegistry;
+
+/**
+ * A binary cache of a whole advancement catalog for a fast startup.
+ * <p>
+ * The cache stores the frozen catalog: a string table with all namespaces,
+ * keys and external parents, one entry per advancement with a dense id, the
+ * index of its parent entry and its pre-rendered compact Json. The entries are
+ * sorted parent-first, so restoring the catalog only registers the entries in
+ * file order. The file is read with a single memory-mapped read and the Json
+ * is not parsed again, it is handed to the server as it is.
+ * <p>
+ * The cache is valid for one library version and one source hash, e.g. the
+ * hash of the Json files the catalog is loaded from (see
+ * {@link #hashTree(Path)}) or a version of the code building it. The default
+ * library version includes the {@link AdvancementAPI#JSON_VERSION}, so a
+ * change of the rendered Json invalidates the cache. If either does not
+ * match, or the file is missing or corrupt, the catalog has to be rebuilt
+ * (see {@link #loadOrBuild(AdvancementRegistry, String, Supplier)}).
+ * Catalogs with parent cycles are not cached.
+ * 
+ * <pre>
+ * CatalogCache cache = new CatalogCache(plugin.getDataFolder().toPath().resolve("catalog.bin"));
+ * cache.loadOrBuild(registry, CatalogCache.hashTree(folder), () -&gt; buildCatalog());
+ * registry.addAll();
+ * </pre>
+ * 
+ * @author Kaonashi97
+ */
+public class CatalogCache {
+    /**
+     * The version of the binary format.
+     */
+    public static final int FORMAT_VERSION = 1;
+
+    private static final int MAGIC = 0x41415043;
+    private static final String DEFAULT_LIBRARY_VERSION = "dev";
+    private static final int NO_PARENT = -1;
+    private static final Gson gson = new Gson();
+
+    private final Path file;
+    private final String libraryVersion;
+
+    /**
+     * Creates a new cache for the current library version and
+     * {@link AdvancementAPI#JSON_VERSION}.
+     * 
+     * @param file the cache file
+     */
+    public CatalogCache(Path file) {
+        this(file, getLibraryVersion(AdvancementAPI.JSON_VERSION));
+    }
+
+    /**
+     * Creates a new cache.
+     * 
+     * @param file the cache file
+     * @param libraryVersion the library version the cache is valid for
+     */
+    public CatalogCache(Path file, String libraryVersion) {
+        this.file = file;
+        this.libraryVersion = libraryVersion;
+    }
+
+    static String getLibraryVersion(int jsonVersion) {
+        String version = AdvancementAPI.class.getPackage().getImplementationVersion();
+        // the implementation version is missing in development builds
+        return (version == null ? DEFAULT_LIBRARY_VERSION : version) + "+json" + jsonVersion;
+    }
+
+    /**
+     * Returns the cache file.
+     * 
+     * @return the file
+     */
+    public Path getFile() {
+        return file;
+    }
+
+    /**
+     * Restores the catalog into the registry if the cache is valid for the
+     * source hash, or else builds the catalog, registers it and writes the
+     * cache.
+     * 
+     * @param registry the {@link AdvancementRegistry}
+     * @param sourceHash the hash of the catalog's source
+     * @param builder the builder of the catalog, called on a cache miss only
+     * @return <code>true</code> if the catalog was restored from the cache
+     */
+    public boolean loadOrBuild(AdvancementRegistry registry, String sourceHash,
+            Supplier<? extends Collection<AdvancementAPI>> builder) {
+        if (load(registry, sourceHash)) {
+            return true;
+        }
+        Collection<AdvancementAPI> advancements = builder.get();
+        advancements.forEach(registry::register);
+        try {
+            write(advancements, sourceHash);
+        } catch (IOException | IllegalArgumentException ex) {
+            ex.printStackTrace();
+        }
+        return false;
+    }
+
+    /**
+     * Restores the catalog into the registry. Nothing is registered if the
+     * cache is missing, corrupt or not valid for the library version and the
+     * source hash.
+     * 
+     * @param registry the {@link AdvancementRegistry}
+     * @param sourceHash the hash of the catalog's source
+     * @return <code>true</code> if the catalog was restored
+     */
+    public boolean load(AdvancementRegistry registry, String sourceHash) {
+        List<AdvancementAPI> advancements;
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            advancements = read(buffer, sourceHash);
+        } catch (NoSuchFileException ex) {
+            return false;
+        } catch (IOException ex) {
+            ex.printStackTrace();
+            return false;
+        }
+        if (advancements == null) {
+            return false;
+        }
+        advancements.forEach(registry::register);
+        return true;
+    }
+
+    @SuppressWarnings("deprecation")
+    private List<AdvancementAPI> read(ByteBuffer buffer, String sourceHash) {
+        try {
+            if (buffer.getInt() != MAGIC || buffer.getInt() != FORMAT_VERSION
+                    || !libraryVersion.equals(readString(buffer)) || !sourceHash.equals(readString(buffer))) {
+                return null;
+            }
+            long checksum = buffer.getLong();
+            CRC32 crc = new CRC32();
+            crc.update(buffer.duplicate());
+            if (crc.getValue() != checksum) {
+                return null;
+            }
+
+            String[] strings = new String[checkLength(buffer, buffer.getInt())];
+            for (int i = 0; i < strings.length; i++) {
+                strings[i] = readString(buffer);
+            }
+            AdvancementAPI[] advancements = new AdvancementAPI[checkLength(buffer, buffer.getInt())];
+            for (int i = 0; i < advancements.length; i++) {
+                NamespacedKey id = new NamespacedKey(strings[buffer.getInt()], strings[buffer.getInt()]);
+                int parent = buffer.getInt();
+                String parentId = null;
+                if (parent >= 0) {
+                    parentId = advancements[parent].getId().toString();
+                } else if (parent != NO_PARENT) {
+                    parentId = strings[-parent - 2];
+                }
+                byte[] json = new byte[checkLength(buffer, buffer.getInt())];
+                buffer.get(json);
+                advancements[i] = AdvancementAPI.fromJson(id, parentId, json);
+            }
+            return Arrays.asList(advancements);
+        } catch (BufferUnderflowException | IndexOutOfBoundsException ex) {
+            return null;
+        }
+    }
+
+    /**
+     * Writes the catalog into the cache file.
+     * 
+     * @param advancements the advancements
+     * @param sourceHash the hash of the catalog's source
+     * @throws IOException if writing fails
+     * @throws IllegalArgumentException if parents of the advancements form a
+     * cycle, see {@link AdvancementRegistry#getCyclic()}
+     */
+    public void write(Collection<AdvancementAPI> advancements, String sourceHash) throws IOException {
+        AdvancementRegistry sorted = new AdvancementRegistry();
+        advancements.forEach(sorted::register);
+        List<AdvancementAPI> cyclic = sorted.getCyclic();
+        if (!cyclic.isEmpty()) {
+            // the cache would silently drop them on the next start
+            List<NamespacedKey> ids = new ArrayList<>(cyclic.size());
+            cyclic.forEach(advancement -> ids.add(advancement.getId()));
+            throw new IllegalArgumentException("Advancements with a parent cycle can't be cached: " + ids);
+        }
+        List<AdvancementAPI> entries = sorted.getSorted();
+
+        Map<String, Integer> strings = new HashMap<>();
+        List<String> table = new ArrayList<>();
+        Map<String, Integer> ids = new HashMap<>();
+        ByteArrayOutputStream body = new ByteArrayOutputStream(entries.size() * 256);
+        DataOutputStream out = new DataOutputStream(body);
+        out.writeInt(entries.size());
+        for (AdvancementAPI advancement : entries) {
+            out.writeInt(intern(advancement.getId().getNamespace(), strings, table));
+            out.writeInt(intern(advancement.getId().getKey(), strings, table));
+            out.writeInt(getParent(advancement, ids, strings, table));
+            byte[] json = gson.toJson(advancement.toJson()).getBytes(StandardCharsets.UTF_8);
+            out.writeInt(json.length);
+            out.write(json);
+            ids.put(advancement.getId().toString(), ids.size());
+        }
+
+        ByteArrayOutputStream payload = new ByteArrayOutputStream(body.size() + table.size() * 16);
+        DataOutputStream payloadOut = new DataOutputStream(payload);
+        payloadOut.writeInt(table.size());
+        for (String string : table) {
+            writeString(payloadOut, string);
+        }
+        body.writeTo(payloadOut);
+        payloadOut.flush();
+        byte[] payloadBytes = payload.toByteArray();
+        CRC32 crc = new CRC32();
+        crc.update(payloadBytes);
+
+        ByteArrayOutputStream file = new ByteArrayOutputStream(payloadBytes.length + 128);
+        DataOutputStream fileOut = new DataOutputStream(file);
+        fileOut.writeInt(MAGIC);
+        fileOut.writeInt(FORMAT_VERSION);
+        writeString(fileOut, libraryVersion);
+        writeString(fileOut, sourceHash);
+        fileOut.writeLong(crc.getValue());
+        fileOut.write(payloadBytes);
+        fileOut.flush();
+        AdvancementAPI.getFileWriter().write(this.file, ByteBuffer.wrap(file.toByteArray()));
+    }
+
+    private static int getParent(AdvancementAPI advancement, Map<String, Integer> ids, Map<String, Integer> strings,
+            List<String> table) {
+        String parent = advancement.getParent();
+        if (parent == null) {
+            return NO_PARENT;
+        }
+        Integer index = ids.get(parent.indexOf(':') < 0 ? "minecraft:" + parent : parent);
+        return index != null ? index : -intern(parent, strings, table) - 2;
+    }
+
+    private static int intern(String string, Map<String, Integer> strings, List<String> table) {
+        Integer index = strings.get(string);
+        if (index == null) {
+            index = table.size();
+            strings.put(string, index);
+            table.add(string);
+        }
+        return index;
+    }
+
+    private static void writeString(DataOutputStream out, String string) throws IOException {
+        byte[] bytes = string.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    private static int checkLength(ByteBuffer buffer, int length) {
+        if (length < 0 || length > buffer.remaining()) {
+            throw new BufferUnderflowException();
+        }
+        return length;
+    }
+
+    private static String readString(ByteBuffer buffer) {
+        byte[] bytes = new byte[checkLength(buffer, buffer.getInt())];
+        buffer.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Hashes the advancement files below the folder by their paths, sizes and
+     * modification times, without reading them.
+     * 
+     * @param folder the advancements folder (e.g.
+     * <code>world/data/advancements</code>)
+     * @return the hash
+     * @throws IOException if the folder can't be read
+     */
+    public static String hashTree(Path folder) throws IOException {
+        MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException ex) {
+            throw new IllegalStateException(ex);
+        }
+        List<Path> files = new ArrayList<>();
+        if (Files.isDirectory(folder)) {
+            collect(folder, files);
+        }
+        files.sort(null);
+        for (Path path : files) {
+            String entry = folder.relativize(path) + "|" + Files.size(path) + "|"
+                    + Files.getLastModifiedTime(path).toMillis() + "\n";
+            digest.update(entry.getBytes(StandardCharsets.UTF_8));
+        }
+        return ContentIndex.toHex(digest.digest());
+    }
+
+    private static void collect(Path dir, List<Path> files) throws IOException {
+        try (DirectoryStream<Path> entries = Files.newDirectoryStream(dir)) {
+            for (Path entry : entries) {
+                if (Files.isDirectory(entry)) {
+                    collect(entry, files);
+                } else if (AdvancementLoader.isAdvancementFile(entry)) {
+                    files.add(entry);
+                }
+            }
+        }
+    }
+}
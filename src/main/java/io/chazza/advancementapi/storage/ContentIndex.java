@@ -0,0 +1,377 @@
+package io.chazza.advancementapi.storage;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Predicate;
+
+/**
+ * A sidecar index of the content hashes of the files written below a
+ * directory.
+ * <p>
+ * Before writing a file, its content is hashed and compared with the index. If
+ * the hash did not change and the file on the disk still has the recorded size
+ * and modification time, the write is skipped, so unchanged files keep their
+ * modification time. A file modified by someone else is hashed again.
+ * <p>
+ * The index is stored in the file <code>.advancementapi-index</code> within the
+ * directory. Batches rewrite it once with {@link #save(AtomicFileWriter)},
+ * single files are appended to it with {@link #append(Path, AtomicFileWriter)}
+ * and the appended lines are compacted from time to time.
+ * <p>
+ * Only files recorded in the index are ever deleted by
+ * {@link #deleteStale(Predicate)}, files which were not written through the
+ * index are not touched. All methods are thread-safe, the index file is
+ * written by one thread per directory at a time.
+ * <p>
+ * The indices are kept until {@link #evict(Path)} is called, e.g. by the
+ * {@link ContentIndexListener} when a world is unloaded.
+ * 
+ * @author Kaonashi97
+ */
+public class ContentIndex {
+    /**
+     * The name of the index file.
+     */
+    public static final String FILE_NAME = ".advancementapi-index";
+
+    private static final String HEADER = "# AdvancementAPI content index v2";
+    private static final String REMOVED = "- ";
+    private static final int MIN_COMPACT_LINES = 64;
+    private static final char[] HEX = "0123456789abcdef".toCharArray();
+    private static final Map<Path, ContentIndex> indices = new ConcurrentHashMap<>();
+
+    private final Path root;
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+    // lines in the index file which were appended since the last rewrite
+    private int appended;
+
+    private ContentIndex(Path root) {
+        this.root = root;
+    }
+
+    /**
+     * Returns the index of the directory. The index is loaded on the first
+     * call and shared by all further calls for the same directory.
+     * 
+     * @param root the directory
+     * @return the index
+     */
+    public static ContentIndex of(Path root) {
+        return indices.computeIfAbsent(root.toAbsolutePath().normalize(), path -> {
+            ContentIndex index = new ContentIndex(path);
+            index.load();
+            return index;
+        });
+    }
+
+    /**
+     * Removes the indices of the directory and all directories below it from
+     * memory, e.g. when a world is unloaded. The index files are not touched,
+     * the next call of {@link #of(Path)} loads them again.
+     * 
+     * @param dir the directory
+     */
+    public static void evict(Path dir) {
+        Path root = dir.toAbsolutePath().normalize();
+        indices.keySet().removeIf(path -> path.startsWith(root));
+    }
+
+    /**
+     * Returns the directory of this index.
+     * 
+     * @return the directory
+     */
+    public Path getRoot() {
+        return root;
+    }
+
+    /**
+     * Returns the number of indexed files.
+     * 
+     * @return the number of files
+     */
+    public int size() {
+        return entries.size();
+    }
+
+    /**
+     * Returns the SHA-256 hash of the content as hex string.
+     * 
+     * @param content the content, its position is not changed
+     * @return the hash
+     */
+    public static String hash(ByteBuffer content) {
+        MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException ex) {
+            throw new IllegalStateException(ex);
+        }
+        digest.update(content.duplicate());
+        return toHex(digest.digest());
+    }
+
+    static String toHex(byte[] bytes) {
+        char[] chars = new char[bytes.length * 2];
+        for (int i = 0; i < bytes.length; i++) {
+            chars[i * 2] = HEX[bytes[i] >> 4 & 0xF];
+            chars[i * 2 + 1] = HEX[bytes[i] & 0xF];
+        }
+        return new String(chars);
+    }
+
+    /**
+     * Checks the content of the file against this index. If the file was
+     * modified after it was recorded, it is read and hashed again.
+     * 
+     * @param file the file
+     * @param hash the hash of the new content (see {@link #hash(ByteBuffer)})
+     * @param size the size of the new content
+     * @return the {@link Status} of the file
+     */
+    public Status check(Path file, String hash, long size) {
+        Entry entry = entries.get(key(file));
+        if (entry == null) {
+            return Status.NEW;
+        }
+        if (!entry.hash.equals(hash) || entry.size != size) {
+            return Status.CHANGED;
+        }
+        try {
+            if (Files.size(file) != size) {
+                return Status.CHANGED;
+            }
+            long modified = Files.getLastModifiedTime(file).toMillis();
+            if (modified == entry.modified) {
+                return Status.UNCHANGED;
+            }
+            if (!hash(ByteBuffer.wrap(Files.readAllBytes(file))).equals(hash)) {
+                return Status.CHANGED;
+            }
+            // touched, but not changed
+            entries.replace(key(file), entry, new Entry(hash, modified, size));
+            return Status.UNCHANGED;
+        } catch (IOException ex) {
+            // deleted or replaced by someone else
+            return Status.CHANGED;
+        }
+    }
+
+    /**
+     * Records the content of a written file together with its modification
+     * time.
+     * 
+     * @param file the file
+     * @param hash the hash of the content
+     * @param size the size of the content
+     */
+    public void put(Path file, String hash, long size) {
+        long modified;
+        try {
+            modified = Files.getLastModifiedTime(file).toMillis();
+        } catch (IOException ex) {
+            // hashed again by the next check
+            modified = -1L;
+        }
+        entries.put(key(file), new Entry(hash, modified, size));
+    }
+
+    /**
+     * Removes the file from this index.
+     * 
+     * @param file the file
+     * @return <code>true</code> if the file was indexed
+     */
+    public boolean remove(Path file) {
+        return entries.remove(key(file)) != null;
+    }
+
+    /**
+     * Deletes all indexed files which match the filter and removes them from
+     * this index.
+     * 
+     * @param stale the filter for the files to delete
+     * @return the number of deleted files
+     */
+    public int deleteStale(Predicate<Path> stale) {
+        int deleted = 0;
+        for (String key : new ArrayList<>(entries.keySet())) {
+            Path file = root.resolve(key);
+            if (!stale.test(file)) {
+                continue;
+            }
+            try {
+                if (Files.deleteIfExists(file)) {
+                    deleted++;
+                }
+                entries.remove(key);
+            } catch (IOException ex) {
+                ex.printStackTrace();
+            }
+        }
+        return deleted;
+    }
+
+    /**
+     * Writes this index to the disk.
+     * 
+     * @param writer the {@link AtomicFileWriter} for writing the index
+     * @throws IOException if writing fails
+     */
+    public synchronized void save(AtomicFileWriter writer) throws IOException {
+        List<String> keys = new ArrayList<>(entries.keySet());
+        keys.sort(null);
+        StringBuilder builder = new StringBuilder(HEADER.length() + 1 + keys.size() * 128);
+        builder.append(HEADER).append('\n');
+        for (String key : keys) {
+            Entry entry = entries.get(key);
+            if (entry != null) {
+                appendLine(builder, key, entry);
+            }
+        }
+        writer.write(root.resolve(FILE_NAME), ByteBuffer.wrap(builder.toString().getBytes(StandardCharsets.UTF_8)));
+        appended = 0;
+    }
+
+    /**
+     * Appends the current state of a single file to the index on the disk
+     * instead of writing the whole index, e.g. after
+     * {@link #put(Path, String, long)} or {@link #remove(Path)}. The whole
+     * index is written instead if it does not exist yet or if too many lines
+     * were appended.
+     * 
+     * @param file the file
+     * @param writer the {@link AtomicFileWriter} for writing the whole index
+     * @throws IOException if writing fails
+     */
+    public synchronized void append(Path file, AtomicFileWriter writer) throws IOException {
+        Path indexFile = root.resolve(FILE_NAME);
+        if (appended >= Math.max(MIN_COMPACT_LINES, entries.size()) || !Files.exists(indexFile)) {
+            save(writer);
+            return;
+        }
+        String key = key(file);
+        Entry entry = entries.get(key);
+        StringBuilder builder = new StringBuilder(128);
+        if (entry == null) {
+            builder.append(REMOVED).append(key).append('\n');
+        } else {
+            appendLine(builder, key, entry);
+        }
+        ByteBuffer line = ByteBuffer.wrap(builder.toString().getBytes(StandardCharsets.UTF_8));
+        try (FileChannel channel = FileChannel.open(indexFile, StandardOpenOption.WRITE,
+                StandardOpenOption.APPEND)) {
+            while (line.hasRemaining()) {
+                channel.write(line);
+            }
+            if (writer.isFsync()) {
+                channel.force(true);
+            }
+        }
+        appended++;
+    }
+
+    private static void appendLine(StringBuilder builder, String key, Entry entry) {
+        //@formatter:off
+        builder.append(entry.hash).append(' ')
+                .append(entry.modified).append(' ')
+                .append(entry.size).append(' ')
+                .append(key).append('\n');
+        //@formatter:on
+    }
+
+    private void load() {
+        List<String> lines;
+        try {
+            lines = Files.readAllLines(root.resolve(FILE_NAME), StandardCharsets.UTF_8);
+        } catch (NoSuchFileException ex) {
+            return;
+        } catch (IOException ex) {
+            // an unreadable index only costs rewriting all files
+            ex.printStackTrace();
+            return;
+        }
+        if (lines.isEmpty()) {
+            return;
+        }
+        if (!lines.get(0).equals(HEADER)) {
+            return;
+        }
+        for (String line : lines.subList(1, lines.size())) {
+            if (line.startsWith(REMOVED)) {
+                entries.remove(line.substring(REMOVED.length()));
+                appended++;
+                continue;
+            }
+            String[] parts = line.split(" ", 4);
+            if (parts.length != 4) {
+                continue;
+            }
+            try {
+                long modified = Long.parseLong(parts[1]);
+                long size = Long.parseLong(parts[2]);
+                if (entries.put(parts[3], new Entry(parts[0], modified, size)) != null) {
+                    appended++;
+                }
+            } catch (NumberFormatException ex) {
+                // corrupt lines only cost rewriting the file
+            }
+        }
+    }
+
+    private String key(Path file) {
+        Path relative = root.relativize(file.toAbsolutePath().normalize());
+        StringBuilder builder = new StringBuilder();
+        for (Path name : relative) {
+            if (builder.length() > 0) {
+                builder.append('/');
+            }
+            builder.append(name);
+        }
+        return builder.toString();
+    }
+
+    /**
+     * The status of a file compared with the index.
+     * 
+     * @author Kaonashi97
+     */
+    public enum Status {
+        /**
+         * The file is not indexed yet.
+         */
+        NEW,
+        /**
+         * The content differs from the indexed content.
+         */
+        CHANGED,
+        /**
+         * The content equals the indexed content.
+         */
+        UNCHANGED
+    }
+
+    private static class Entry {
+        private final String hash;
+        private final long modified;
+        private final long size;
+
+        private Entry(String hash, long modified, long size) {
+            this.hash = hash;
+            this.modified = modified;
+            this.size = size;
+        }
+    }
+}
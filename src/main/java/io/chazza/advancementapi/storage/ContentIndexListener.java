@@ -0,0 +1,37 @@
+package io.chazza.advancementapi.storage;
+
+import org.bukkit.Bukkit;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+import org.bukkit.event.world.WorldUnloadEvent;
+import org.bukkit.plugin.Plugin;
+
+/**
+ * Removes the {@link ContentIndex}es of a world from memory when the world is
+ * unloaded, so servers which load and unload many worlds (e.g. minigame maps)
+ * do not keep an index for each of them.
+ * 
+ * <pre>
+ * new ContentIndexListener().register(plugin);
+ * </pre>
+ * 
+ * @author Kaonashi97
+ */
+public class ContentIndexListener implements Listener {
+    /**
+     * Registers this listener.
+     * 
+     * @param plugin the owning {@link Plugin}
+     * @return this listener
+     */
+    public ContentIndexListener register(Plugin plugin) {
+        Bukkit.getPluginManager().registerEvents(this, plugin);
+        return this;
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onWorldUnload(WorldUnloadEvent event) {
+        ContentIndex.evict(event.getWorld().getWorldFolder().toPath());
+    }
+}
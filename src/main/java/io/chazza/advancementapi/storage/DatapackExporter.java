@@ -0,0 +1,139 @@
+package io.chazza.advancementapi.storage;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+import com.google.gson.JsonObject;
+
+import io.chazza.advancementapi.AdvancementAPI;
+
+/**
+ * Exports advancements as a datapack into a single ZIP archive.
+ * <p>
+ * The archive contains the <code>pack.mcmeta</code> and an entry
+ * <code>data/&lt;namespace&gt;/advancements/&lt;key&gt;.json</code> for each
+ * advancement. It is written in one pass: the Json of each advancement is
+ * serialized directly into the ZIP stream, no temporary files are created. The
+ * entries are sorted by id and carry a fixed timestamp, so exporting the same
+ * advancements twice results in the same archive.
+ * <p>
+ * Datapacks are supported since Minecraft 1.13.
+ * 
+ * <pre>
+ * new DatapackExporter("My advancements").export(Paths.get("advancements.zip"), advancements);
+ * </pre>
+ * 
+ * @author Kaonashi97
+ */
+public class DatapackExporter {
+    /**
+     * The <code>pack_format</code> of Minecraft 1.13 and 1.14.
+     */
+    public static final int DEFAULT_PACK_FORMAT = 4;
+
+    // 2000-01-01, fixed for reproducible archives
+    private static final long ENTRY_TIME = 946684800000L;
+
+    private final String description;
+    private final int packFormat;
+
+    /**
+     * Creates a new exporter using the {@link #DEFAULT_PACK_FORMAT}.
+     * 
+     * @param description the description of the datapack
+     */
+    public DatapackExporter(String description) {
+        this(description, DEFAULT_PACK_FORMAT);
+    }
+
+    /**
+     * Creates a new exporter.
+     * 
+     * @param description the description of the datapack
+     * @param packFormat the <code>pack_format</code> of the datapack
+     */
+    public DatapackExporter(String description, int packFormat) {
+        this.description = description;
+        this.packFormat = packFormat;
+    }
+
+    /**
+     * Exports the advancements into the file. An existing file is replaced.
+     * 
+     * @param file the ZIP file
+     * @param advancements the advancements
+     * @return the number of exported advancements
+     * @throws IOException if writing fails
+     */
+    public int export(Path file, Collection<AdvancementAPI> advancements) throws IOException {
+        Path dir = file.toAbsolutePath().getParent();
+        if (dir != null) {
+            Files.createDirectories(dir);
+        }
+        try (OutputStream out = new BufferedOutputStream(Files.newOutputStream(file))) {
+            return export(out, advancements);
+        }
+    }
+
+    /**
+     * Exports the advancements into the stream. The stream is not closed.
+     * 
+     * @param out the {@link OutputStream}
+     * @param advancements the advancements
+     * @return the number of exported advancements
+     * @throws IOException if writing fails
+     */
+    public int export(OutputStream out, Collection<AdvancementAPI> advancements) throws IOException {
+        List<AdvancementAPI> sorted = new ArrayList<>(advancements);
+        //@formatter:off
+        sorted.sort(Comparator.comparing((AdvancementAPI advancement) -> advancement.getId().getNamespace())
+                .thenComparing(advancement -> advancement.getId().getKey()));
+        //@formatter:on
+
+        ZipOutputStream zip = new ZipOutputStream(out, StandardCharsets.UTF_8);
+        // not closed, as this would close the ZIP stream as well
+        WritableByteChannel channel = Channels.newChannel(zip);
+        putEntry(zip, "pack.mcmeta");
+        zip.write(getPackMeta().getBytes(StandardCharsets.UTF_8));
+        zip.closeEntry();
+        for (AdvancementAPI advancement : sorted) {
+            putEntry(zip, "data/" + advancement.getId().getNamespace() + "/advancements/"
+                    + advancement.getId().getKey() + ".json");
+            ByteBuffer json = advancement.getJsonBytes();
+            while (json.hasRemaining()) {
+                channel.write(json);
+            }
+            zip.closeEntry();
+        }
+        zip.finish();
+        return sorted.size();
+    }
+
+    private String getPackMeta() {
+        JsonObject pack = new JsonObject();
+        pack.addProperty("pack_format", packFormat);
+        pack.addProperty("description", description);
+        JsonObject meta = new JsonObject();
+        meta.add("pack", pack);
+        return meta.toString();
+    }
+
+    private static void putEntry(ZipOutputStream zip, String name) throws IOException {
+        ZipEntry entry = new ZipEntry(name);
+        entry.setTime(ENTRY_TIME);
+        zip.putNextEntry(entry);
+    }
+}
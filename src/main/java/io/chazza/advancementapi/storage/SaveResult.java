@@ -0,0 +1,125 @@
+package io.chazza.advancementapi.storage;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The aggregated result of a batch save (see {@link BatchWriter}).
+ * <p>
+ * Without a {@link ContentIndex} new files cannot be told apart from changed
+ * files, so all written files are counted as changed.
+ * 
+ * @author Kaonashi97
+ * @param <T> the type of the saved elements
+ */
+public class SaveResult<T> {
+    private final int created;
+    private final int changed;
+    private final int unchanged;
+    private final int deleted;
+    private final List<T> failed;
+    private final long bytes;
+    private final long nanos;
+
+    SaveResult(int created, int changed, int unchanged, int deleted, List<T> failed, long bytes, long nanos) {
+        this.created = created;
+        this.changed = changed;
+        this.unchanged = unchanged;
+        this.deleted = deleted;
+        this.failed = Collections.unmodifiableList(failed);
+        this.bytes = bytes;
+        this.nanos = nanos;
+    }
+
+    /**
+     * Returns the number of written files, which is the number of new and
+     * changed files.
+     * 
+     * @return the number of files
+     */
+    public int getWritten() {
+        return created + changed;
+    }
+
+    /**
+     * Returns the number of files which did not exist before.
+     * 
+     * @return the number of files
+     */
+    public int getNew() {
+        return created;
+    }
+
+    /**
+     * Returns the number of files which were overwritten with a new content.
+     * 
+     * @return the number of files
+     */
+    public int getChanged() {
+        return changed;
+    }
+
+    /**
+     * Returns the number of files which were skipped because their content did
+     * not change.
+     * 
+     * @return the number of files
+     */
+    public int getUnchanged() {
+        return unchanged;
+    }
+
+    /**
+     * Returns the number of stale files which were deleted.
+     * 
+     * @return the number of files
+     */
+    public int getDeleted() {
+        return deleted;
+    }
+
+    /**
+     * Returns the elements whose files could not be written.
+     * 
+     * @return the failed elements
+     */
+    public List<T> getFailed() {
+        return failed;
+    }
+
+    /**
+     * Returns whether all files were written.
+     * 
+     * @return <code>true</code> if no write failed
+     */
+    public boolean isSuccess() {
+        return failed.isEmpty();
+    }
+
+    /**
+     * Returns the number of written bytes.
+     * 
+     * @return the number of bytes
+     */
+    public long getBytes() {
+        return bytes;
+    }
+
+    /**
+     * Returns the duration of the whole batch.
+     * 
+     * @param unit the {@link TimeUnit} of the result
+     * @return the duration
+     */
+    public long getDuration(TimeUnit unit) {
+        return unit.convert(nanos, TimeUnit.NANOSECONDS);
+    }
+
+    @Override
+    public String toString() {
+        return "SaveResult[new=" + created + ", changed=" + changed + ", unchanged=" + unchanged + ", deleted="
+                + deleted + ", failed=" + failed.size() + ", bytes=" + bytes + ", millis="
+                + getDuration(TimeUnit.MILLISECONDS) + "]";
+    }
+}
@@ -0,0 +1,97 @@
+package io.chazza.advancementapi.storage;
+
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Collects the number, size and latency of file writes. All methods are
+ * thread-safe.
+ * 
+ * @author Kaonashi97
+ */
+public class WriteMetrics {
+    private final LongAdder writes = new LongAdder();
+    private final LongAdder failures = new LongAdder();
+    private final LongAdder bytes = new LongAdder();
+    private final LongAdder totalNanos = new LongAdder();
+    private final LongAccumulator maxNanos = new LongAccumulator(Math::max, 0L);
+
+    void record(long size, long nanos) {
+        writes.increment();
+        bytes.add(size);
+        totalNanos.add(nanos);
+        maxNanos.accumulate(nanos);
+    }
+
+    void recordFailure() {
+        failures.increment();
+    }
+
+    /**
+     * Returns the number of successful writes.
+     * 
+     * @return the number of writes
+     */
+    public long getWrites() {
+        return writes.sum();
+    }
+
+    /**
+     * Returns the number of failed writes.
+     * 
+     * @return the number of failures
+     */
+    public long getFailures() {
+        return failures.sum();
+    }
+
+    /**
+     * Returns the number of written bytes.
+     * 
+     * @return the number of bytes
+     */
+    public long getBytes() {
+        return bytes.sum();
+    }
+
+    /**
+     * Returns the average latency of a successful write.
+     * 
+     * @param unit the {@link TimeUnit} of the result
+     * @return the average latency
+     */
+    public double getAverageLatency(TimeUnit unit) {
+        long count = writes.sum();
+        return count == 0 ? 0 : (double) totalNanos.sum() / count / unit.toNanos(1L);
+    }
+
+    /**
+     * Returns the maximum latency of a successful write.
+     * 
+     * @param unit the {@link TimeUnit} of the result
+     * @return the maximum latency
+     */
+    public long getMaxLatency(TimeUnit unit) {
+        return unit.convert(maxNanos.get(), TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Resets all metrics.
+     */
+    public void reset() {
+        writes.reset();
+        failures.reset();
+        bytes.reset();
+        totalNanos.reset();
+        maxNanos.reset();
+    }
+
+    @Override
+    public String toString() {
+        return "WriteMetrics[writes=" + getWrites() + ", failures=" + getFailures() + ", bytes=" + getBytes()
+                + ", avgMicros=" + String.format(Locale.ROOT, "%.1f", getAverageLatency(TimeUnit.NANOSECONDS) / 1000.0)
+                + ", maxMicros=" + getMaxLatency(TimeUnit.MICROSECONDS) + "]";
+    }
+}
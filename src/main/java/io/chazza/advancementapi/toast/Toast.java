@@ -0,0 +1,89 @@
+package io.chazza.advancementapi.toast;
+
+import io.chazza.advancementapi.FrameType;
+
+/**
+ * A toast is the popup notification shown to a player when completing an
+ * advancement. It only consists of what the client actually shows: the title,
+ * the icon and the frame.
+ * <p>
+ * Toasts are compared by their values, so equal toasts can share the same
+ * registered advancement (see {@link ToastPool}).
+ * 
+ * @author Kaonashi97
+ */
+public final class Toast {
+    private final String title;
+    private final String icon;
+    private final FrameType frame;
+
+    private Toast(String title, String icon, FrameType frame) {
+        this.title = title;
+        this.icon = icon;
+        this.frame = frame;
+    }
+
+    /**
+     * Returns a new {@link Toast}.
+     * 
+     * @param title the title
+     * @param icon the icon item (e.g. <code>minecraft:diamond</code>)
+     * @param frame the {@link FrameType}
+     * @return the toast
+     */
+    public static Toast of(String title, String icon, FrameType frame) {
+        if (title == null || icon == null || frame == null) {
+            throw new IllegalArgumentException("title, icon and frame must not be null");
+        }
+        return new Toast(title, icon, frame);
+    }
+
+    /**
+     * Returns the title.
+     * 
+     * @return the title
+     */
+    public String getTitle() {
+        return title;
+    }
+
+    /**
+     * Returns the icon item.
+     * 
+     * @return the icon
+     */
+    public String getIcon() {
+        return icon;
+    }
+
+    /**
+     * Returns the frame.
+     * 
+     * @return the {@link FrameType}
+     */
+    public FrameType getFrame() {
+        return frame;
+    }
+
+    @Override
+    public int hashCode() {
+        return (31 * title.hashCode() + icon.hashCode()) * 31 + frame.hashCode();
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (!(obj instanceof Toast)) {
+            return false;
+        }
+        Toast other = (Toast) obj;
+        return title.equals(other.title) && icon.equals(other.icon) && frame == other.frame;
+    }
+
+    @Override
+    public String toString() {
+        return "Toast[" + frame + ", " + icon + ", " + title + "]";
+    }
+}
@@ -0,0 +1,329 @@
+package io.chazza.advancementapi.toast;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Predicate;
+
+import org.bukkit.Bukkit;
+import org.bukkit.NamespacedKey;
+import org.bukkit.entity.Player;
+import org.bukkit.plugin.Plugin;
+import org.bukkit.scheduler.BukkitTask;
+
+import io.chazza.advancementapi.AdvancementAPI;
+import io.chazza.advancementapi.common.TimingWheel;
+
+/**
+ * Shows {@link Toast}s to players by reusing registered advancements.
+ * <p>
+ * {@link AdvancementAPI#show(org.bukkit.plugin.java.JavaPlugin, Player...)}
+ * registers and unregisters an advancement and schedules a task for every
+ * call. The pool instead keeps one registered advancement (slot) per distinct
+ * toast, so showing a toast only grants and later revokes it. Showing a toast
+ * again to a player still having it revokes and grants it again. The slots are
+ * registered with Json rendered from a {@link ToastTemplate}. The revokes are
+ * done by a single repeating task using a {@link TimingWheel}.
+ * <p>
+ * Toasts for the whole server can be sent with {@link #broadcast(Toast)}. The
+ * players are granted in batches over multiple ticks, and each batch is
+ * revoked on its own.
+ * <p>
+ * Slots which have not been used for a while are unregistered once the pool
+ * holds more than its capacity. All methods have to be called from the main
+ * thread.
+ * 
+ * <pre>
+ * ToastPool pool = new ToastPool(plugin).start();
+ * pool.show(Toast.of("Welcome!", "minecraft:diamond", FrameType.GOAL), player);
+ * </pre>
+ * 
+ * @author Kaonashi97
+ */
+public class ToastPool {
+    private static final String LOG_PREFIX = "[AdvancementAPI] ";
+    private static final long SHOW_TICKS = 20L;
+
+    private final Plugin plugin;
+    // access ordered for evicting the least recently used slots
+    private final Map<Toast, Slot> slots = new LinkedHashMap<>(16, 0.75f, true);
+    private final TimingWheel<PendingRevoke> revokes = new TimingWheel<>(64);
+    private final List<Broadcast> broadcasts = new ArrayList<>();
+    private int capacity = 256;
+    private int batchSize = 50;
+    private int nextId;
+    private BukkitTask task;
+
+    /**
+     * Creates a new pool. The slots are registered with keys in the
+     * namespace of the plugin.
+     * 
+     * @param plugin the owning {@link Plugin}
+     */
+    public ToastPool(Plugin plugin) {
+        this.plugin = plugin;
+    }
+
+    /**
+     * Sets the maximum number of registered slots. Idle slots exceeding this
+     * number are unregistered.
+     * 
+     * @param capacity the capacity
+     * @return this pool
+     */
+    public ToastPool capacity(int capacity) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("capacity must be at least 1");
+        }
+        this.capacity = capacity;
+        return this;
+    }
+
+    /**
+     * Sets the number of players granted per tick when broadcasting.
+     * 
+     * @param batchSize the batch size
+     * @return this pool
+     */
+    public ToastPool batchSize(int batchSize) {
+        if (batchSize < 1) {
+            throw new IllegalArgumentException("batchSize must be at least 1");
+        }
+        this.batchSize = batchSize;
+        return this;
+    }
+
+    /**
+     * Starts the repeating task that revokes shown toasts.
+     * 
+     * @return this pool
+     */
+    public ToastPool start() {
+        if (task == null) {
+            task = Bukkit.getScheduler().runTaskTimer(plugin, this::tick, 1L, 1L);
+        }
+        return this;
+    }
+
+    /**
+     * Stops the repeating task, revokes all pending toasts and unregisters all
+     * slots.
+     */
+    public void stop() {
+        if (task != null) {
+            task.cancel();
+            task = null;
+        }
+        broadcasts.clear();
+        while (revokes.size() > 0) {
+            revokes.advance(this::revoke);
+        }
+        for (Slot slot : slots.values()) {
+            slot.unregister();
+        }
+        slots.clear();
+    }
+
+    /**
+     * Shows the {@link Toast} to the {@link Player}s.
+     * 
+     * @param toast the {@link Toast}
+     * @param players the list of {@link Player}s
+     */
+    public void show(Toast toast, Player... players) {
+        Slot slot = acquire(toast);
+        show(slot, players);
+        release(slot);
+    }
+
+    /**
+     * Shows the {@link Toast} to all online players. See
+     * {@link #broadcast(Toast, Predicate)} for more information.
+     * 
+     * @param toast the {@link Toast}
+     */
+    public void broadcast(Toast toast) {
+        broadcast(toast, player -> true);
+    }
+
+    /**
+     * Shows the {@link Toast} to all online players matching the filter.
+     * <p>
+     * The toast is registered once and granted to the players in batches of
+     * {@link #batchSize(int)} per tick. The filter is tested batch by batch
+     * while granting.
+     * 
+     * @param toast the {@link Toast}
+     * @param filter the filter for the players
+     */
+    public void broadcast(Toast toast, Predicate<? super Player> filter) {
+        Iterator<? extends Player> players = new ArrayList<>(Bukkit.getOnlinePlayers()).iterator();
+        broadcasts.add(new Broadcast(acquire(toast), players, filter));
+    }
+
+    /**
+     * Returns the number of registered slots.
+     * 
+     * @return the number of slots
+     */
+    public int size() {
+        return slots.size();
+    }
+
+    Slot acquire(Toast toast) {
+        Slot slot = slots.get(toast);
+        if (slot == null) {
+            slot = register(toast);
+            slot.inUse++;
+            slots.put(toast, slot);
+            evict();
+            return slot;
+        }
+        slot.inUse++;
+        return slot;
+    }
+
+    void release(Slot slot) {
+        slot.inUse--;
+    }
+
+    private Slot register(Toast toast) {
+        NamespacedKey key = new NamespacedKey(plugin, "toast_" + nextId++);
+        boolean registered = AdvancementAPI.getTransport().register(key, ToastTemplate.DEFAULT.render(toast));
+        if (!registered) {
+            Bukkit.getLogger().severe(() -> LOG_PREFIX + "Error registering toast \"" + key + "\".");
+        }
+        return new Slot(key, registered);
+    }
+
+    private void evict() {
+        Iterator<Slot> iterator = slots.values().iterator();
+        while (slots.size() > capacity && iterator.hasNext()) {
+            Slot slot = iterator.next();
+            if (slot.inUse == 0) {
+                iterator.remove();
+                slot.unregister();
+            }
+        }
+    }
+
+    private void tick() {
+        revokes.advance(this::revoke);
+
+        // removes the finished broadcasts in one pass
+        broadcasts.removeIf(broadcast -> {
+            Player[] batch = broadcast.nextBatch();
+            if (batch.length > 0) {
+                show(broadcast.slot, batch);
+            }
+            if (broadcast.players.hasNext()) {
+                return false;
+            }
+            release(broadcast.slot);
+            return true;
+        });
+    }
+
+    private void show(Slot slot, Player[] players) {
+        slot.inUse++;
+        slot.grant(players);
+        revokes.schedule(SHOW_TICKS, new PendingRevoke(slot, players));
+    }
+
+    private void revoke(PendingRevoke revoke) {
+        revoke.slot.revoke(revoke.players);
+        release(revoke.slot);
+    }
+
+    static class Slot {
+        final NamespacedKey id;
+        final boolean registered;
+        // number of pending revokes per player still having the toast
+        private final Map<UUID, Integer> shown = new HashMap<>();
+        int inUse;
+
+        private Slot(NamespacedKey id, boolean registered) {
+            this.id = id;
+            this.registered = registered;
+        }
+
+        private void grant(Player[] players) {
+            if (!registered) {
+                return;
+            }
+            List<Player> repeated = new ArrayList<>();
+            for (Player player : players) {
+                // granting a toast the player still has would not show it
+                if (shown.merge(player.getUniqueId(), 1, Integer::sum) > 1) {
+                    repeated.add(player);
+                }
+            }
+            if (!repeated.isEmpty()) {
+                AdvancementAPI.getTransport().revoke(repeated, id);
+            }
+            AdvancementAPI.getTransport().grant(Arrays.asList(players), id);
+        }
+
+        private void revoke(Player[] players) {
+            if (!registered) {
+                return;
+            }
+            List<Player> online = new ArrayList<>(players.length);
+            for (Player player : players) {
+                // only the last pending revoke takes the toast back
+                Integer pending = shown.computeIfPresent(player.getUniqueId(),
+                        (uuid, count) -> count > 1 ? count - 1 : null);
+                if (pending == null && player.isOnline()) {
+                    online.add(player);
+                }
+            }
+            if (!online.isEmpty()) {
+                AdvancementAPI.getTransport().revoke(online, id);
+            }
+        }
+
+        private void unregister() {
+            if (registered) {
+                AdvancementAPI.getTransport().unregister(id);
+            }
+        }
+    }
+
+    private static class PendingRevoke {
+        private final Slot slot;
+        private final Player[] players;
+
+        private PendingRevoke(Slot slot, Player[] players) {
+            this.slot = slot;
+            this.players = players;
+        }
+    }
+
+    private class Broadcast {
+        private final Slot slot;
+        private final Iterator<? extends Player> players;
+        private final Predicate<? super Player> filter;
+
+        private Broadcast(Slot slot, Iterator<? extends Player> players, Predicate<? super Player> filter) {
+            this.slot = slot;
+            this.players = players;
+            this.filter = filter;
+        }
+
+        private Player[] nextBatch() {
+            List<Player> batch = new ArrayList<>(batchSize);
+            while (batch.size() < batchSize && players.hasNext()) {
+                Player player = players.next();
+                if (player.isOnline() && filter.test(player)) {
+                    batch.add(player);
+                }
+            }
+            return batch.toArray(new Player[batch.size()]);
+        }
+    }
+}
@@ -0,0 +1,239 @@
+package io.chazza.advancementapi.toast;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.function.IntFunction;
+
+import org.bukkit.Bukkit;
+import org.bukkit.entity.Player;
+import org.bukkit.plugin.Plugin;
+import org.bukkit.scheduler.BukkitTask;
+
+import io.chazza.advancementapi.FrameType;
+
+/**
+ * Queues {@link Toast}s per player and shows them through a {@link ToastPool}
+ * at a limited rate.
+ * <p>
+ * Identical toasts queued for the same player are merged into one. If more
+ * toasts are queued than allowed, the overflow is either dropped or counted
+ * and shown as one summary toast at the end (see {@link Overflow}). The
+ * queues are kept per {@link UUID}, so they survive a player rejoining. All
+ * queues are drained by a single repeating task. All methods have to be
+ * called from the main thread.
+ * 
+ * <pre>
+ * ToastQueue queue = new ToastQueue(pool).interval(40L).start(plugin);
+ * queue.show(Toast.of("Level up!", "minecraft:experience_bottle", FrameType.GOAL), player);
+ * </pre>
+ * 
+ * @author Kaonashi97
+ */
+public class ToastQueue {
+    // distinct overflowed toasts counted per player
+    static final int MAX_SUMMARIZED = 1000;
+
+    private final ToastPool pool;
+    private final Map<UUID, PlayerQueue> queues = new HashMap<>();
+    private long interval = 20L;
+    private int maxQueued = 5;
+    private Overflow overflow = Overflow.SUMMARIZE;
+    private IntFunction<Toast> summary = ToastQueue::summarize;
+    private long tick;
+    private BukkitTask task;
+
+    /**
+     * Creates a new queue.
+     * 
+     * @param pool the {@link ToastPool} for showing the toasts
+     */
+    public ToastQueue(ToastPool pool) {
+        this.pool = pool;
+    }
+
+    /**
+     * Sets the minimum number of ticks between two toasts for one player.
+     * 
+     * @param interval the interval in ticks
+     * @return this queue
+     */
+    public ToastQueue interval(long interval) {
+        if (interval < 1) {
+            throw new IllegalArgumentException("interval must be at least 1");
+        }
+        this.interval = interval;
+        return this;
+    }
+
+    /**
+     * Sets the maximum number of distinct toasts waiting per player.
+     * 
+     * @param maxQueued the maximum
+     * @return this queue
+     */
+    public ToastQueue maxQueued(int maxQueued) {
+        if (maxQueued < 1) {
+            throw new IllegalArgumentException("maxQueued must be at least 1");
+        }
+        this.maxQueued = maxQueued;
+        return this;
+    }
+
+    /**
+     * Sets how toasts exceeding {@link #maxQueued(int)} are handled.
+     * 
+     * @param overflow the {@link Overflow}
+     * @return this queue
+     */
+    public ToastQueue overflow(Overflow overflow) {
+        this.overflow = overflow;
+        return this;
+    }
+
+    /**
+     * Sets the summary toast shown for {@link Overflow#SUMMARIZE}. The function
+     * gets the number of distinct summarized toasts, at most
+     * {@value #MAX_SUMMARIZED}. Every distinct summary toast takes a slot of
+     * the {@link ToastPool}, so the function should only return a few of
+     * them. The default shows counts from 10 on in steps of ten and from 100
+     * on as "100+ more".
+     * 
+     * @param summary the summary function
+     * @return this queue
+     */
+    public ToastQueue summary(IntFunction<Toast> summary) {
+        this.summary = summary;
+        return this;
+    }
+
+    /**
+     * Starts the repeating task that drains the queues.
+     * 
+     * @param plugin the owning {@link Plugin}
+     * @return this queue
+     */
+    public ToastQueue start(Plugin plugin) {
+        if (task == null) {
+            task = Bukkit.getScheduler().runTaskTimer(plugin, this::tick, 1L, 1L);
+        }
+        return this;
+    }
+
+    /**
+     * Stops the repeating task and discards all queued toasts.
+     */
+    public void stop() {
+        if (task != null) {
+            task.cancel();
+            task = null;
+        }
+        queues.clear();
+    }
+
+    /**
+     * Queues the {@link Toast} for the {@link Player}s.
+     * 
+     * @param toast the {@link Toast}
+     * @param players the list of {@link Player}s
+     */
+    public void show(Toast toast, Player... players) {
+        for (Player player : players) {
+            queues.computeIfAbsent(player.getUniqueId(), uuid -> new PlayerQueue()).add(toast);
+        }
+    }
+
+    private void tick() {
+        tick(Bukkit::getPlayer);
+    }
+
+    /**
+     * Shows the next toast of every player whose interval has passed.
+     * 
+     * @param players resolves the online players by {@link UUID}
+     */
+    void tick(Function<UUID, Player> players) {
+        tick++;
+        Iterator<Map.Entry<UUID, PlayerQueue>> iterator = queues.entrySet().iterator();
+        while (iterator.hasNext()) {
+            Map.Entry<UUID, PlayerQueue> entry = iterator.next();
+            PlayerQueue queue = entry.getValue();
+            if (queue.nextTick > tick) {
+                continue;
+            }
+            Player player = players.apply(entry.getKey());
+            Toast toast = player == null ? null : queue.poll();
+            if (toast == null) {
+                iterator.remove();
+            } else {
+                pool.show(toast, player);
+                queue.nextTick = tick + interval;
+            }
+        }
+    }
+
+    private static Toast summarize(int count) {
+        String more;
+        if (count < 10) {
+            more = "+" + count;
+        } else if (count < 100) {
+            more = count / 10 * 10 + "+";
+        } else {
+            more = "100+";
+        }
+        return Toast.of(more + " more", "minecraft:paper", FrameType.TASK);
+    }
+
+    /**
+     * Defines how toasts are handled when a player's queue is full.
+     * 
+     * @author Kaonashi97
+     */
+    public enum Overflow {
+        /**
+         * Drops the toasts.
+         */
+        DROP,
+        /**
+         * Counts the toasts and shows one summary toast after the queue.
+         */
+        SUMMARIZE;
+    }
+
+    private class PlayerQueue {
+        private final Set<Toast> toasts = new LinkedHashSet<>();
+        private final Set<Toast> overflowed = new HashSet<>();
+        private long nextTick;
+
+        private void add(Toast toast) {
+            if (toasts.contains(toast)) {
+                return;
+            }
+            if (toasts.size() < maxQueued) {
+                toasts.add(toast);
+            } else if (overflow == Overflow.SUMMARIZE && overflowed.size() < MAX_SUMMARIZED) {
+                overflowed.add(toast);
+            }
+        }
+
+        private Toast poll() {
+            Iterator<Toast> iterator = toasts.iterator();
+            if (iterator.hasNext()) {
+                Toast toast = iterator.next();
+                iterator.remove();
+                return toast;
+            }
+            if (!overflowed.isEmpty()) {
+                Toast toast = summary.apply(overflowed.size());
+                overflowed.clear();
+                return toast;
+            }
+            return null;
+        }
+    }
+}
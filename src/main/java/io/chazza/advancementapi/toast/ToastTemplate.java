@@ -0,0 +1,79 @@
+package io.chazza.advancementapi.toast;
+
+import org.bukkit.NamespacedKey;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonObject;
+
+import io.chazza.advancementapi.AdvancementAPI;
+import io.chazza.advancementapi.Display;
+import io.chazza.advancementapi.FrameType;
+import io.chazza.advancementapi.common.JsonTemplate;
+
+/**
+ * A precompiled advancement Json for toasts.
+ * <p>
+ * The Json of a toast advancement is rendered once with placeholders for the
+ * title, description, icon and frame. Rendering a toast then only splices the
+ * escaped values into the pre-split Json (see {@link JsonTemplate}) instead of
+ * building and serializing a whole {@link AdvancementAPI}.
+ * 
+ * <pre>
+ * String json = ToastTemplate.DEFAULT.render("Welcome!", "", "minecraft:diamond", FrameType.GOAL);
+ * </pre>
+ * 
+ * @author Kaonashi97
+ */
+public final class ToastTemplate {
+    /**
+     * The template for toasts which are neither announced in chat nor visible
+     * in the "Advancements" menu.
+     */
+    public static final ToastTemplate DEFAULT = new ToastTemplate();
+
+    private static final String TITLE = "{{title}}";
+    private static final String DESCRIPTION = "{{description}}";
+    private static final String ICON = "{{icon}}";
+    private static final String FRAME = "{{frame}}";
+
+    private final JsonTemplate template;
+
+    @SuppressWarnings("deprecation")
+    private ToastTemplate() {
+        //@formatter:off
+        JsonObject json = AdvancementAPI.builder(new NamespacedKey("advancementapi", "toast"))
+                .display(Display.builder(TITLE, DESCRIPTION, ICON)
+                        .toast(true)
+                        .announce(false)
+                        .hidden(true))
+                .build()
+                .toJson()
+                .getAsJsonObject();
+        //@formatter:on
+        json.getAsJsonObject("display").addProperty("frame", FRAME);
+        this.template = JsonTemplate.compile(new Gson().toJson(json), TITLE, DESCRIPTION, ICON, FRAME);
+    }
+
+    /**
+     * Renders the advancement Json of the toast.
+     * 
+     * @param title the title
+     * @param description the description
+     * @param icon the icon item
+     * @param frame the {@link FrameType}
+     * @return the Json
+     */
+    public String render(String title, String description, String icon, FrameType frame) {
+        return template.render(title, description, icon, frame.toString());
+    }
+
+    /**
+     * Renders the advancement Json of the {@link Toast}.
+     * 
+     * @param toast the {@link Toast}
+     * @return the Json
+     */
+    public String render(Toast toast) {
+        return render(toast.getTitle(), "", toast.getIcon(), toast.getFrame());
+    }
+}
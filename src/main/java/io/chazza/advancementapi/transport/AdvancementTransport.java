@@ -0,0 +1,168 @@
+package io.chazza.advancementapi.transport;
+
+import java.util.Collection;
+import java.util.Map;
+
+import org.bukkit.NamespacedKey;
+import org.bukkit.entity.Player;
+
+import io.chazza.advancementapi.AdvancementAPI;
+
+/**
+ * Delivers advancements and their progress to the server.
+ * <p>
+ * All server access of this API goes through the transport set with
+ * {@link AdvancementAPI#setTransport(AdvancementTransport)}. By default this is
+ * a {@link BukkitTransport}. Other implementations can use faster server
+ * specific ways, or work without a server at all (see
+ * {@link InMemoryTransport}).
+ * <p>
+ * The batch variants loop over the single variants by default. Implementations
+ * may override them to do the work at once. All methods are called from the
+ * main thread.
+ * 
+ * @author Kaonashi97
+ */
+public interface AdvancementTransport {
+    /**
+     * Registers the advancement.
+     * 
+     * @param id the advancement id
+     * @param json the advancement Json
+     * @return <code>true</code> if the advancement was registered
+     */
+    boolean register(NamespacedKey id, String json);
+
+    /**
+     * Registers all advancements.
+     * 
+     * @param advancements the advancement Json per advancement id
+     * @return the number of registered advancements
+     */
+    default int registerAll(Map<NamespacedKey, String> advancements) {
+        int registered = 0;
+        for (Map.Entry<NamespacedKey, String> advancement : advancements.entrySet()) {
+            if (register(advancement.getKey(), advancement.getValue())) {
+                registered++;
+            }
+        }
+        return registered;
+    }
+
+    /**
+     * Unregisters the advancement.
+     * 
+     * @param id the advancement id
+     * @return <code>true</code> if the advancement was unregistered
+     */
+    boolean unregister(NamespacedKey id);
+
+    /**
+     * Unregisters all advancements.
+     * 
+     * @param ids the advancement ids
+     * @return the number of unregistered advancements
+     */
+    default int unregisterAll(Collection<NamespacedKey> ids) {
+        int unregistered = 0;
+        for (NamespacedKey id : ids) {
+            if (unregister(id)) {
+                unregistered++;
+            }
+        }
+        return unregistered;
+    }
+
+    /**
+     * Returns the ids of all registered advancements of the namespace.
+     * 
+     * @param namespace the namespace
+     * @return the advancement ids
+     */
+    Collection<NamespacedKey> getAdvancements(String namespace);
+
+    /**
+     * Returns whether the advancement is done for the {@link Player}.
+     * 
+     * @param player the {@link Player}
+     * @param id the advancement id
+     * @return <code>true</code> if it is done
+     */
+    boolean isDone(Player player, NamespacedKey id);
+
+    /**
+     * Awards all remaining criteria of the advancement to the {@link Player}.
+     * 
+     * @param player the {@link Player}
+     * @param id the advancement id
+     */
+    void grant(Player player, NamespacedKey id);
+
+    /**
+     * Awards all remaining criteria of the advancement to the {@link Player}s.
+     * 
+     * @param players the {@link Player}s
+     * @param id the advancement id
+     */
+    default void grant(Collection<? extends Player> players, NamespacedKey id) {
+        for (Player player : players) {
+            grant(player, id);
+        }
+    }
+
+    /**
+     * Awards the criteria of the advancement to the {@link Player}.
+     * 
+     * @param player the {@link Player}
+     * @param id the advancement id
+     * @param criteria the criteria names
+     */
+    void award(Player player, NamespacedKey id, Collection<String> criteria);
+
+    /**
+     * Revokes all awarded criteria of the advancement from the {@link Player}.
+     * 
+     * @param player the {@link Player}
+     * @param id the advancement id
+     */
+    void revoke(Player player, NamespacedKey id);
+
+    /**
+     * Revokes all awarded criteria of the advancement from the
+     * {@link Player}s.
+     * 
+     * @param players the {@link Player}s
+     * @param id the advancement id
+     */
+    default void revoke(Collection<? extends Player> players, NamespacedKey id) {
+        for (Player player : players) {
+            revoke(player, id);
+        }
+    }
+
+    /**
+     * Revokes all awarded criteria of the advancements from the
+     * {@link Player}.
+     * 
+     * @param player the {@link Player}
+     * @param ids the advancement ids
+     */
+    default void revokeAll(Player player, Collection<NamespacedKey> ids) {
+        for (NamespacedKey id : ids) {
+            revoke(player, id);
+        }
+    }
+
+    /**
+     * Revokes all awarded criteria of the advancements from the
+     * {@link Player}s.
+     * 
+     * @param players the {@link Player}s
+     * @param ids the advancement ids
+     */
+    default void revokeAll(Collection<? extends Player> players, Collection<NamespacedKey> ids) {
+        for (Player player : players) {
+            revokeAll(player, ids);
+        }
+    }
+}
@@ -0,0 +1,141 @@
+package io.chazza.advancementapi.transport;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+
+import org.bukkit.Bukkit;
+import org.bukkit.NamespacedKey;
+import org.bukkit.advancement.Advancement;
+import org.bukkit.advancement.AdvancementProgress;
+import org.bukkit.entity.Player;
+
+/**
+ * The default {@link AdvancementTransport} using the Bukkit API.
+ * 
+ * @author Kaonashi97
+ */
+public class BukkitTransport implements AdvancementTransport {
+    @Override
+    @SuppressWarnings("deprecation")
+    public boolean register(NamespacedKey id, String json) {
+        try {
+            return Bukkit.getUnsafe().loadAdvancement(id, json) != null;
+        } catch (Exception ex) {
+            ex.printStackTrace();
+        }
+        return false;
+    }
+
+    @Override
+    @SuppressWarnings("deprecation")
+    public boolean unregister(NamespacedKey id) {
+        return Bukkit.getUnsafe().removeAdvancement(id);
+    }
+
+    @Override
+    public Collection<NamespacedKey> getAdvancements(String namespace) {
+        List<NamespacedKey> ids = new ArrayList<>();
+        Iterator<Advancement> iterator = Bukkit.advancementIterator();
+        while (iterator.hasNext()) {
+            NamespacedKey id = iterator.next().getKey();
+            if (id.getNamespace().equals(namespace)) {
+                ids.add(id);
+            }
+        }
+        return ids;
+    }
+
+    @Override
+    public boolean isDone(Player player, NamespacedKey id) {
+        Advancement advancement = Bukkit.getAdvancement(id);
+        return advancement != null && player.getAdvancementProgress(advancement).isDone();
+    }
+
+    @Override
+    public void grant(Player player, NamespacedKey id) {
+        Advancement advancement = Bukkit.getAdvancement(id);
+        if (advancement != null) {
+            grant(player, advancement);
+        }
+    }
+
+    @Override
+    public void grant(Collection<? extends Player> players, NamespacedKey id) {
+        Advancement advancement = Bukkit.getAdvancement(id);
+        if (advancement != null) {
+            for (Player player : players) {
+                grant(player, advancement);
+            }
+        }
+    }
+
+    private static void grant(Player player, Advancement advancement) {
+        AdvancementProgress progress = player.getAdvancementProgress(advancement);
+        if (!progress.isDone()) {
+            for (String remainingCriterion : progress.getRemainingCriteria()) {
+                progress.awardCriteria(remainingCriterion);
+            }
+        }
+    }
+
+    @Override
+    public void award(Player player, NamespacedKey id, Collection<String> criteria) {
+        Advancement advancement = Bukkit.getAdvancement(id);
+        if (advancement != null) {
+            AdvancementProgress progress = player.getAdvancementProgress(advancement);
+            for (String criterion : criteria) {
+                progress.awardCriteria(criterion);
+            }
+        }
+    }
+
+    @Override
+    public void revoke(Player player, NamespacedKey id) {
+        Advancement advancement = Bukkit.getAdvancement(id);
+        if (advancement != null) {
+            revoke(player, advancement);
+        }
+    }
+
+    @Override
+    public void revoke(Collection<? extends Player> players, NamespacedKey id) {
+        Advancement advancement = Bukkit.getAdvancement(id);
+        if (advancement != null) {
+            for (Player player : players) {
+                revoke(player, advancement);
+            }
+        }
+    }
+
+    @Override
+    public void revokeAll(Player player, Collection<NamespacedKey> ids) {
+        revokeAll(Collections.singleton(player), ids);
+    }
+
+    @Override
+    public void revokeAll(Collection<? extends Player> players, Collection<NamespacedKey> ids) {
+        // look up each advancement once instead of once per player
+        List<Advancement> advancements = new ArrayList<>(ids.size());
+        for (NamespacedKey id : ids) {
+            Advancement advancement = Bukkit.getAdvancement(id);
+            if (advancement != null) {
+                advancements.add(advancement);
+            }
+        }
+        for (Player player : players) {
+            for (Advancement advancement : advancements) {
+                revoke(player, advancement);
+            }
+        }
+    }
+
+    private static void revoke(Player player, Advancement advancement) {
+        AdvancementProgress progress = player.getAdvancementProgress(advancement);
+        for (String awardedCriterion : progress.getAwardedCriteria()) {
+            progress.revokeCriteria(awardedCriterion);
+        }
+    }
+}
@@ -0,0 +1,154 @@
+package io.chazza.advancementapi.transport;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+import org.bukkit.NamespacedKey;
+import org.bukkit.entity.Player;
+
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+
+/**
+ * An {@link AdvancementTransport} keeping all advancements and progress in
+ * memory. It does not need a running server and can be used for tests and
+ * benchmarks.
+ * <p>
+ * An advancement is done when at least one criterion of each requirement is
+ * awarded. Without requirements every criterion is a requirement on its own.
+ * 
+ * @author Kaonashi97
+ */
+public class InMemoryTransport implements AdvancementTransport {
+    private final Map<NamespacedKey, Registered> advancements = new LinkedHashMap<>();
+    private final Map<UUID, Map<NamespacedKey, Set<String>>> progress = new HashMap<>();
+
+    @Override
+    public boolean register(NamespacedKey id, String json) {
+        if (advancements.containsKey(id)) {
+            return false;
+        }
+        advancements.put(id, new Registered(json));
+        return true;
+    }
+
+    @Override
+    public boolean unregister(NamespacedKey id) {
+        return advancements.remove(id) != null;
+    }
+
+    @Override
+    public Collection<NamespacedKey> getAdvancements(String namespace) {
+        List<NamespacedKey> ids = new ArrayList<>();
+        for (NamespacedKey id : advancements.keySet()) {
+            if (id.getNamespace().equals(namespace)) {
+                ids.add(id);
+            }
+        }
+        return ids;
+    }
+
+    /**
+     * Returns the Json of the registered advancement.
+     * 
+     * @param id the advancement id
+     * @return the Json or <code>null</code> if not registered
+     */
+    public String getJson(NamespacedKey id) {
+        Registered registered = advancements.get(id);
+        return registered == null ? null : registered.json;
+    }
+
+    /**
+     * Returns the awarded criteria of the advancement.
+     * 
+     * @param player the player's {@link UUID}
+     * @param id the advancement id
+     * @return the awarded criteria
+     */
+    public Set<String> getAwardedCriteria(UUID player, NamespacedKey id) {
+        Map<NamespacedKey, Set<String>> playerProgress = progress.get(player);
+        if (playerProgress == null || !playerProgress.containsKey(id)) {
+            return Collections.emptySet();
+        }
+        return Collections.unmodifiableSet(playerProgress.get(id));
+    }
+
+    @Override
+    public boolean isDone(Player player, NamespacedKey id) {
+        Registered registered = advancements.get(id);
+        if (registered == null) {
+            return false;
+        }
+        Set<String> awarded = getAwardedCriteria(player.getUniqueId(), id);
+        for (List<String> requirement : registered.requirements) {
+            if (Collections.disjoint(requirement, awarded)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public void grant(Player player, NamespacedKey id) {
+        Registered registered = advancements.get(id);
+        if (registered != null) {
+            award(player, id, registered.criteria);
+        }
+    }
+
+    @Override
+    public void award(Player player, NamespacedKey id, Collection<String> criteria) {
+        Registered registered = advancements.get(id);
+        if (registered == null) {
+            return;
+        }
+        Set<String> awarded = progress.computeIfAbsent(player.getUniqueId(), uuid -> new HashMap<>())
+                .computeIfAbsent(id, key -> new HashSet<>());
+        for (String criterion : criteria) {
+            if (registered.criteria.contains(criterion)) {
+                awarded.add(criterion);
+            }
+        }
+    }
+
+    @Override
+    public void revoke(Player player, NamespacedKey id) {
+        Map<NamespacedKey, Set<String>> playerProgress = progress.get(player.getUniqueId());
+        if (playerProgress != null) {
+            playerProgress.remove(id);
+        }
+    }
+
+    private static class Registered {
+        private final String json;
+        private final Set<String> criteria = new HashSet<>();
+        private final List<List<String>> requirements = new ArrayList<>();
+
+        private Registered(String json) {
+            this.json = json;
+            JsonObject advancement = new JsonParser().parse(json).getAsJsonObject();
+            for (Map.Entry<String, JsonElement> criterion : advancement.getAsJsonObject("criteria").entrySet()) {
+                criteria.add(criterion.getKey());
+            }
+            if (advancement.has("requirements")) {
+                for (JsonElement requirement : advancement.getAsJsonArray("requirements")) {
+                    List<String> ors = new ArrayList<>();
+                    requirement.getAsJsonArray().forEach(criterion -> ors.add(criterion.getAsString()));
+                    requirements.add(ors);
+                }
+            } else {
+                criteria.forEach(criterion -> requirements.add(Collections.singletonList(criterion)));
+            }
+        }
+    }
+}
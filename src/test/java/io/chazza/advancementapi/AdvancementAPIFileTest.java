@@ -9,11 +9,19 @@ import java.io.File;
 import java.io.FileReader;
 import java.io.FileWriter;
 import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
 
 import org.bukkit.NamespacedKey;
 import org.junit.After;
 import org.junit.Test;
 
+import io.chazza.advancementapi.storage.SaveResult;
+
 public class AdvancementAPIFileTest {
     @SuppressWarnings("deprecation")
     private static final NamespacedKey nsk = new NamespacedKey("tests", "id");
@@ -95,4 +103,67 @@ public class AdvancementAPIFileTest {
 
         assertThat(underTest.delete0(worldFile), is(false));
     }
+
+    @SuppressWarnings("deprecation")
+    @Test
+    public void testAdvancement_SaveAll_THEN_SaveAllAdvancementsToLocalFileDir() {
+        AdvancementAPI first = AdvancementAPI.builder(nsk).build();
+        AdvancementAPI second = AdvancementAPI.builder(new NamespacedKey("other", "id")).build();
+
+        SaveResult<AdvancementAPI> result = AdvancementAPI.saveAll0(worldFile, Arrays.asList(first, second), 2,
+                false);
+
+        assertThat(result.getWritten(), is(2));
+        assertThat(new File(worldFile, "data/advancements/tests/id.json").exists(), is(true));
+        assertThat(new File(worldFile, "data/advancements/other/id.json").exists(), is(true));
+    }
+
+    @SuppressWarnings("deprecation")
+    @Test
+    public void testAdvancement_GIVEN_SaveAllWithoutAdvancement_THEN_KeepItsFile() {
+        AdvancementAPI first = AdvancementAPI.builder(nsk).build();
+        AdvancementAPI second = AdvancementAPI.builder(new NamespacedKey("tests", "other")).build();
+        File secondFile = new File(worldFile, "data/advancements/tests/other.json");
+
+        AdvancementAPI.saveAll0(worldFile, Arrays.asList(first, second), 1, false);
+        SaveResult<AdvancementAPI> saved = AdvancementAPI.saveAll0(worldFile, Arrays.asList(first), 1, false);
+        boolean kept = secondFile.exists();
+        SaveResult<AdvancementAPI> replaced = AdvancementAPI.saveAll0(worldFile, Arrays.asList(first), 1, true);
+
+        assertThat(saved.getDeleted(), is(0));
+        assertThat(kept, is(true));
+        assertThat(replaced.getDeleted(), is(1));
+        assertThat(secondFile.exists(), is(false));
+    }
+
+    @Test
+    public void testAdvancement_GIVEN_UnchangedAdvancement_THEN_SkipWritingFile() throws Exception {
+        underTest = AdvancementAPI.builder(nsk).build();
+        File advancement = new File(worldFile, "data/advancements/tests/id.json");
+
+        assertThat(underTest.save0(worldFile), is(true));
+        assertThat(advancement.setLastModified(1000L), is(true));
+        assertThat(underTest.save0(worldFile), is(true));
+
+        assertThat(advancement.lastModified(), is(1000L));
+        assertThat(new File(worldFile, "data/advancements/.advancementapi-index").exists(), is(true));
+    }
+
+    @SuppressWarnings("deprecation")
+    @Test
+    public void testAdvancement_SaveAllToMultipleWorlds_THEN_ExpectSameFilesInAllWorlds() throws Exception {
+        AdvancementAPI first = AdvancementAPI.builder(nsk).build();
+        AdvancementAPI second = AdvancementAPI.builder(new NamespacedKey("tests", "other")).build();
+        List<Path> folders = Arrays.asList(worldFile.toPath().resolve("lobby"), worldFile.toPath().resolve("events"));
+
+        Map<Path, SaveResult<AdvancementAPI>> results = AdvancementAPI.saveAll0(folders, Arrays.asList(first, second),
+                2, false);
+        int deleted = AdvancementAPI.deleteAll0(folders, Collections.singletonList(second.getId()));
+
+        assertThat(results.get(folders.get(1)).getWritten(), is(2));
+        assertThat(deleted, is(2));
+        assertThat(Files.readAllBytes(folders.get(0).resolve("tests/id.json")).length,
+                is(first.getJsonBytes().remaining()));
+        assertThat(Files.exists(folders.get(1).resolve("tests/other.json")), is(false));
+    }
 }
\ No newline at end of file
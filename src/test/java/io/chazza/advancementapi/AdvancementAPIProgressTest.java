@@ -0,0 +1,98 @@
+package io.chazza.advancementapi;
+
+import static io.chazza.advancementapi.TestPlayers.player;
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+import java.util.Collections;
+import java.util.UUID;
+
+import org.bukkit.NamespacedKey;
+import org.bukkit.entity.Player;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import io.chazza.advancementapi.transport.BukkitTransport;
+import io.chazza.advancementapi.transport.InMemoryTransport;
+
+public class AdvancementAPIProgressTest {
+    @SuppressWarnings("deprecation")
+    private static final NamespacedKey nsk = new NamespacedKey("tests", "id");
+    @SuppressWarnings("deprecation")
+    private static final NamespacedKey nsk2 = new NamespacedKey("tests", "id2");
+
+    private InMemoryTransport transport = new InMemoryTransport();
+    private Player player = player(UUID.randomUUID());
+    private AdvancementAPI underTest;
+
+    @Before
+    public void setUp() {
+        AdvancementAPI.setTransport(transport);
+        //@formatter:off
+        underTest = AdvancementAPI.builder(nsk)
+                .trigger(Trigger.builder(TriggerType.IMPOSSIBLE, "a"))
+                .trigger(Trigger.builder(TriggerType.IMPOSSIBLE, "b"))
+                .build();
+        //@formatter:on
+    }
+
+    @After
+    public void tearDown() {
+        AdvancementAPI.setTransport(new BukkitTransport());
+    }
+
+    @Test
+    public void testAdvancement_Add_THEN_ExpectRegisteredJson() {
+        assertThat(underTest.add0(), is(true));
+
+        assertThat(transport.getJson(nsk), is(underTest.getJson()));
+    }
+
+    @Test
+    public void testAdvancement_Remove_THEN_ExpectUnregistered() {
+        underTest.add0();
+
+        assertThat(underTest.remove0(), is(true));
+        assertThat(transport.getJson(nsk), is((String) null));
+    }
+
+    @Test
+    public void testAdvancement_Grant_THEN_ExpectDone() {
+        underTest.add0();
+        underTest.grant(player);
+
+        assertThat(transport.isDone(player, nsk), is(true));
+    }
+
+    @Test
+    public void testAdvancement_GIVEN_PartialProgress_WHEN_Revoke_THEN_ExpectProgressKept() {
+        underTest.add0();
+        transport.award(player, nsk, Collections.singleton("a"));
+
+        underTest.revoke(player);
+        assertThat(transport.getAwardedCriteria(player.getUniqueId(), nsk), is(Collections.singleton("a")));
+    }
+
+    @Test
+    public void testAdvancement_GIVEN_PartialProgress_WHEN_Reset_THEN_ExpectProgressCleared() {
+        underTest.add0();
+        transport.award(player, nsk, Collections.singleton("a"));
+
+        underTest.reset(player);
+        assertThat(transport.getAwardedCriteria(player.getUniqueId(), nsk).isEmpty(), is(true));
+    }
+
+    @Test
+    public void testAdvancement_ResetAll_THEN_ExpectWholeNamespaceCleared() {
+        underTest.add0();
+        underTest.grant(player);
+        AdvancementAPI advancement2 = AdvancementAPI.builder(nsk2).build();
+        advancement2.add0();
+        advancement2.grant(player);
+
+        assertThat(AdvancementAPI.resetAll("tests", player), is(2));
+        assertThat(transport.getAwardedCriteria(player.getUniqueId(), nsk).isEmpty(), is(true));
+        assertThat(transport.getAwardedCriteria(player.getUniqueId(), nsk2).isEmpty(), is(true));
+    }
+}
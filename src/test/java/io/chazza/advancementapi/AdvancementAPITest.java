@@ -10,6 +10,10 @@ import org.junit.Test;
 
 import com.google.gson.Gson;
 
+import io.chazza.advancementapi.Display.DisplayBuilder;
+import io.chazza.advancementapi.Rewards.RewardsBuilder;
+import io.chazza.advancementapi.Trigger.TriggerBuilder;
+
 public class AdvancementAPITest {
     @SuppressWarnings("deprecation")
     private static final NamespacedKey nsk = new NamespacedKey("tests", "id");
@@ -98,4 +102,66 @@ public class AdvancementAPITest {
         assertThat(underTest.getJson(), is(notNullValue()));
         assertThat(underTest.getJson(), is(not("")));
     }
+
+    @Test
+    public void testAdvancementAPI_ToBuilder_THEN_ExpectSameJsonWithOtherId() {
+        @SuppressWarnings("deprecation")
+        NamespacedKey variantId = new NamespacedKey("tests", "variant");
+        underTest = AdvancementAPI.builder(nsk).parent("test/id2")
+                .display(Display.builder("Bronze", "", "minecraft:stone"))
+                .trigger(Trigger.builder(TriggerType.IMPOSSIBLE, "t1"))
+                .requirements(Requirements.builder().andOneOfThese("t1")).rewards(Rewards.builder().experience(10))
+                .build();
+
+        AdvancementAPI variant = underTest.toBuilder(variantId).build();
+
+        assertThat(variant.getId(), is(variantId));
+        assertThat(gson.toJson(variant.toJson()), is(gson.toJson(underTest.toJson())));
+    }
+
+    @Test
+    public void testAdvancementAPI_GIVEN_VariantWithTrigger_THEN_ExpectSourceUnchanged() {
+        underTest = AdvancementAPI.builder(nsk).trigger(Trigger.builder(TriggerType.IMPOSSIBLE, "t1")).build();
+
+        AdvancementAPI variant = underTest.toBuilder().trigger(Trigger.builder(TriggerType.IMPOSSIBLE, "t2")).build();
+
+        assertThat(gson.toJson(underTest.toJson()),
+                is("{\"criteria\":{\"t1\":{\"trigger\":\"minecraft:impossible\"}}}"));
+        assertThat(gson.toJson(variant.toJson()), is("{\"criteria\":{\"t1\":{\"trigger\":\"minecraft:impossible\"},"
+                + "\"t2\":{\"trigger\":\"minecraft:impossible\"}}}"));
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void testAdvancementAPI_GIVEN_FromJson_ToBuilder_THEN_ExpectIllegalStateException() {
+        underTest = AdvancementAPI.fromJson(nsk, "{\"criteria\":{}}");
+
+        underTest.toBuilder();
+    }
+
+    @Test
+    public void testAdvancementAPI_GIVEN_VariantOfSourceWithoutTriggers_THEN_ExpectOnlyRealCriterion() {
+        underTest = AdvancementAPI.builder(nsk).build();
+
+        AdvancementAPI variant = underTest.toBuilder().trigger(Trigger.builder(TriggerType.IMPOSSIBLE, "t1")).build();
+
+        assertThat(gson.toJson(variant.toJson()),
+                is("{\"criteria\":{\"t1\":{\"trigger\":\"minecraft:impossible\"}}}"));
+        assertThat(gson.toJson(underTest.toJson()),
+                is("{\"criteria\":{\"default\":{\"trigger\":\"minecraft:impossible\"}}}"));
+    }
+
+    @Test
+    public void testAdvancementAPI_GIVEN_BuildersChangedAfterBuild_THEN_ExpectAdvancementUnchanged() {
+        DisplayBuilder display = Display.builder("Bronze", "", "minecraft:stone");
+        TriggerBuilder trigger = Trigger.builder(TriggerType.IMPOSSIBLE, "t1");
+        RewardsBuilder rewards = Rewards.builder().experience(10);
+        underTest = AdvancementAPI.builder(nsk).display(display).trigger(trigger).rewards(rewards).build();
+        String json = gson.toJson(underTest.toJson());
+
+        display.title("Gold");
+        trigger.name("t2");
+        rewards.experience(20);
+        assertThat(gson.toJson(underTest.toJson()), is(json));
+        assertThat(gson.toJson(underTest.toBuilder().build().toJson()), is(json));
+    }
 }
\ No newline at end of file
@@ -0,0 +1,89 @@
+package io.chazza.advancementapi;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+
+import org.bukkit.NamespacedKey;
+import org.junit.Test;
+
+public class AdvancementRegistryTest {
+    private AdvancementRegistry underTest = new AdvancementRegistry();
+
+    @SuppressWarnings("deprecation")
+    private static NamespacedKey id(String key) {
+        return new NamespacedKey("tests", key);
+    }
+
+    private static AdvancementAPI advancement(String key, String parent) {
+        //@formatter:off
+        return parent == null
+                ? AdvancementAPI.builder(id(key)).build()
+                : AdvancementAPI.builder(id(key)).parent(id(parent)).build();
+        //@formatter:on
+    }
+
+    private static List<String> keys(List<AdvancementAPI> advancements) {
+        List<String> keys = new ArrayList<>();
+        advancements.forEach(advancement -> keys.add(advancement.getId().getKey()));
+        return keys;
+    }
+
+    @Test
+    public void testAdvancementRegistry_GetSorted_THEN_ExpectParentsFirst() {
+        underTest.register(advancement("c", "b"));
+        underTest.register(advancement("b", "a"));
+        underTest.register(advancement("a", null));
+
+        assertThat(keys(underTest.getSorted()), is(Arrays.asList("a", "b", "c")));
+        assertThat(keys(underTest.getSubtree(id("b"))), is(Arrays.asList("b", "c")));
+    }
+
+    @Test
+    public void testAdvancementRegistry_GIVEN_ParentCycle_THEN_ExpectCyclicReported() {
+        underTest.register(advancement("a", null));
+        underTest.register(advancement("b", "c"));
+        underTest.register(advancement("c", "b"));
+        underTest.register(advancement("d", "c"));
+
+        assertThat(keys(underTest.getSorted()), is(Arrays.asList("a")));
+        assertThat(new HashSet<>(keys(underTest.getCyclic())), is(new HashSet<>(Arrays.asList("b", "c", "d"))));
+    }
+
+    @Test
+    public void testAdvancementRegistry_GIVEN_ReplacedParent_THEN_ExpectChildrenUpdated() {
+        underTest.register(advancement("a", null));
+        underTest.register(advancement("b", null));
+        underTest.register(advancement("c", "a"));
+
+        underTest.register(advancement("c", "b"));
+
+        assertThat(underTest.getChildren(id("a")).isEmpty(), is(true));
+        assertThat(keys(underTest.getChildren(id("b"))), is(Arrays.asList("c")));
+        assertThat(underTest.size(), is(3));
+    }
+
+    @Test
+    public void testAdvancementRegistry_Unregister_THEN_ExpectRemoved() {
+        underTest.register(advancement("a", null));
+        underTest.register(advancement("b", "a"));
+
+        underTest.unregister(id("b"));
+
+        assertThat(underTest.contains(id("b")), is(false));
+        assertThat(underTest.getChildren(id("a")).isEmpty(), is(true));
+    }
+
+    @Test
+    public void testAdvancementAPI_FromJson_THEN_ExpectJsonKept() {
+        AdvancementAPI advancement = AdvancementAPI.fromJson(id("a"), "{\"parent\":\"tests:b\",\"criteria\":{}}");
+
+        assertThat(advancement.getParent(), is("tests:b"));
+        assertThat(advancement.getJson(), is("{\"parent\":\"tests:b\",\"criteria\":{}}"));
+        assertThat(advancement.toJson().getAsJsonObject().has("criteria"), is(true));
+    }
+}
@@ -0,0 +1,105 @@
+package io.chazza.advancementapi;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.junit.Assert.assertThat;
+
+import org.bukkit.NamespacedKey;
+import org.junit.Test;
+
+import com.google.gson.JsonElement;
+import com.google.gson.JsonParser;
+
+import io.chazza.advancementapi.AdvancementAPI.AdvancementAPIBuilder;
+import io.chazza.advancementapi.AdvancementTemplate.RangeParameter;
+import io.chazza.advancementapi.AdvancementTemplate.TextParameter;
+import io.chazza.advancementapi.conditions.primitive.Item;
+import io.chazza.advancementapi.conditions.primitive.ItemList;
+import io.chazza.advancementapi.conditions.primitive.Range;
+import io.chazza.advancementapi.conditions.primitive.Range.RangeBuilder;
+
+public class AdvancementTemplateTest {
+    private final TextParameter block = AdvancementTemplate.text("block");
+    private final TextParameter title = AdvancementTemplate.text("title");
+    private final RangeParameter count = AdvancementTemplate.range("count");
+
+    private AdvancementTemplate underTest;
+
+    @SuppressWarnings("deprecation")
+    private static NamespacedKey key(String key) {
+        return new NamespacedKey("tests", key);
+    }
+
+    private static AdvancementAPIBuilder collect(String block, String title, RangeBuilder count) {
+        //@formatter:off
+        return AdvancementAPI.builder(key("template"))
+                .parent("tests:root")
+                .display(Display.builder(title, "Collect it", block).frame(FrameType.GOAL))
+                .trigger(Trigger.builder(TriggerType.INVENTORY_CHANGED, "collect")
+                        .condition(Condition.builder("items",
+                                ItemList.builder().add(Item.builder(block).count(count)))));
+        //@formatter:on
+    }
+
+    private static JsonElement parse(AdvancementAPI advancement) {
+        return new JsonParser().parse(advancement.getJson());
+    }
+
+    @Test
+    public void testAdvancementTemplate_Create_THEN_ExpectJsonOfBuilder() {
+        underTest = AdvancementTemplate.compile(collect(block.placeholder(), title.placeholder(), count.placeholder()),
+                block, title, count);
+
+        AdvancementAPI advancement = underTest.create(key("stone"), "minecraft:stone", "Stone", Range.atLeast(64));
+        AdvancementAPI dirt = underTest.create(key("dirt"), "minecraft:dirt", "Dirt", Range.exactly(2));
+
+        assertThat(advancement.getId(), is(key("stone")));
+        assertThat(advancement.getParent(), is("tests:root"));
+        assertThat(parse(advancement),
+                is(parse(collect("minecraft:stone", "Stone", Range.builder().min(64)).build())));
+        assertThat(parse(dirt), is(parse(collect("minecraft:dirt", "Dirt", Range.builder().range(2)).build())));
+    }
+
+    @Test
+    public void testAdvancementTemplate_GIVEN_SpecialChars_THEN_ExpectEscapedText() {
+        underTest = AdvancementTemplate.compile(collect("minecraft:stone", title.placeholder(), Range.builder()),
+                title);
+
+        AdvancementAPI advancement = underTest.create(key("quoted"), "The \"Rock\"");
+
+        assertThat(parse(advancement).getAsJsonObject().getAsJsonObject("display").getAsJsonObject("title")
+                .get("text").getAsString(), is("The \"Rock\""));
+    }
+
+    @Test
+    public void testAdvancementTemplate_GIVEN_ParentParameter_THEN_ExpectParentOfValue() {
+        TextParameter parent = AdvancementTemplate.text("parent");
+        underTest = AdvancementTemplate.compile(AdvancementAPI.builder(key("template")).parent(parent.placeholder()),
+                parent);
+
+        AdvancementAPI advancement = underTest.create(key("child"), "tests:other");
+        AdvancementAPI root = AdvancementTemplate.compile(AdvancementAPI.builder(key("template"))).create(key("root"));
+
+        assertThat(advancement.getParent(), is("tests:other"));
+        assertThat(parse(advancement).getAsJsonObject().get("parent").getAsString(), is("tests:other"));
+        assertThat(root.getParent(), is(nullValue()));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testAdvancementTemplate_GIVEN_WrongType_THEN_ExpectIllegalArgumentException() {
+        underTest = AdvancementTemplate.compile(collect(block.placeholder(), "", count.placeholder()), block, count);
+
+        underTest.create(key("wrong"), "minecraft:stone", "64");
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testAdvancementTemplate_GIVEN_DuplicateName_THEN_ExpectIllegalArgumentException() {
+        AdvancementTemplate.compile(collect(block.placeholder(), "", Range.builder()), block,
+                AdvancementTemplate.text("block"));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testAdvancementTemplate_GIVEN_UnusedParameter_THEN_ExpectIllegalArgumentException() {
+        AdvancementTemplate.compile(collect(block.placeholder(), "", Range.builder()), block, title);
+    }
+}
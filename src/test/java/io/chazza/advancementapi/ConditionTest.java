@@ -17,6 +17,7 @@ import io.chazza.advancementapi.conditions.primitive.Entity;
 import io.chazza.advancementapi.conditions.primitive.Item;
 import io.chazza.advancementapi.conditions.primitive.ItemList;
 import io.chazza.advancementapi.conditions.primitive.Range;
+import io.chazza.advancementapi.conditions.primitive.Range.RangeBuilder;
 
 public class ConditionTest {
     private static final Gson gson = new Gson();
@@ -123,4 +124,25 @@ public class ConditionTest {
 
         assertThat(json, is("{\"entered\":{\"biome\":\"minecraft:desert\"}}"));
     }
+
+    @Test
+    public void testCondition_GIVEN_BuilderChangedAfterBuild_THEN_ExpectConditionUnchanged() {
+        RangeBuilder range = Range.builder();
+        underTest = Condition.builder("durability", range).build();
+
+        range.range(5);
+        assertThat(gson.toJson(underTest.toJson()), is("1"));
+    }
+
+    @Test
+    public void testCondition_GIVEN_ToBuilder_THEN_ExpectSameJson() {
+        for (Condition condition : new Condition[] { Condition.builder(Location.builder().biome(Biome.VOID)).build(),
+                Condition.builder("entered", Location.builder().biome(Biome.DESERT)).build(),
+                Condition.builder("from", Dimension.OVERWORLD.toString()).build() }) {
+            underTest = condition.toBuilder().build();
+
+            assertThat(underTest.getJsonKey(), is(condition.getJsonKey()));
+            assertThat(gson.toJson(underTest.toJson()), is(gson.toJson(condition.toJson())));
+        }
+    }
 }
\ No newline at end of file
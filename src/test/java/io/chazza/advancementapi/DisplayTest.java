@@ -90,4 +90,16 @@ public class DisplayTest {
         String json = gson.toJson(underTest.toJson());
         assertThat(json, is("{\"title\":\"\",\"description\":\"\",\"icon\":{\"item\":\"\"},\"hidden\":true}"));
     }
+
+    @Test
+    public void testDisplay_GIVEN_VariantWithTitle_THEN_ExpectOtherPartsShared() {
+        underTest = Display.builder("Bronze", "", "minecraft:stone").frame(FrameType.GOAL).hidden(true).build();
+
+        Display variant = underTest.toBuilder().title("Gold").build();
+
+        assertThat(gson.toJson(underTest.toJson()), is("{\"title\":{\"text\":\"Bronze\"},\"description\":\"\","
+                + "\"icon\":{\"item\":\"minecraft:stone\"},\"frame\":\"goal\",\"hidden\":true}"));
+        assertThat(gson.toJson(variant.toJson()), is("{\"title\":{\"text\":\"Gold\"},\"description\":\"\","
+                + "\"icon\":{\"item\":\"minecraft:stone\"},\"frame\":\"goal\",\"hidden\":true}"));
+    }
 }
\ No newline at end of file
@@ -0,0 +1,47 @@
+package io.chazza.advancementapi;
+
+import java.lang.reflect.Proxy;
+import java.util.UUID;
+
+import org.bukkit.entity.Player;
+
+/**
+ * {@link Player} fixtures for tests.
+ */
+public final class TestPlayers {
+    private TestPlayers() {
+        // utility class
+    }
+
+    /**
+     * Returns a {@link Player} which only knows its {@link UUID}.
+     * 
+     * @param uuid the {@link UUID}
+     * @return the player
+     */
+    public static Player player(UUID uuid) {
+        return player(uuid, true);
+    }
+
+    /**
+     * Returns a {@link Player} which only knows its {@link UUID} and whether it
+     * is online.
+     * 
+     * @param uuid the {@link UUID}
+     * @param online whether the player is online
+     * @return the player
+     */
+    public static Player player(UUID uuid, boolean online) {
+        return (Player) Proxy.newProxyInstance(Player.class.getClassLoader(), new Class<?>[] { Player.class },
+                (proxy, method, args) -> {
+                    switch (method.getName()) {
+                    case "getUniqueId":
+                        return uuid;
+                    case "isOnline":
+                        return online;
+                    default:
+                        return null;
+                    }
+                });
+    }
+}
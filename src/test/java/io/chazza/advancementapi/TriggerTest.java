@@ -8,6 +8,7 @@ import org.junit.Test;
 
 import com.google.gson.Gson;
 
+import io.chazza.advancementapi.Condition.ConditionBuilder;
 import io.chazza.advancementapi.conditions.primitive.Damage;
 import io.chazza.advancementapi.conditions.primitive.DamageFlags;
 import io.chazza.advancementapi.conditions.primitive.Enchantment;
@@ -92,4 +93,28 @@ public class TriggerTest {
         String json = gson.toJson(underTest.toJson());
         assertThat(json, is("{\"trigger\":\"minecraft:entity_hurt_player\"}"));
     }
+
+    @Test
+    public void testTrigger_GIVEN_VariantWithCondition_THEN_ExpectSourceUnchanged() {
+        underTest = Trigger.builder(TriggerType.BRED_ANIMALS, "test_simple")
+                .condition(Condition.builder("c1", Range.builder())).build();
+
+        Trigger variant = underTest.toBuilder().condition(Condition.builder("c2", Range.builder().range(2))).build();
+
+        assertThat(gson.toJson(underTest.toJson()),
+                is("{\"trigger\":\"minecraft:bred_animals\",\"conditions\":{\"c1\":1}}"));
+        assertThat(gson.toJson(variant.toJson()),
+                is("{\"trigger\":\"minecraft:bred_animals\",\"conditions\":{\"c1\":1,\"c2\":2}}"));
+        assertThat(variant.getJsonKey(), is("test_simple"));
+    }
+
+    @Test
+    public void testTrigger_GIVEN_ConditionChangedAfterBuild_THEN_ExpectTriggerUnchanged() {
+        ConditionBuilder condition = Condition.builder("c1", Range.builder());
+        underTest = Trigger.builder(TriggerType.BRED_ANIMALS, "test_simple").condition(condition).build();
+
+        condition.name("c2");
+        assertThat(gson.toJson(underTest.toJson()),
+                is("{\"trigger\":\"minecraft:bred_animals\",\"conditions\":{\"c1\":1}}"));
+    }
 }
\ No newline at end of file
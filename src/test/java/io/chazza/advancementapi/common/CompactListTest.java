@@ -0,0 +1,66 @@
+package io.chazza.advancementapi.common;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.junit.Assert.assertThat;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.Test;
+
+public class CompactListTest {
+    private List<String> source = new ArrayList<>(Arrays.asList("a", "b", "c"));
+
+    @Test
+    public void testCompactList_CopyOf_THEN_ExpectEqualElements() {
+        List<String> underTest = CompactList.copyOf(source);
+
+        assertThat(underTest, is(source));
+        assertThat(underTest.size(), is(3));
+        assertThat(underTest.get(1), is("b"));
+        assertThat(underTest.hashCode(), is(source.hashCode()));
+        List<String> visited = new ArrayList<>();
+        underTest.forEach(visited::add);
+        assertThat(visited, is(source));
+    }
+
+    @Test
+    public void testCompactList_GIVEN_SourceChanged_THEN_ExpectCopyUnchanged() {
+        List<String> underTest = CompactList.copyOf(source);
+
+        source.add("d");
+
+        assertThat(underTest, is(Arrays.asList("a", "b", "c")));
+    }
+
+    @Test
+    public void testCompactList_GIVEN_Empty_THEN_ExpectSharedEmptyList() {
+        assertThat(CompactList.copyOf(new ArrayList<String>()), sameInstance(Collections.<String> emptyList()));
+        assertThat(CompactList.<String> of(), sameInstance(Collections.<String> emptyList()));
+    }
+
+    @Test
+    public void testCompactList_GIVEN_CompactList_THEN_ExpectNoCopy() {
+        List<String> underTest = CompactList.copyOf(source);
+
+        assertThat(CompactList.copyOf(underTest), sameInstance(underTest));
+    }
+
+    @Test
+    public void testCompactList_GIVEN_Array_THEN_ExpectArrayNotShared() {
+        String[] elements = { "a", "b" };
+        List<String> underTest = CompactList.of(elements);
+
+        elements[0] = "x";
+
+        assertThat(underTest, is(Arrays.asList("a", "b")));
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    public void testCompactList_Add_THEN_ExpectUnsupportedOperationException() {
+        CompactList.copyOf(source).add("d");
+    }
+}
@@ -0,0 +1,64 @@
+package io.chazza.advancementapi.common;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+import org.junit.Test;
+
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+
+public class JsonTemplateTest {
+    private JsonTemplate underTest;
+
+    @Test
+    public void testJsonTemplate_GIVEN_OnePlaceholder_THEN_ExpectValueSpliced() {
+        underTest = JsonTemplate.compile("{\"text\":\"{{a}}\"}", "{{a}}");
+
+        assertThat(underTest.render("Hello"), is("{\"text\":\"Hello\"}"));
+    }
+
+    @Test
+    public void testJsonTemplate_GIVEN_RepeatedPlaceholders_THEN_ExpectEachOccurrenceSpliced() {
+        underTest = JsonTemplate.compile("[\"{{b}}\",\"{{a}}\",\"{{b}}\"]", "{{a}}", "{{b}}");
+
+        assertThat(underTest.render("1", "2"), is("[\"2\",\"1\",\"2\"]"));
+    }
+
+    @Test
+    public void testJsonTemplate_GIVEN_NoPlaceholder_THEN_ExpectJsonUnchanged() {
+        underTest = JsonTemplate.compile("{\"a\":1}");
+
+        assertThat(underTest.render(), is("{\"a\":1}"));
+    }
+
+    @Test
+    public void testJsonTemplate_GIVEN_SpecialChars_THEN_ExpectValidJson() {
+        underTest = JsonTemplate.compile("{\"text\":\"{{a}}\"}", "{{a}}");
+        String value = "a \"quoted\" \\ text\nwith\ttabs and \u0001";
+
+        JsonObject json = new JsonParser().parse(underTest.render(value)).getAsJsonObject();
+        assertThat(json.get("text").getAsString(), is(value));
+    }
+
+    @Test
+    public void testJsonTemplate_RenderRaw_THEN_ExpectFragmentsNotEscaped() {
+        underTest = JsonTemplate.compile("{\"count\":-1.5,\"text\":\"{{a}}\"}", "-1.5", "{{a}}");
+
+        assertThat(underTest.renderRaw("{\"min\":1}", "a\\\"b"), is("{\"count\":{\"min\":1},\"text\":\"a\\\"b\"}"));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testJsonTemplate_GIVEN_WrongValueCount_THEN_ExpectException() {
+        underTest = JsonTemplate.compile("{\"text\":\"{{a}}\"}", "{{a}}");
+
+        underTest.render("1", "2");
+    }
+
+    @Test
+    public void testJsonTemplate_Escape_GIVEN_PlainText_THEN_ExpectSameInstance() {
+        String value = "plain";
+
+        assertThat(JsonTemplate.escape(value) == value, is(true));
+    }
+}
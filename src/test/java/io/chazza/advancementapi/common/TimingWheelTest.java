@@ -0,0 +1,97 @@
+package io.chazza.advancementapi.common;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.Test;
+
+public class TimingWheelTest {
+    private TimingWheel<String> underTest = new TimingWheel<>(8);
+    private List<String> due = new ArrayList<>();
+
+    @Test
+    public void testTimingWheel_GIVEN_Delay3_THEN_ExpectDueAfter3Ticks() {
+        underTest.schedule(3, "a");
+
+        underTest.advance(due::add);
+        underTest.advance(due::add);
+        assertThat(due.isEmpty(), is(true));
+
+        underTest.advance(due::add);
+        assertThat(due, is(Arrays.asList("a")));
+        assertThat(underTest.size(), is(0));
+    }
+
+    @Test
+    public void testTimingWheel_GIVEN_DelayLongerThanWheel_THEN_ExpectDueAfterDelay() {
+        underTest.schedule(20, "a");
+        underTest.schedule(4, "b");
+
+        for (int i = 0; i < 19; i++) {
+            underTest.advance(due::add);
+        }
+        assertThat(due, is(Arrays.asList("b")));
+
+        underTest.advance(due::add);
+        assertThat(due, is(Arrays.asList("b", "a")));
+    }
+
+    @Test
+    public void testTimingWheel_GIVEN_DelayZero_THEN_ExpectDueNextTick() {
+        underTest.schedule(0, "a");
+
+        underTest.advance(due::add);
+        assertThat(due, is(Arrays.asList("a")));
+    }
+
+    @Test
+    public void testTimingWheel_GIVEN_SameDeadline_THEN_ExpectScheduleOrder() {
+        underTest.schedule(2, "a");
+        underTest.schedule(2, "b");
+        assertThat(underTest.size(), is(2));
+
+        underTest.advance(due::add);
+        underTest.advance(due::add);
+        assertThat(due, is(Arrays.asList("a", "b")));
+        assertThat(underTest.getTick(), is(2L));
+    }
+
+    @Test
+    public void testTimingWheel_GIVEN_DelaysOnSeveralLevels_THEN_ExpectEachDueAtItsTick() {
+        long[] delays = { 1, 7, 8, 9, 63, 64, 65, 511, 512, 4097, 100000 };
+        List<Long> dueTicks = new ArrayList<>();
+        TimingWheel<Long> wheel = new TimingWheel<>(8);
+        for (long delay : delays) {
+            wheel.schedule(delay, delay);
+        }
+
+        while (wheel.size() > 0) {
+            wheel.advance(delay -> {
+                assertThat(wheel.getTick(), is(delay));
+                dueTicks.add(delay);
+            });
+        }
+        assertThat(dueTicks.size(), is(delays.length));
+    }
+
+    @Test
+    public void testTimingWheel_GIVEN_ScheduledWhileAdvanced_THEN_ExpectDueRelativeToCurrentTick() {
+        for (int i = 0; i < 13; i++) {
+            underTest.advance(due::add);
+        }
+        underTest.schedule(70, "a");
+
+        for (int i = 0; i < 69; i++) {
+            underTest.advance(due::add);
+        }
+        assertThat(due.isEmpty(), is(true));
+
+        underTest.advance(due::add);
+        assertThat(due, is(Arrays.asList("a")));
+        assertThat(underTest.getTick(), is(83L));
+    }
+}
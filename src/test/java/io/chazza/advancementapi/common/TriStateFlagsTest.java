@@ -0,0 +1,64 @@
+package io.chazza.advancementapi.common;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.junit.Assert.assertThat;
+
+import org.junit.Test;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonObject;
+
+public class TriStateFlagsTest {
+    private static final String[] KEYS = { "a", "b", "c" };
+    private static final Gson gson = new Gson();
+
+    private int underTest;
+
+    @Test
+    public void testTriStateFlags_GIVEN_NoFlags_THEN_ExpectAllUnset() {
+        assertThat(TriStateFlags.isSet(underTest, 0), is(false));
+        assertThat(TriStateFlags.get(underTest, 2), is(nullValue()));
+    }
+
+    @Test
+    public void testTriStateFlags_Set_THEN_ExpectValues() {
+        underTest = TriStateFlags.set(underTest, 0, true);
+        underTest = TriStateFlags.set(underTest, 2, false);
+
+        assertThat(TriStateFlags.get(underTest, 0), is(Boolean.TRUE));
+        assertThat(TriStateFlags.get(underTest, 1), is(nullValue()));
+        assertThat(TriStateFlags.get(underTest, 2), is(Boolean.FALSE));
+    }
+
+    @Test
+    public void testTriStateFlags_GIVEN_Overwritten_THEN_ExpectLastValue() {
+        underTest = TriStateFlags.set(underTest, 1, true);
+        underTest = TriStateFlags.set(underTest, 1, false);
+
+        assertThat(TriStateFlags.get(underTest, 1), is(Boolean.FALSE));
+
+        underTest = TriStateFlags.unset(underTest, 1);
+
+        assertThat(TriStateFlags.isSet(underTest, 1), is(false));
+    }
+
+    @Test
+    public void testTriStateFlags_GIVEN_LastOfSixteenFlags_THEN_ExpectValue() {
+        underTest = TriStateFlags.set(underTest, TriStateFlags.MAX_FLAGS - 1, true);
+
+        assertThat(TriStateFlags.get(underTest, TriStateFlags.MAX_FLAGS - 1), is(Boolean.TRUE));
+        assertThat(TriStateFlags.isSet(underTest, TriStateFlags.MAX_FLAGS - 2), is(false));
+    }
+
+    @Test
+    public void testTriStateFlags_Write_THEN_ExpectSetFlagsInKeyOrder() {
+        underTest = TriStateFlags.set(underTest, 2, true);
+        underTest = TriStateFlags.set(underTest, 0, false);
+        JsonObject json = new JsonObject();
+
+        TriStateFlags.write(json, underTest, KEYS);
+
+        assertThat(gson.toJson(json), is("{\"a\":false,\"c\":true}"));
+    }
+}
@@ -54,4 +54,14 @@ public class EntityTest {
         String json = gson.toJson(underTest.toJson());
         assertThat(json, is("{\"nbt\":\"{Tags:[\\\"findme\\\"]}\"}"));
     }
+
+    @Test
+    public void testEntity_GIVEN_VariantWithDistance_THEN_ExpectTypeShared() {
+        underTest = Entity.builder().type("minecraft:creeper").distance(Range.builder().max(10)).build();
+
+        Entity variant = underTest.toBuilder().distance(Range.builder().max(20)).build();
+
+        assertThat(gson.toJson(underTest.toJson()), is("{\"type\":\"minecraft:creeper\",\"distance\":{\"max\":10}}"));
+        assertThat(gson.toJson(variant.toJson()), is("{\"type\":\"minecraft:creeper\",\"distance\":{\"max\":20}}"));
+    }
 }
\ No newline at end of file
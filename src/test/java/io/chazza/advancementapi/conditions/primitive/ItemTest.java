@@ -141,4 +141,19 @@ public class ItemTest {
         String json = gson.toJson(underTest.toJson());
         assertThat(json, is("{\"item\":\"minecraft:stone\",\"nbt\":\"{display:{Name:\\\"Test\\\"}}\"}"));
     }
+
+    @Test
+    public void testItem_GIVEN_VariantWithCount_THEN_ExpectSourceUnchanged() {
+        underTest = Item.builder("minecraft:stone").count(Range.builder().min(1))
+                .enchantment(Enchantment.builder("minecraft:fortune")).build();
+
+        Item variant = underTest.toBuilder().count(Range.builder().min(64)).build();
+        Item cleared = underTest.toBuilder().clearEnchantments().build();
+
+        assertThat(gson.toJson(underTest.toJson()), is("{\"item\":\"minecraft:stone\",\"count\":{\"min\":1},"
+                + "\"enchantments\":[{\"enchantment\":\"minecraft:fortune\"}]}"));
+        assertThat(gson.toJson(variant.toJson()), is("{\"item\":\"minecraft:stone\",\"count\":{\"min\":64},"
+                + "\"enchantments\":[{\"enchantment\":\"minecraft:fortune\"}]}"));
+        assertThat(gson.toJson(cleared.toJson()), is("{\"item\":\"minecraft:stone\",\"count\":{\"min\":1}}"));
+    }
 }
\ No newline at end of file
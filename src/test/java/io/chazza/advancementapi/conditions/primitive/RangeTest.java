@@ -1,6 +1,7 @@
 package io.chazza.advancementapi.conditions.primitive;
 
 import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.sameInstance;
 import static org.junit.Assert.assertThat;
 
 import org.junit.Test;
@@ -74,4 +75,61 @@ public class RangeTest {
         String json = gson.toJson(underTest.toJson());
         assertThat(json, is("{\"min\":2,\"max\":3}"));
     }
+
+    @Test
+    public void testRange_GIVEN_Decimals_THEN_ExpectJsonToBeDecimal() {
+        underTest = Range.builder().min(0.5).max(2.5).build();
+
+        String json = gson.toJson(underTest.toJson());
+        assertThat(json, is("{\"min\":0.5,\"max\":2.5}"));
+        assertThat(underTest.isDecimal(), is(true));
+    }
+
+    @Test
+    public void testRange_GIVEN_DecimalMinIntMax_THEN_ExpectJsonToKeepDecimal() {
+        underTest = Range.builder().min(0.5).max(2).build();
+
+        String json = gson.toJson(underTest.toJson());
+        assertThat(json, is("{\"min\":0.5,\"max\":2.0}"));
+    }
+
+    @Test
+    public void testRange_GIVEN_DecimalRange_THEN_ExpectJsonToBeDecimal() {
+        underTest = Range.builder().range(1.5).build();
+
+        String json = gson.toJson(underTest.toJson());
+        assertThat(json, is("1.5"));
+    }
+
+    @Test
+    public void testRange_GIVEN_CommonValues_THEN_ExpectSharedInstances() {
+        assertThat(Range.builder().range(3).build(), sameInstance(Range.exactly(3)));
+        assertThat(Range.builder().min(1).max(3).build(), sameInstance(Range.between(1, 3)));
+        assertThat(Range.builder().min(3).build(), sameInstance(Range.atLeast(3)));
+        assertThat(Range.builder().max(3).build(), sameInstance(Range.atMost(3)));
+        assertThat(Range.builder().build(), sameInstance(Range.exactly(1)));
+    }
+
+    @Test
+    public void testRange_GIVEN_UncommonValues_THEN_ExpectEqualRanges() {
+        assertThat(Range.between(100, 2000), is(Range.builder().min(100).max(2000).build()));
+        assertThat(Range.between(100, 2000).getJsonFragment(), is("{\"min\":100,\"max\":2000}"));
+        assertThat(Range.atLeast(3).equals(Range.atMost(3)), is(false));
+    }
+
+    @Test
+    public void testRange_GetJsonFragment_THEN_ExpectRenderedJson() {
+        assertThat(Range.exactly(-5).getJsonFragment(), is("-5"));
+        assertThat(Range.atMost(4).getJsonFragment(), is(gson.toJson(Range.atMost(4).toJson())));
+        assertThat(Range.atLeast(0.25).getJsonFragment(), is("{\"min\":0.25}"));
+    }
+
+    @Test
+    public void testRange_Test_THEN_ExpectValuesChecked() {
+        assertThat(Range.between(1, 3).test(3), is(true));
+        assertThat(Range.between(1, 3).test(3.5), is(false));
+        assertThat(Range.atLeast(2.5).test(2.5), is(true));
+        assertThat(Range.atMost(2).test(-10), is(true));
+        assertThat(Range.exactly(2).test(2.1), is(false));
+    }
 }
\ No newline at end of file
@@ -0,0 +1,134 @@
+package io.chazza.advancementapi.playerdata;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.UUID;
+
+import org.bukkit.NamespacedKey;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+
+import io.chazza.advancementapi.AdvancementAPI;
+import io.chazza.advancementapi.AdvancementRegistry;
+import io.chazza.advancementapi.storage.AtomicFileWriter;
+import io.chazza.advancementapi.transport.BukkitTransport;
+import io.chazza.advancementapi.transport.InMemoryTransport;
+
+public class ProgressCompactorTest {
+    private static final String PROGRESS = "{\"criteria\":{\"a\":\"2017-10-02 12:34:56 +0200\"},\"done\":true}";
+
+    @Rule
+    public TemporaryFolder tmp = new TemporaryFolder();
+
+    private Path advancementsFolder;
+    private Path progressFolder;
+    private final AdvancementRegistry registry = new AdvancementRegistry();
+    private final InMemoryTransport transport = new InMemoryTransport();
+
+    private ProgressCompactor underTest = new ProgressCompactor(registry, new AtomicFileWriter(false));
+
+    @Before
+    public void setUp() {
+        advancementsFolder = tmp.getRoot().toPath().resolve("data/advancements");
+        progressFolder = tmp.getRoot().toPath().resolve("advancements");
+        AdvancementAPI.setTransport(transport);
+    }
+
+    @After
+    public void tearDown() {
+        AdvancementAPI.setTransport(new BukkitTransport());
+    }
+
+    private static void write(Path file, String content) throws IOException {
+        Files.createDirectories(file.getParent());
+        Files.write(file, content.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static JsonObject read(Path file) throws IOException {
+        return new JsonParser().parse(new String(Files.readAllBytes(file), StandardCharsets.UTF_8))
+                .getAsJsonObject();
+    }
+
+    //@formatter:off
+    private static String progress() {
+        return "{"
+                + "\"minecraft:story/root\":" + PROGRESS + ","
+                + "\"tests:registered\":" + PROGRESS + ","
+                + "\"tests:saved/nested\":" + PROGRESS + ","
+                + "\"tests:deleted\":" + PROGRESS + ","
+                + "\"gone:old\":" + PROGRESS + ","
+                + "\"other:plugin\":" + PROGRESS + ","
+                + "\"DataVersion\":1343"
+                + "}";
+    }
+    //@formatter:on
+
+    @SuppressWarnings("deprecation")
+    @Test
+    public void testProgressCompactor_Compact_THEN_ExpectStaleEntriesRemoved() throws Exception {
+        registry.register(AdvancementAPI.builder(new NamespacedKey("tests", "registered")).build());
+        write(advancementsFolder.resolve("tests/saved/nested.json"), "{\"criteria\":{}}");
+        write(advancementsFolder.resolve("minecraft/custom.json"), "{\"criteria\":{}}");
+        Path file = progressFolder.resolve(new UUID(0, 1) + ".json");
+        write(file, progress());
+        long size = Files.size(file);
+
+        EditResult result = underTest.namespace("gone").compact(advancementsFolder, progressFolder, player -> true);
+
+        assertThat(result.getModified(), is(1));
+        assertThat(result.getRemoved(), is(2L));
+        assertThat(result.getBytesReclaimed(), is(size - Files.size(file)));
+        JsonObject json = read(file);
+        assertThat(json.has("tests:deleted"), is(false));
+        assertThat(json.has("gone:old"), is(false));
+        assertThat(json.has("tests:registered"), is(true));
+        assertThat(json.has("tests:saved/nested"), is(true));
+        assertThat(json.has("minecraft:story/root"), is(true));
+        assertThat(json.has("other:plugin"), is(true));
+        assertThat(json.get("DataVersion").getAsInt(), is(1343));
+    }
+
+    @SuppressWarnings("deprecation")
+    @Test
+    public void testProgressCompactor_GIVEN_RuntimeOnlyAdvancement_THEN_ExpectProgressKept() throws Exception {
+        registry.register(AdvancementAPI.builder(new NamespacedKey("tests", "registered")).build());
+        transport.register(new NamespacedKey("tests", "deleted"), "{\"criteria\":{}}");
+        Path file = progressFolder.resolve(new UUID(0, 1) + ".json");
+        write(file, progress());
+
+        EditResult result = underTest.compact(advancementsFolder, progressFolder, player -> true);
+
+        assertThat(result.getRemoved(), is(1L));
+        JsonObject json = read(file);
+        assertThat(json.has("tests:deleted"), is(true));
+        assertThat(json.has("tests:saved/nested"), is(false));
+    }
+
+    @Test
+    public void testProgressCompactor_GIVEN_NoStaleEntries_THEN_ExpectFilesUntouched() throws Exception {
+        write(advancementsFolder.resolve("tests/deleted.json"), "{\"criteria\":{}}");
+        String content = "{\"tests:deleted\":" + PROGRESS + "}";
+        for (int i = 0; i < 10; i++) {
+            write(progressFolder.resolve(new UUID(0, i) + ".json"), content);
+        }
+
+        EditResult result = underTest.compact(advancementsFolder, progressFolder, player -> true);
+
+        assertThat(result.getScanned(), is(10));
+        assertThat(result.getModified(), is(0));
+        assertThat(result.getBytesReclaimed(), is(0L));
+        assertThat(new String(Files.readAllBytes(progressFolder.resolve(new UUID(0, 0) + ".json")),
+                StandardCharsets.UTF_8), is(content));
+    }
+}
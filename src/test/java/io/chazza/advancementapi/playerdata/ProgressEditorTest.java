@@ -0,0 +1,156 @@
+package io.chazza.advancementapi.playerdata;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.UUID;
+
+import org.bukkit.NamespacedKey;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+
+import io.chazza.advancementapi.AdvancementAPI;
+import io.chazza.advancementapi.playerdata.ProgressEditor.Operation;
+import io.chazza.advancementapi.storage.AtomicFileWriter;
+
+public class ProgressEditorTest {
+    private static final String DATE = "2017-10-02 12:34:56 +0200";
+
+    @Rule
+    public TemporaryFolder tmp = new TemporaryFolder();
+
+    private Path folder;
+    private final UUID player = UUID.fromString("069a79f4-44e9-4726-a5be-fca90e38aaf5");
+    private Path file;
+
+    private ProgressEditor underTest = new ProgressEditor(Arrays.asList(
+            advancement("quest", "{\"criteria\":{\"a\":{},\"b\":{}},\"requirements\":[[\"a\"],[\"b\"]]}"),
+            advancement("either", "{\"criteria\":{\"a\":{},\"b\":{}},\"requirements\":[[\"a\",\"b\"]]}")),
+            new AtomicFileWriter(false));
+
+    @Before
+    public void setUp() {
+        folder = tmp.getRoot().toPath().resolve("advancements");
+        file = folder.resolve(player + ".json");
+    }
+
+    @SuppressWarnings("deprecation")
+    private static AdvancementAPI advancement(String key, String json) {
+        return AdvancementAPI.fromJson(new NamespacedKey("tests", key), json.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private void write(Path target, String content) throws IOException {
+        Files.createDirectories(target.getParent());
+        Files.write(target, content.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private JsonObject read(Path target) throws IOException {
+        return new JsonParser().parse(new String(Files.readAllBytes(target), StandardCharsets.UTF_8))
+                .getAsJsonObject();
+    }
+
+    //@formatter:off
+    private String progress() {
+        return "{"
+                + "\"minecraft:story/root\":{\"criteria\":{\"crafting_table\":\"" + DATE + "\"},\"done\":true},"
+                + "\"tests:quest\":{\"criteria\":{\"a\":\"" + DATE + "\",\"old\":\"" + DATE + "\"},\"done\":false},"
+                + "\"DataVersion\":1343"
+                + "}";
+    }
+    //@formatter:on
+
+    @Test
+    public void testProgressEditor_Award_THEN_ExpectAllCriteriaAwarded() throws Exception {
+        write(file, progress());
+
+        EditResult result = underTest.editAll(folder, Operation.AWARD, uuid -> true);
+
+        assertThat(result.getScanned(), is(1));
+        assertThat(result.getModified(), is(1));
+        JsonObject json = read(file);
+        JsonObject quest = json.getAsJsonObject("tests:quest");
+        assertThat(quest.getAsJsonObject("criteria").get("a").getAsString(), is(DATE));
+        assertThat(quest.getAsJsonObject("criteria").has("b"), is(true));
+        assertThat(quest.get("done").getAsBoolean(), is(true));
+        assertThat(json.getAsJsonObject("tests:either").get("done").getAsBoolean(), is(true));
+        assertThat(json.getAsJsonObject("minecraft:story/root").getAsJsonObject("criteria")
+                .get("crafting_table").getAsString(), is(DATE));
+        assertThat(json.get("DataVersion").getAsInt(), is(1343));
+    }
+
+    @Test
+    public void testProgressEditor_Revoke_THEN_ExpectEntriesRemoved() throws Exception {
+        write(file, progress());
+
+        EditResult result = underTest.edit(file, Operation.REVOKE);
+
+        assertThat(result.getModified(), is(1));
+        assertThat(result.getRemoved(), is(2L));
+        assertThat(result.getBytesReclaimed() > 0, is(true));
+        JsonObject json = read(file);
+        assertThat(json.has("tests:quest"), is(false));
+        assertThat(json.has("minecraft:story/root"), is(true));
+    }
+
+    @Test
+    public void testProgressEditor_Purge_THEN_ExpectUnknownCriteriaRemoved() throws Exception {
+        write(file, progress());
+
+        EditResult result = underTest.edit(file, Operation.PURGE);
+
+        assertThat(result.getRemoved(), is(1L));
+        JsonObject quest = read(file).getAsJsonObject("tests:quest");
+        assertThat(quest.getAsJsonObject("criteria").has("a"), is(true));
+        assertThat(quest.getAsJsonObject("criteria").has("old"), is(false));
+        assertThat(quest.get("done").getAsBoolean(), is(false));
+    }
+
+    @Test
+    public void testProgressEditor_GIVEN_OutdatedDone_THEN_ExpectPurgeUpdatesDone() throws Exception {
+        write(file, "{\"tests:either\":{\"criteria\":{\"a\":\"" + DATE + "\"},\"done\":false}}");
+
+        EditResult result = underTest.edit(file, Operation.PURGE);
+
+        assertThat(result.getModified(), is(1));
+        assertThat(result.getRemoved(), is(0L));
+        assertThat(read(file).getAsJsonObject("tests:either").get("done").getAsBoolean(), is(true));
+    }
+
+    @Test
+    public void testProgressEditor_GIVEN_NoChange_THEN_ExpectFileUntouched() throws Exception {
+        String content = "{\"minecraft:story/root\":{\"criteria\":{\"crafting_table\":\"" + DATE + "\"},\"done\":true}}";
+        write(file, content);
+
+        EditResult result = underTest.edit(file, Operation.REVOKE);
+
+        assertThat(result.getModified(), is(0));
+        assertThat(new String(Files.readAllBytes(file), StandardCharsets.UTF_8), is(content));
+    }
+
+    @Test
+    public void testProgressEditor_GIVEN_ManyFiles_THEN_ExpectFilteredAndFailedReported() throws Exception {
+        for (int i = 0; i < 20; i++) {
+            write(folder.resolve(new UUID(0, i) + ".json"), progress());
+        }
+        write(folder.resolve(new UUID(1, 0) + ".json"), "{\"tests:quest\":");
+        write(folder.resolve("notes.json"), "{}");
+
+        EditResult result = underTest.editAll(folder, Operation.REVOKE, uuid -> uuid.getLeastSignificantBits() != 3);
+
+        assertThat(result.getScanned(), is(20));
+        assertThat(result.getModified(), is(19));
+        assertThat(result.getFailed().size(), is(1));
+        assertThat(read(folder.resolve(new UUID(0, 3) + ".json")).has("tests:quest"), is(true));
+        assertThat(read(folder.resolve(new UUID(0, 4) + ".json")).has("tests:quest"), is(false));
+    }
+}
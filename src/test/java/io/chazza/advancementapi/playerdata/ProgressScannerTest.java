@@ -0,0 +1,88 @@
+package io.chazza.advancementapi.playerdata;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.junit.Assert.assertThat;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.UUID;
+
+import org.bukkit.NamespacedKey;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import io.chazza.advancementapi.AdvancementAPI;
+import io.chazza.advancementapi.playerdata.ProgressReport.AdvancementStats;
+
+public class ProgressScannerTest {
+    private static final String DATE = "\"2017-10-02 12:34:56 +0200\"";
+
+    @Rule
+    public TemporaryFolder tmp = new TemporaryFolder();
+
+    private Path folder;
+
+    private ProgressScanner underTest = new ProgressScanner(Arrays.asList(
+            advancement("quest", "{\"criteria\":{\"a\":{},\"b\":{}}}"),
+            advancement("unused", "{\"criteria\":{\"a\":{}}}")));
+
+    @Before
+    public void setUp() {
+        folder = tmp.getRoot().toPath().resolve("advancements");
+    }
+
+    @SuppressWarnings("deprecation")
+    private static NamespacedKey id(String key) {
+        return new NamespacedKey("tests", key);
+    }
+
+    private static AdvancementAPI advancement(String key, String json) {
+        return AdvancementAPI.fromJson(id(key), json.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private void write(long player, String content) throws IOException {
+        Path file = folder.resolve(new UUID(0, player) + ".json");
+        Files.createDirectories(folder);
+        Files.write(file, content.getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    public void testProgressScanner_Scan_THEN_ExpectCounts() throws Exception {
+        for (int i = 0; i < 30; i++) {
+            String criteria = i < 10 ? "\"a\":" + DATE + ",\"b\":" + DATE : "\"a\":" + DATE;
+            write(i, "{\"tests:quest\":{\"criteria\":{" + criteria + "},\"done\":" + (i < 10) + "},"
+                    + "\"minecraft:story/root\":{\"criteria\":{\"crafting_table\":" + DATE + "},\"done\":true},"
+                    + "\"DataVersion\":1343}");
+        }
+        write(30, "{}");
+
+        ProgressReport result = underTest.scan(folder);
+
+        assertThat(result.getPlayers(), is(31));
+        AdvancementStats quest = result.getStats(id("quest"));
+        assertThat(quest.getStarted(), is(30L));
+        assertThat(quest.getDone(), is(10L));
+        assertThat(quest.getCriterion("a"), is(30L));
+        assertThat(quest.getCriterion("b"), is(10L));
+        assertThat(result.getStats(id("unused")).getStarted(), is(0L));
+        assertThat(result.getStats(NamespacedKey.minecraft("story/root")), is(nullValue()));
+        assertThat(result.format().contains("tests:quest done=10 (32.3%) started=30 {a=30, b=10}"), is(true));
+    }
+
+    @Test
+    public void testProgressScanner_GIVEN_BrokenFile_THEN_ExpectFailedReported() throws Exception {
+        write(0, "{\"tests:quest\":{\"criteria\":{\"a\":" + DATE + "},\"done\":false}}");
+        write(1, "{\"tests:quest\":");
+
+        ProgressReport result = underTest.scan(folder);
+
+        assertThat(result.getPlayers(), is(1));
+        assertThat(result.getFailed().size(), is(1));
+    }
+}
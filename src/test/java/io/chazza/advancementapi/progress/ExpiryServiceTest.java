@@ -0,0 +1,152 @@
+package io.chazza.advancementapi.progress;
+
+import static io.chazza.advancementapi.TestPlayers.player;
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.time.Duration;
+import java.time.temporal.ChronoUnit;
+import java.util.Arrays;
+import java.util.UUID;
+
+import org.bukkit.NamespacedKey;
+import org.bukkit.entity.Player;
+import org.bukkit.event.player.PlayerJoinEvent;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import io.chazza.advancementapi.AdvancementAPI;
+import io.chazza.advancementapi.Trigger;
+import io.chazza.advancementapi.TriggerType;
+import io.chazza.advancementapi.transport.BukkitTransport;
+import io.chazza.advancementapi.transport.InMemoryTransport;
+
+public class ExpiryServiceTest {
+    @SuppressWarnings("deprecation")
+    private static final NamespacedKey nsk = new NamespacedKey("tests", "badge");
+    @SuppressWarnings("deprecation")
+    private static final NamespacedKey nsk2 = new NamespacedKey("tests", "badge2");
+
+    @Rule
+    public TemporaryFolder tmp = new TemporaryFolder();
+
+    private InMemoryTransport transport = new InMemoryTransport();
+    private Player player = player(UUID.randomUUID());
+    private AdvancementAPI badge;
+    private File journal;
+    private ExpiryService underTest;
+
+    @Before
+    public void setUp() {
+        AdvancementAPI.setTransport(transport);
+        badge = AdvancementAPI.builder(nsk).trigger(Trigger.builder(TriggerType.IMPOSSIBLE, "a")).build();
+        transport.register(nsk, badge.getJson());
+        transport.register(nsk2, badge.getJson());
+        journal = new File(tmp.getRoot(), "expiries.journal");
+        underTest = new ExpiryService(null, journal);
+    }
+
+    @After
+    public void tearDown() {
+        AdvancementAPI.setTransport(new BukkitTransport());
+    }
+
+    private void tick(ExpiryService service, Player online, int ticks) {
+        for (int i = 0; i < ticks; i++) {
+            service.tick(uuid -> online != null && uuid.equals(online.getUniqueId()) ? online : null);
+        }
+    }
+
+    private void writeJournal(String... lines) throws IOException {
+        Files.write(journal.toPath(), Arrays.asList(lines), StandardCharsets.UTF_8);
+    }
+
+    @Test
+    public void testGrantFor_GIVEN_Online_THEN_ExpectRevokedAfterDuration() {
+        underTest.load();
+        underTest.grantFor(player, badge, Duration.ofMillis(100));
+        assertThat(transport.isDone(player, nsk), is(true));
+
+        tick(underTest, player, 4);
+        assertThat(transport.isDone(player, nsk), is(false));
+        assertThat(underTest.size(), is(0));
+    }
+
+    @Test
+    public void testGrantFor_GIVEN_OfflineWhenExpired_THEN_ExpectRevokedOnJoin() {
+        underTest.load();
+        underTest.grantFor(player, badge, Duration.ofMillis(100));
+
+        tick(underTest, null, 4);
+        assertThat(transport.isDone(player, nsk), is(true));
+
+        underTest.onJoin(new PlayerJoinEvent(player, null));
+        assertThat(transport.isDone(player, nsk), is(false));
+    }
+
+    @Test
+    public void testGrantFor_GIVEN_EndlessDuration_THEN_ExpectNeverExpires() {
+        underTest.load();
+        underTest.grantFor(player, badge, ChronoUnit.FOREVER.getDuration());
+
+        tick(underTest, player, 4);
+        assertThat(transport.isDone(player, nsk), is(true));
+        assertThat(underTest.size(), is(1));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testGrantFor_GIVEN_NegativeDuration_THEN_ExpectException() {
+        underTest.grantFor(player, badge, Duration.ofSeconds(-1));
+    }
+
+    @Test
+    public void testLoad_GIVEN_Journal_THEN_ExpectReplayed() throws IOException {
+        long later = System.currentTimeMillis() + Duration.ofHours(1).toMillis();
+        //@formatter:off
+        writeJournal(
+                "+ " + player.getUniqueId() + " " + nsk + " " + later,
+                "+ " + player.getUniqueId() + " " + nsk2 + " " + later,
+                "- " + player.getUniqueId() + " " + nsk2,
+                "+ " + player.getUniqueId() + " " + nsk2 + " 0");
+        //@formatter:on
+        transport.grant(player, nsk2);
+
+        underTest.load();
+        assertThat(underTest.size(), is(1));
+
+        // expired while the server was stopped
+        underTest.onJoin(new PlayerJoinEvent(player, null));
+        assertThat(transport.isDone(player, nsk2), is(false));
+    }
+
+    @Test
+    public void testStop_GIVEN_PendingExpiries_THEN_ExpectLoadedAgain() {
+        underTest.load();
+        underTest.grantFor(player, badge, Duration.ofHours(1));
+        underTest.stop();
+
+        ExpiryService restarted = new ExpiryService(null, journal);
+        restarted.load();
+        assertThat(restarted.size(), is(1));
+    }
+
+    @Test
+    public void testStop_GIVEN_OverdueExpiries_THEN_ExpectRevokedOnJoinAfterRestart() {
+        underTest.load();
+        underTest.grantFor(player, badge, Duration.ofMillis(100));
+        tick(underTest, null, 4);
+        underTest.stop();
+
+        ExpiryService restarted = new ExpiryService(null, journal);
+        restarted.load();
+        restarted.onJoin(new PlayerJoinEvent(player, null));
+        assertThat(transport.isDone(player, nsk), is(false));
+    }
+}
@@ -0,0 +1,117 @@
+package io.chazza.advancementapi.progress;
+
+import static io.chazza.advancementapi.TestPlayers.player;
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.UUID;
+
+import org.bukkit.NamespacedKey;
+import org.bukkit.entity.Player;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import io.chazza.advancementapi.AdvancementAPI;
+import io.chazza.advancementapi.transport.BukkitTransport;
+import io.chazza.advancementapi.transport.InMemoryTransport;
+
+public class ProgressQueueTest {
+    @SuppressWarnings("deprecation")
+    private static final NamespacedKey first = new NamespacedKey("tests", "first");
+    @SuppressWarnings("deprecation")
+    private static final NamespacedKey second = new NamespacedKey("tests", "second");
+    @SuppressWarnings("deprecation")
+    private static final NamespacedKey third = new NamespacedKey("tests", "third");
+    private static final String JSON = "{\"criteria\":{\"a\":{\"trigger\":\"minecraft:impossible\"},"
+            + "\"b\":{\"trigger\":\"minecraft:impossible\"}}}";
+
+    private ProgressQueue underTest = new ProgressQueue();
+    private InMemoryTransport transport = new InMemoryTransport();
+    private Player player = player(UUID.randomUUID());
+
+    @Before
+    public void setUp() {
+        for (NamespacedKey id : Arrays.asList(first, second, third)) {
+            transport.register(id, JSON);
+        }
+        AdvancementAPI.setTransport(transport);
+    }
+
+    @After
+    public void tearDown() {
+        AdvancementAPI.setTransport(new BukkitTransport());
+    }
+
+    @Test
+    public void testDrain_GIVEN_GrantThenRevoke_THEN_ExpectNothingAwarded() {
+        underTest.award(player, first, "a");
+        underTest.drain();
+
+        underTest.grant(player, first);
+        underTest.revoke(player, first);
+        assertThat(underTest.drain(), is(0));
+
+        assertThat(transport.getAwardedCriteria(player.getUniqueId(), first), is(Collections.emptySet()));
+    }
+
+    @Test
+    public void testDrain_GIVEN_RevokeThenAwards_THEN_ExpectOnlyAwardedCriteria() {
+        underTest.grant(player, first);
+        underTest.drain();
+
+        underTest.revoke(player, first);
+        underTest.award(player, first, "a");
+        underTest.award(player, first, "a");
+        assertThat(underTest.drain(), is(0));
+
+        assertThat(transport.getAwardedCriteria(player.getUniqueId(), first), is(Collections.singleton("a")));
+    }
+
+    @Test
+    public void testDrain_GIVEN_AwardThenGrant_THEN_ExpectDone() {
+        underTest.award(player, first, "a");
+        underTest.grant(player, first);
+        underTest.drain();
+
+        assertThat(transport.getAwardedCriteria(player.getUniqueId(), first),
+                is(new HashSet<>(Arrays.asList("a", "b"))));
+    }
+
+    @Test
+    public void testDrain_GIVEN_MoreThanMaxPerTick_THEN_ExpectCarriedOver() {
+        underTest.maxPerTick(2);
+        underTest.grant(player, first);
+        underTest.grant(player, second);
+        underTest.grant(player, third);
+
+        assertThat(underTest.drain(), is(1));
+        assertThat(transport.isDone(player, first), is(true));
+        assertThat(transport.isDone(player, second), is(true));
+        assertThat(transport.isDone(player, third), is(false));
+
+        assertThat(underTest.drain(), is(0));
+        assertThat(transport.isDone(player, third), is(true));
+    }
+
+    @Test
+    public void testDrain_GIVEN_OfflinePlayers_THEN_ExpectBudgetNotUsed() {
+        Player offline = player(UUID.randomUUID(), false);
+        underTest.maxPerTick(1);
+        underTest.grant(offline, first);
+        underTest.grant(offline, second);
+        underTest.grant(player, third);
+
+        assertThat(underTest.drain(), is(0));
+        assertThat(transport.isDone(player, third), is(true));
+        assertThat(transport.isDone(offline, first), is(false));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testMaxPerTick_GIVEN_Zero_THEN_ExpectException() {
+        underTest.maxPerTick(0);
+    }
+}
@@ -0,0 +1,68 @@
+package io.chazza.advancementapi.progress;
+
+import static io.chazza.advancementapi.TestPlayers.player;
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+import java.net.InetAddress;
+import java.util.Collections;
+import java.util.UUID;
+
+import org.bukkit.NamespacedKey;
+import org.bukkit.entity.Player;
+import org.bukkit.event.player.AsyncPlayerPreLoginEvent;
+import org.bukkit.event.player.PlayerLoginEvent;
+import org.junit.Test;
+
+public class ProgressRestorerTest {
+    @SuppressWarnings("deprecation")
+    private static final NamespacedKey nsk = new NamespacedKey("tests", "id");
+
+    private ProgressRestorer underTest = new ProgressRestorer(new ProgressQueue(),
+            uuid -> Collections.singletonMap(nsk, Collections.emptyList()));
+    private Player player = player(UUID.randomUUID());
+
+    private AsyncPlayerPreLoginEvent preLogin(AsyncPlayerPreLoginEvent.Result result) {
+        AsyncPlayerPreLoginEvent event = new AsyncPlayerPreLoginEvent("test", InetAddress.getLoopbackAddress(),
+                player.getUniqueId());
+        event.setLoginResult(result);
+        return event;
+    }
+
+    @Test
+    public void testOnPreLogin_GIVEN_Allowed_THEN_ExpectPreloaded() {
+        underTest.onPreLogin(preLogin(AsyncPlayerPreLoginEvent.Result.ALLOWED));
+
+        assertThat(underTest.isPreloaded(player.getUniqueId()), is(true));
+    }
+
+    @Test
+    public void testOnLogin_GIVEN_Denied_THEN_ExpectReleased() {
+        underTest.onPreLogin(preLogin(AsyncPlayerPreLoginEvent.Result.ALLOWED));
+        PlayerLoginEvent event = new PlayerLoginEvent(player, "localhost", InetAddress.getLoopbackAddress());
+        event.disallow(PlayerLoginEvent.Result.KICK_FULL, "full");
+
+        underTest.onLogin(event);
+        assertThat(underTest.isPreloaded(player.getUniqueId()), is(false));
+    }
+
+    @Test
+    public void testOnPreLogin_GIVEN_DeniedAfterIncompleteLogin_THEN_ExpectReleased() {
+        underTest.onPreLogin(preLogin(AsyncPlayerPreLoginEvent.Result.ALLOWED));
+
+        underTest.onPreLogin(preLogin(AsyncPlayerPreLoginEvent.Result.KICK_BANNED));
+        assertThat(underTest.isPreloaded(player.getUniqueId()), is(false));
+    }
+
+    @Test
+    public void testExpirePreloaded_GIVEN_LoginNeverCompleted_THEN_ExpectReleasedAfterTimeout() {
+        long now = System.currentTimeMillis();
+        underTest.onPreLogin(preLogin(AsyncPlayerPreLoginEvent.Result.ALLOWED));
+
+        underTest.expirePreloaded(now);
+        assertThat(underTest.isPreloaded(player.getUniqueId()), is(true));
+
+        underTest.expirePreloaded(now + ProgressRestorer.PRELOAD_TIMEOUT + 1000);
+        assertThat(underTest.isPreloaded(player.getUniqueId()), is(false));
+    }
+}
@@ -0,0 +1,111 @@
+package io.chazza.advancementapi.storage;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+import org.bukkit.NamespacedKey;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import io.chazza.advancementapi.AdvancementAPI;
+import io.chazza.advancementapi.AdvancementRegistry;
+import io.chazza.advancementapi.storage.AdvancementLoader.LoadResult;
+
+public class AdvancementLoaderTest {
+    @Rule
+    public TemporaryFolder tmp = new TemporaryFolder();
+
+    private Path folder;
+    private final AdvancementRegistry registry = new AdvancementRegistry();
+
+    private AdvancementLoader underTest = new AdvancementLoader();
+
+    @Before
+    public void setUp() {
+        folder = tmp.getRoot().toPath().resolve("data/advancements");
+    }
+
+    private void write(String path, String content) throws IOException {
+        Path file = folder.resolve(path);
+        Files.createDirectories(file.getParent());
+        Files.write(file, content.getBytes(StandardCharsets.UTF_8));
+    }
+
+    @SuppressWarnings("deprecation")
+    @Test
+    public void testAdvancementLoader_Load_THEN_ExpectAdvancementsRegistered() throws Exception {
+        write("tests/root.json", "{\"criteria\":{\"a\":{\"trigger\":\"minecraft:impossible\"}}}");
+        write("tests/sub/child.json", "{\"parent\":\"tests:root\",\"criteria\":{}}");
+        write("other/a.json", "{\"criteria\":{}}");
+
+        LoadResult result = underTest.load(folder, registry);
+
+        assertThat(result.getLoaded(), is(3));
+        assertThat(registry.contains(new NamespacedKey("other", "a")), is(true));
+        AdvancementAPI child = registry.get(new NamespacedKey("tests", "sub/child"));
+        assertThat(child.getParent(), is("tests:root"));
+        assertThat(child.getJson(), is("{\"parent\":\"tests:root\",\"criteria\":{}}"));
+    }
+
+    @Test
+    public void testAdvancementLoader_GIVEN_InvalidFiles_THEN_ExpectFailedFilesReported() throws Exception {
+        write("tests/valid.json", "{\"criteria\":{}}");
+        write("tests/broken.json", "{\"criteria\":");
+        write("tests/nocriteria.json", "{}");
+        write("tests/ignored.txt", "");
+
+        LoadResult result = underTest.load(folder, registry);
+
+        assertThat(result.getLoaded(), is(1));
+        assertThat(result.getFailed().size(), is(2));
+    }
+
+    @Test
+    public void testAdvancementLoader_GIVEN_InvalidIdOrCycle_THEN_ExpectFailedFilesReported() throws Exception {
+        write("tests/Invalid Name.json", "{\"criteria\":{}}");
+        write("tests/a.json", "{\"parent\":\"tests:b\",\"criteria\":{}}");
+        write("tests/b.json", "{\"parent\":\"tests:a\",\"criteria\":{}}");
+        write("tests/root.json", "{\"criteria\":{}}");
+
+        LoadResult result = underTest.load(folder, registry);
+
+        assertThat(result.getLoaded(), is(1));
+        assertThat(result.getFailed().size(), is(3));
+        assertThat(result.getFailed().contains(folder.resolve("tests/a.json")), is(true));
+        assertThat(result.getFailed().contains(folder.resolve("tests/Invalid Name.json")), is(true));
+    }
+
+    @Test
+    public void testAdvancementLoader_GIVEN_LargeFile_THEN_ExpectLoadedCompletely() throws Exception {
+        char[] padding = new char[100 * 1024];
+        Arrays.fill(padding, ' ');
+        write("tests/large.json", "{\"criteria\":{}" + new String(padding) + "}");
+
+        LoadResult result = underTest.load(folder, registry);
+
+        assertThat(result.getLoaded(), is(1));
+        assertThat(registry.getAdvancements().iterator().next().getJsonBytes().remaining(), is(102415));
+    }
+
+    @Test
+    public void testAdvancementLoader_GIVEN_SavedAdvancement_THEN_ExpectFileUnchangedOnSave() throws Exception {
+        write("tests/id.json", "{ \"criteria\" : {} }");
+        underTest.load(folder, registry);
+
+        SaveResult<AdvancementAPI> result = new BatchWriter(new AtomicFileWriter(false), 1).writeAll(
+                registry.getAdvancements(), advancement -> folder.resolve("tests/id.json"),
+                AdvancementAPI::getJsonBytes);
+
+        assertThat(result.getWritten(), is(1));
+        assertThat(new String(Files.readAllBytes(folder.resolve("tests/id.json")), StandardCharsets.UTF_8),
+                is("{ \"criteria\" : {} }"));
+    }
+}
@@ -0,0 +1,148 @@
+package io.chazza.advancementapi.storage;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.bukkit.NamespacedKey;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import io.chazza.advancementapi.AdvancementAPI;
+import io.chazza.advancementapi.AdvancementRegistry;
+import io.chazza.advancementapi.transport.BukkitTransport;
+import io.chazza.advancementapi.transport.InMemoryTransport;
+
+public class AdvancementWatcherTest {
+    @SuppressWarnings("deprecation")
+    private static final NamespacedKey root = new NamespacedKey("tests", "root");
+    @SuppressWarnings("deprecation")
+    private static final NamespacedKey child = new NamespacedKey("tests", "child");
+
+    @Rule
+    public TemporaryFolder tmp = new TemporaryFolder();
+
+    private Path folder;
+    private final AdvancementRegistry registry = new AdvancementRegistry();
+    private final InMemoryTransport transport = new InMemoryTransport();
+
+    private AdvancementWatcher underTest;
+
+    @Before
+    public void setUp() throws IOException {
+        folder = tmp.getRoot().toPath().resolve("data/advancements");
+        underTest = new AdvancementWatcher(null, folder, registry);
+        AdvancementAPI.setTransport(transport);
+        write("tests/root.json", "{\"criteria\":{\"a\":{\"trigger\":\"minecraft:impossible\"}}}");
+        write("tests/child.json", "{\"parent\":\"tests:root\",\"criteria\":{}}");
+        new AdvancementLoader().load(folder, registry);
+        registry.addAll();
+    }
+
+    @After
+    public void tearDown() {
+        AdvancementAPI.setTransport(new BukkitTransport());
+    }
+
+    private Path write(String path, String content) throws IOException {
+        Path file = folder.resolve(path);
+        Files.createDirectories(file.getParent());
+        Files.write(file, content.getBytes(StandardCharsets.UTF_8));
+        return file.toAbsolutePath();
+    }
+
+    @Test
+    public void testAdvancementWatcher_GIVEN_ChangedParent_THEN_ExpectParentAndChildReAdded() throws Exception {
+        underTest.onChange(write("tests/root.json", "{\"criteria\":{\"b\":{\"trigger\":\"minecraft:impossible\"}}}"));
+
+        int[] counts = underTest.drain0();
+
+        assertThat(counts[0], is(1));
+        assertThat(counts[2], is(2));
+        assertThat(transport.getJson(root).contains("\"b\""), is(true));
+        assertThat(transport.getJson(child) != null, is(true));
+    }
+
+    @Test
+    public void testAdvancementWatcher_GIVEN_FormattingOnlyChange_THEN_ExpectNothingReAdded() throws Exception {
+        underTest.onChange(write("tests/child.json", "{ \"parent\": \"tests:root\", \"criteria\": {} }"));
+
+        int[] counts = underTest.drain0();
+
+        assertThat(counts[2], is(0));
+        assertThat(registry.get(child).getJson(), is("{ \"parent\": \"tests:root\", \"criteria\": {} }"));
+    }
+
+    @Test
+    public void testAdvancementWatcher_GIVEN_DeletedFile_THEN_ExpectAdvancementRemoved() throws Exception {
+        Path file = folder.resolve("tests/child.json").toAbsolutePath();
+        Files.delete(file);
+        underTest.onChange(file);
+
+        int[] counts = underTest.drain0();
+
+        assertThat(counts[1], is(1));
+        assertThat(registry.contains(child), is(false));
+        assertThat(transport.getJson(child) == null, is(true));
+        assertThat(transport.getJson(root) != null, is(true));
+    }
+
+    @Test
+    public void testAdvancementWatcher_GIVEN_MultipleChanges_THEN_ExpectCoalesced() throws Exception {
+        underTest.onChange(write("tests/child.json", "{\"parent\":\"tests:root\",\"criteria\":{\"x\":{}}}"));
+        underTest.onChange(write("tests/child.json", "{\"parent\":\"tests:root\",\"criteria\":{\"y\":{}}}"));
+
+        int[] counts = underTest.drain0();
+
+        assertThat(counts[0], is(1));
+        assertThat(counts[2], is(1));
+        assertThat(transport.getJson(child).contains("\"y\""), is(true));
+    }
+
+    @SuppressWarnings("deprecation")
+    @Test
+    public void testAdvancementWatcher_GIVEN_DeletedDirectory_THEN_ExpectAllAdvancementsBelowRemoved() throws Exception {
+        write("tests/sub/a.json", "{\"parent\":\"tests:root\",\"criteria\":{}}");
+        write("tests/sub/deep/b.json", "{\"criteria\":{}}");
+        write("tests/subway.json", "{\"criteria\":{}}");
+        new AdvancementLoader().load(folder, registry);
+        underTest.onChange(write("tests/sub/c.json", "{\"criteria\":{}}"));
+
+        Path dir = folder.resolve("tests/sub").toAbsolutePath();
+        underTest.onDelete(dir);
+        int[] counts = underTest.drain0();
+
+        assertThat(counts[1], is(2));
+        assertThat(registry.contains(new NamespacedKey("tests", "sub/deep/b")), is(false));
+        assertThat(registry.contains(new NamespacedKey("tests", "sub/c")), is(false));
+        assertThat(registry.contains(new NamespacedKey("tests", "subway")), is(true));
+        assertThat(registry.contains(child), is(true));
+    }
+
+    @Test
+    public void testAdvancementWatcher_GIVEN_RescanAfterDeletedFile_THEN_ExpectAdvancementRemoved() throws Exception {
+        write("tests/sub/a.json", "{\"criteria\":{}}");
+        new AdvancementLoader().load(folder, registry);
+        Files.delete(folder.resolve("tests/child.json"));
+        Files.delete(folder.resolve("tests/sub/a.json"));
+
+        underTest.rescan(folder.resolve("tests/sub").toAbsolutePath());
+        int[] counts = underTest.drain0();
+        assertThat(counts[1], is(1));
+        assertThat(registry.contains(new NamespacedKey("tests", "sub/a")), is(false));
+        assertThat(registry.contains(child), is(true));
+
+        underTest.rescan(folder.toAbsolutePath());
+        counts = underTest.drain0();
+        assertThat(counts[1], is(1));
+        assertThat(registry.contains(child), is(false));
+        assertThat(registry.contains(root), is(true));
+    }
+}
\ No newline at end of file
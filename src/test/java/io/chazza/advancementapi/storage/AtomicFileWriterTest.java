@@ -0,0 +1,79 @@
+package io.chazza.advancementapi.storage;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class AtomicFileWriterTest {
+    @Rule
+    public TemporaryFolder tmp = new TemporaryFolder();
+
+    private Path file;
+
+    private AtomicFileWriter underTest = new AtomicFileWriter(true);
+
+    @Before
+    public void setUp() {
+        file = tmp.getRoot().toPath().resolve("sub/test.json");
+    }
+
+    private static ByteBuffer utf8(String content) {
+        return ByteBuffer.wrap(content.getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    public void testAtomicFileWriter_Write_THEN_ExpectUtf8ContentAndDirectories() throws Exception {
+        underTest.write(file, utf8("{\"title\":\"Gr\u00fc\u00dfe\"}"));
+
+        assertThat(new String(Files.readAllBytes(file), StandardCharsets.UTF_8), is("{\"title\":\"Gr\u00fc\u00dfe\"}"));
+    }
+
+    @Test
+    public void testAtomicFileWriter_GIVEN_ExistingFile_THEN_ExpectReplacedWithoutTempFiles() throws Exception {
+        underTest.write(file, utf8("old content which is longer"));
+        underTest.write(file, utf8("new"));
+
+        assertThat(new String(Files.readAllBytes(file), StandardCharsets.UTF_8), is("new"));
+        assertThat(file.getParent().toFile().list().length, is(1));
+    }
+
+    @Test
+    public void testAtomicFileWriter_Write_THEN_ExpectBufferPositionUnchanged() throws Exception {
+        ByteBuffer content = utf8("abc");
+
+        underTest.write(file, content);
+        assertThat(content.remaining(), is(3));
+    }
+
+    @Test
+    public void testAtomicFileWriter_Write_THEN_ExpectMetrics() throws Exception {
+        underTest.write(file, utf8("abc"));
+        underTest.write(file, utf8("de"));
+
+        assertThat(underTest.getMetrics().getWrites(), is(2L));
+        assertThat(underTest.getMetrics().getBytes(), is(5L));
+        assertThat(underTest.getMetrics().getFailures(), is(0L));
+    }
+
+    @Test
+    public void testAtomicFileWriter_Write_THEN_ExpectDefaultPermissions() throws Exception {
+        if (!FileSystems.getDefault().supportedFileAttributeViews().contains("posix")) {
+            return;
+        }
+        Path plain = Files.createFile(tmp.getRoot().toPath().resolve("plain.json"));
+
+        underTest.write(file, utf8("abc"));
+
+        assertThat(Files.getPosixFilePermissions(file), is(Files.getPosixFilePermissions(plain)));
+    }
+}
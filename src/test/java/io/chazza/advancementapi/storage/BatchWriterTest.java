@@ -0,0 +1,164 @@
+package io.chazza.advancementapi.storage;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+import java.io.File;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class BatchWriterTest {
+    @Rule
+    public TemporaryFolder tmp = new TemporaryFolder();
+
+    private File dir;
+
+    private BatchWriter underTest = new BatchWriter(new AtomicFileWriter(false), 3);
+
+    @Before
+    public void setUp() {
+        dir = tmp.getRoot();
+    }
+
+    private Path path(String name) {
+        return dir.toPath().resolve(name.substring(0, 1)).resolve(name + ".json");
+    }
+
+    private static ByteBuffer utf8(String content) {
+        return ByteBuffer.wrap(content.getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    public void testBatchWriter_WriteAll_THEN_ExpectAllFilesWritten() throws Exception {
+        List<String> names = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            names.add((char) ('a' + i % 5) + String.valueOf(i));
+        }
+
+        SaveResult<String> result = underTest.writeAll(names, this::path, BatchWriterTest::utf8);
+
+        assertThat(result.isSuccess(), is(true));
+        assertThat(result.getWritten(), is(100));
+        assertThat(new String(Files.readAllBytes(path("c42")), StandardCharsets.UTF_8), is("c42"));
+        assertThat(dir.list().length, is(5));
+    }
+
+    @Test
+    public void testBatchWriter_GIVEN_BlockedDirectory_THEN_ExpectFailedElementsReported() throws Exception {
+        Files.createDirectories(dir.toPath());
+        Files.write(dir.toPath().resolve("x"), new byte[0]);
+
+        SaveResult<String> result = underTest.writeAll(Arrays.asList("a1", "x1", "x2"), this::path,
+                BatchWriterTest::utf8);
+
+        assertThat(result.getWritten(), is(1));
+        assertThat(new HashSet<>(result.getFailed()), is(new HashSet<>(Arrays.asList("x1", "x2"))));
+        assertThat(result.getBytes(), is(2L));
+    }
+
+    @Test
+    public void testBatchWriter_GIVEN_MultipleFolders_THEN_ExpectSerializedOnceAndWrittenToAll() throws Exception {
+        List<Path> folders = Arrays.asList(dir.toPath().resolve("lobby"), dir.toPath().resolve("survival"));
+        AtomicInteger serialized = new AtomicInteger();
+
+        Map<Path, SaveResult<String>> results = underTest.writeAll(folders, Arrays.asList("a1", "b2", "c3"),
+                name -> name.substring(0, 1) + "/" + name + ".json", name -> {
+                    serialized.incrementAndGet();
+                    return utf8(name);
+                });
+
+        assertThat(serialized.get(), is(3));
+        assertThat(results.get(folders.get(0)).getNew(), is(3));
+        assertThat(results.get(folders.get(1)).getNew(), is(3));
+        assertThat(new String(Files.readAllBytes(folders.get(1).resolve("b/b2.json")), StandardCharsets.UTF_8),
+                is("b2"));
+    }
+
+    @Test
+    public void testBatchWriter_GIVEN_RemovedElement_THEN_ExpectDeletedFromAllFolders() throws Exception {
+        List<Path> folders = Arrays.asList(dir.toPath().resolve("hub"), dir.toPath().resolve("events"));
+        underTest.writeAll(folders, Arrays.asList("a1", "a2", "b1"), name -> name.substring(0, 1) + "/" + name
+                + ".json", BatchWriterTest::utf8);
+
+        Map<Path, SaveResult<String>> results = underTest.replaceAll(folders, Arrays.asList("a1", "b1"),
+                name -> name.substring(0, 1) + "/" + name + ".json", BatchWriterTest::utf8);
+        int deleted = underTest.deleteAll(folders, Arrays.asList("b/b1.json"));
+
+        assertThat(results.get(folders.get(0)).getUnchanged(), is(2));
+        assertThat(results.get(folders.get(1)).getDeleted(), is(1));
+        assertThat(deleted, is(2));
+        assertThat(Files.exists(folders.get(0).resolve("a/a2.json")), is(false));
+        assertThat(ContentIndex.of(folders.get(1)).size(), is(1));
+    }
+
+    @Test
+    public void testBatchWriter_GIVEN_WriteAllWithoutElement_THEN_ExpectFileKept() throws Exception {
+        List<Path> folders = Arrays.asList(dir.toPath().resolve("hub"));
+        underTest.writeAll(folders, Arrays.asList("a1", "a2"), name -> "a/" + name + ".json", BatchWriterTest::utf8);
+
+        Map<Path, SaveResult<String>> results = underTest.writeAll(folders, Arrays.asList("a1"),
+                name -> "a/" + name + ".json", BatchWriterTest::utf8);
+
+        assertThat(results.get(folders.get(0)).getDeleted(), is(0));
+        assertThat(Files.exists(folders.get(0).resolve("a/a2.json")), is(true));
+        assertThat(ContentIndex.of(folders.get(0)).size(), is(2));
+    }
+
+    @Test
+    public void testBatchWriter_GIVEN_Interrupted_THEN_ExpectFailedAndIndexNotSaved() throws Exception {
+        Path folder = dir.toPath().resolve("hub");
+        BatchWriter singleThreaded = new BatchWriter(new AtomicFileWriter(false), 1);
+
+        Thread.currentThread().interrupt();
+        Map<Path, SaveResult<String>> results;
+        try {
+            results = singleThreaded.writeAll(Arrays.asList(folder), Arrays.asList("a1", "a2"),
+                    name -> "a/" + name + ".json", BatchWriterTest::utf8);
+        } finally {
+            assertThat(Thread.interrupted(), is(true));
+        }
+
+        assertThat(new HashSet<>(results.get(folder).getFailed()), is(new HashSet<>(Arrays.asList("a1", "a2"))));
+        assertThat(Files.exists(folder.resolve("a/a1.json")), is(false));
+        assertThat(Files.exists(folder.resolve(ContentIndex.FILE_NAME)), is(false));
+    }
+
+    @Test
+    public void testBatchWriter_GIVEN_InterruptedWithWorkers_THEN_ExpectResultMatchingFiles() throws Exception {
+        Path folder = dir.toPath().resolve("hub");
+        List<String> names = new ArrayList<>();
+        for (int i = 0; i < 200; i++) {
+            names.add("a" + i);
+        }
+
+        Thread.currentThread().interrupt();
+        Map<Path, SaveResult<String>> results;
+        try {
+            results = underTest.writeAll(Arrays.asList(folder), names, name -> "a/" + name + ".json",
+                    BatchWriterTest::utf8);
+        } finally {
+            assertThat(Thread.interrupted(), is(true));
+        }
+
+        SaveResult<String> result = results.get(folder);
+        assertThat(result.getWritten() + result.getFailed().size(), is(names.size()));
+        for (String name : names) {
+            assertThat(name, Files.exists(folder.resolve("a/" + name + ".json")),
+                    is(!result.getFailed().contains(name)));
+        }
+        assertThat(Files.exists(folder.resolve(ContentIndex.FILE_NAME)), is(false));
+    }
+}
\ No newline at end of file
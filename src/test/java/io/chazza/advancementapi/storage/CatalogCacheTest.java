@@ -0,0 +1,138 @@
+package io.chazza.advancementapi.storage;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+
+import org.bukkit.NamespacedKey;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import io.chazza.advancementapi.AdvancementAPI;
+import io.chazza.advancementapi.AdvancementRegistry;
+import io.chazza.advancementapi.Display;
+
+public class CatalogCacheTest {
+    @Rule
+    public TemporaryFolder tmp = new TemporaryFolder();
+
+    private Path file;
+    private final AdvancementRegistry registry = new AdvancementRegistry();
+
+    private CatalogCache underTest;
+
+    @Before
+    public void setUp() {
+        file = tmp.getRoot().toPath().resolve("catalog.bin");
+        underTest = new CatalogCache(file, "1.0");
+    }
+
+    @SuppressWarnings("deprecation")
+    private static NamespacedKey id(String key) {
+        return new NamespacedKey("tests", key);
+    }
+
+    //@formatter:off
+    private static List<AdvancementAPI> catalog() {
+        return Arrays.asList(
+                AdvancementAPI.builder(id("child")).parent(id("root")).build(),
+                AdvancementAPI.builder(id("root"))
+                        .display(Display.builder("Root", "The root", "minecraft:stone"))
+                        .build(),
+                AdvancementAPI.builder(id("story")).parent("minecraft:story/root").build());
+    }
+    //@formatter:on
+
+    @Test
+    public void testCatalogCache_WriteAndLoad_THEN_ExpectSameCatalog() throws Exception {
+        underTest.write(catalog(), "hash");
+
+        assertThat(underTest.load(registry, "hash"), is(true));
+
+        assertThat(registry.size(), is(3));
+        assertThat(registry.get(id("child")).getParent(), is("tests:root"));
+        assertThat(registry.get(id("story")).getParent(), is("minecraft:story/root"));
+        assertThat(registry.get(id("root")).toJson(), is(catalog().get(1).toJson()));
+        assertThat(registry.get(id("root")).getJson().contains("\n"), is(false));
+    }
+
+    @Test
+    public void testCatalogCache_GIVEN_OtherSourceHashOrVersion_THEN_ExpectMiss() throws Exception {
+        underTest.write(catalog(), "hash");
+
+        assertThat(underTest.load(registry, "other"), is(false));
+        assertThat(new CatalogCache(file, "2.0").load(registry, "hash"), is(false));
+        assertThat(registry.size(), is(0));
+    }
+
+    @Test
+    public void testCatalogCache_GIVEN_OtherJsonVersion_THEN_ExpectRebuilt() {
+        int[] builds = new int[1];
+        new CatalogCache(file).loadOrBuild(registry, "hash", () -> {
+            builds[0]++;
+            return catalog();
+        });
+
+        String previous = CatalogCache.getLibraryVersion(AdvancementAPI.JSON_VERSION - 1);
+        boolean restored = new CatalogCache(file, previous).loadOrBuild(new AdvancementRegistry(), "hash", () -> {
+            builds[0]++;
+            return catalog();
+        });
+
+        assertThat(restored, is(false));
+        assertThat(builds[0], is(2));
+        assertThat(new CatalogCache(file, previous).load(new AdvancementRegistry(), "hash"), is(true));
+        assertThat(new CatalogCache(file).load(new AdvancementRegistry(), "hash"), is(false));
+    }
+
+    @Test
+    public void testCatalogCache_GIVEN_CorruptFile_THEN_ExpectMiss() throws Exception {
+        underTest.write(catalog(), "hash");
+        byte[] bytes = Files.readAllBytes(file);
+        bytes[bytes.length - 3] ^= 1;
+        Files.write(file, bytes);
+
+        assertThat(underTest.load(registry, "hash"), is(false));
+    }
+
+    @Test
+    public void testCatalogCache_LoadOrBuild_THEN_ExpectBuiltOnceAndCached() {
+        int[] builds = new int[1];
+
+        boolean first = underTest.loadOrBuild(registry, "hash", () -> {
+            builds[0]++;
+            return catalog();
+        });
+        boolean second = underTest.loadOrBuild(new AdvancementRegistry(), "hash", () -> {
+            builds[0]++;
+            return catalog();
+        });
+
+        assertThat(first, is(false));
+        assertThat(second, is(true));
+        assertThat(builds[0], is(1));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testCatalogCache_GIVEN_ParentCycle_WHEN_Write_THEN_ExpectException() throws Exception {
+        underTest.write(Arrays.asList(AdvancementAPI.builder(id("a")).parent(id("b")).build(),
+                AdvancementAPI.builder(id("b")).parent(id("a")).build()), "hash");
+    }
+
+    @Test
+    public void testCatalogCache_GIVEN_ParentCycle_WHEN_LoadOrBuild_THEN_ExpectRegisteredButNotCached() {
+        boolean cached = underTest.loadOrBuild(registry, "hash",
+                () -> Arrays.asList(AdvancementAPI.builder(id("a")).parent(id("b")).build(),
+                        AdvancementAPI.builder(id("b")).parent(id("a")).build()));
+
+        assertThat(cached, is(false));
+        assertThat(registry.size(), is(2));
+        assertThat(Files.exists(file), is(false));
+    }
+}
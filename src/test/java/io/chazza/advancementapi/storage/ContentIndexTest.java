@@ -0,0 +1,142 @@
+package io.chazza.advancementapi.storage;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+import java.io.File;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import io.chazza.advancementapi.storage.ContentIndex.Status;
+
+public class ContentIndexTest {
+    @Rule
+    public TemporaryFolder tmp = new TemporaryFolder();
+
+    private File dir;
+    private final AtomicFileWriter writer = new AtomicFileWriter(false);
+
+    @Before
+    public void setUp() {
+        dir = tmp.getRoot();
+    }
+
+    private static ByteBuffer utf8(String content) {
+        return ByteBuffer.wrap(content.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private Path path(String name) {
+        return dir.toPath().resolve(name.substring(0, 1)).resolve(name + ".json");
+    }
+
+    @Test
+    public void testContentIndex_Check_THEN_ExpectStatusOfFile() throws Exception {
+        ContentIndex underTest = ContentIndex.of(dir.toPath().resolve("check"));
+        Path file = underTest.getRoot().resolve("a.json");
+        String hash = ContentIndex.hash(utf8("abc"));
+
+        assertThat(underTest.check(file, hash, 3), is(Status.NEW));
+        writer.write(file, utf8("abc"));
+        underTest.put(file, hash, 3);
+        assertThat(underTest.check(file, hash, 3), is(Status.UNCHANGED));
+        assertThat(underTest.check(file, ContentIndex.hash(utf8("abd")), 3), is(Status.CHANGED));
+
+        Files.delete(file);
+        assertThat(underTest.check(file, hash, 3), is(Status.CHANGED));
+    }
+
+    @Test
+    public void testContentIndex_Save_THEN_ExpectLoadedBySameDirectory() throws Exception {
+        Path root = dir.toPath().resolve("save");
+        ContentIndex underTest = ContentIndex.of(root);
+        underTest.put(root.resolve("ns/a.json"), ContentIndex.hash(utf8("abc")), 3);
+        underTest.save(writer);
+
+        List<String> lines = Files.readAllLines(root.resolve(ContentIndex.FILE_NAME), StandardCharsets.UTF_8);
+        assertThat(lines.size(), is(2));
+        assertThat(lines.get(1).endsWith(" 3 ns/a.json"), is(true));
+        assertThat(ContentIndex.of(root), is(underTest));
+    }
+
+    @Test
+    public void testBatchWriter_GIVEN_ContentIndex_THEN_ExpectUnchangedSkippedAndStaleDeleted() throws Exception {
+        BatchWriter batchWriter = new BatchWriter(writer, 2, ContentIndex.of(dir.toPath()));
+        Files.createDirectories(path("a1").getParent());
+        Files.write(path("a9"), new byte[] { 1 });
+
+        SaveResult<String> first = batchWriter.writeAll(Arrays.asList("a1", "a2", "a3"), this::path,
+                ContentIndexTest::utf8);
+        SaveResult<String> second = batchWriter.replaceAll(Arrays.asList("a1", "a2"), this::path,
+                name -> utf8(name.equals("a2") ? "changed" : name));
+
+        assertThat(first.getNew(), is(3));
+        assertThat(second.getUnchanged(), is(1));
+        assertThat(second.getChanged(), is(1));
+        assertThat(second.getDeleted(), is(1));
+        assertThat(Files.exists(path("a3")), is(false));
+        // not written through the index
+        assertThat(Files.exists(path("a9")), is(true));
+    }
+
+    @Test
+    public void testContentIndex_GIVEN_ModifiedBySomeoneElse_THEN_ExpectHashedAgain() throws Exception {
+        ContentIndex underTest = ContentIndex.of(dir.toPath().resolve("modified"));
+        Path file = underTest.getRoot().resolve("a.json");
+        String hash = ContentIndex.hash(utf8("abc"));
+        writer.write(file, utf8("abc"));
+        underTest.put(file, hash, 3);
+
+        Files.setLastModifiedTime(file, FileTime.fromMillis(1000L));
+        Status touched = underTest.check(file, hash, 3);
+        Files.write(file, utf8("xyz").array());
+        Files.setLastModifiedTime(file, FileTime.fromMillis(2000L));
+
+        assertThat(touched, is(Status.UNCHANGED));
+        assertThat(underTest.check(file, hash, 3), is(Status.CHANGED));
+    }
+
+    @Test
+    public void testContentIndex_Append_THEN_ExpectLoadedAfterEvict() throws Exception {
+        Path root = dir.toPath().resolve("append");
+        ContentIndex underTest = ContentIndex.of(root);
+        underTest.put(root.resolve("ns/a.json"), ContentIndex.hash(utf8("abc")), 3);
+        underTest.append(root.resolve("ns/a.json"), writer);
+        underTest.put(root.resolve("ns/b.json"), ContentIndex.hash(utf8("b")), 1);
+        underTest.append(root.resolve("ns/b.json"), writer);
+        underTest.remove(root.resolve("ns/a.json"));
+        underTest.append(root.resolve("ns/a.json"), writer);
+
+        ContentIndex.evict(dir.toPath());
+        ContentIndex loaded = ContentIndex.of(root);
+
+        assertThat(Files.readAllLines(root.resolve(ContentIndex.FILE_NAME), StandardCharsets.UTF_8).size(), is(4));
+        assertThat(loaded == underTest, is(false));
+        assertThat(loaded.size(), is(1));
+        assertThat(loaded.check(root.resolve("ns/a.json"), ContentIndex.hash(utf8("abc")), 3), is(Status.NEW));
+    }
+
+    @Test
+    public void testContentIndex_GIVEN_ManyAppends_THEN_ExpectCompacted() throws Exception {
+        Path root = dir.toPath().resolve("compact");
+        Path file = root.resolve("ns/a.json");
+        ContentIndex underTest = ContentIndex.of(root);
+
+        for (int i = 0; i < 200; i++) {
+            underTest.put(file, ContentIndex.hash(utf8("a" + i)), 2);
+            underTest.append(file, writer);
+        }
+
+        assertThat(Files.readAllLines(root.resolve(ContentIndex.FILE_NAME), StandardCharsets.UTF_8).size() <= 66,
+                is(true));
+    }
+}
\ No newline at end of file
@@ -0,0 +1,73 @@
+package io.chazza.advancementapi.storage;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
+
+import org.bukkit.NamespacedKey;
+import org.junit.Test;
+
+import io.chazza.advancementapi.AdvancementAPI;
+
+public class DatapackExporterTest {
+    private DatapackExporter underTest = new DatapackExporter("Tests");
+
+    @SuppressWarnings("deprecation")
+    private static AdvancementAPI advancement(String namespace, String key) {
+        return AdvancementAPI.builder(new NamespacedKey(namespace, key)).build();
+    }
+
+    private static String read(ZipInputStream zip) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        byte[] buffer = new byte[1024];
+        int read;
+        while ((read = zip.read(buffer)) >= 0) {
+            out.write(buffer, 0, read);
+        }
+        return new String(out.toByteArray(), StandardCharsets.UTF_8);
+    }
+
+    @Test
+    public void testDatapackExporter_Export_THEN_ExpectPackMetaAndSortedAdvancements() throws Exception {
+        AdvancementAPI second = advancement("tests", "b");
+        AdvancementAPI first = advancement("tests", "a");
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        assertThat(underTest.export(out, Arrays.asList(second, first)), is(2));
+
+        List<String> names = new ArrayList<>();
+        List<String> contents = new ArrayList<>();
+        try (ZipInputStream zip = new ZipInputStream(new ByteArrayInputStream(out.toByteArray()))) {
+            ZipEntry entry;
+            while ((entry = zip.getNextEntry()) != null) {
+                names.add(entry.getName());
+                contents.add(read(zip));
+            }
+        }
+        assertThat(names, is(Arrays.asList("pack.mcmeta", "data/tests/advancements/a.json",
+                "data/tests/advancements/b.json")));
+        assertThat(contents.get(0), is("{\"pack\":{\"pack_format\":4,\"description\":\"Tests\"}}"));
+        assertThat(contents.get(1), is(first.getJson()));
+    }
+
+    @Test
+    public void testDatapackExporter_ExportTwice_THEN_ExpectSameArchive() throws Exception {
+        List<AdvancementAPI> advancements = Arrays.asList(advancement("tests", "a"), advancement("other", "a"));
+        ByteArrayOutputStream first = new ByteArrayOutputStream();
+        ByteArrayOutputStream second = new ByteArrayOutputStream();
+
+        underTest.export(first, advancements);
+        underTest.export(second, advancements);
+
+        assertThat(Arrays.equals(first.toByteArray(), second.toByteArray()), is(true));
+    }
+}
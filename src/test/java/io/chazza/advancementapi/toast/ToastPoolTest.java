@@ -0,0 +1,128 @@
+package io.chazza.advancementapi.toast;
+
+import static io.chazza.advancementapi.TestPlayers.player;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.notNullValue;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.junit.Assert.assertThat;
+
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+
+import org.bukkit.NamespacedKey;
+import org.bukkit.entity.Player;
+import org.bukkit.plugin.Plugin;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import io.chazza.advancementapi.AdvancementAPI;
+import io.chazza.advancementapi.FrameType;
+import io.chazza.advancementapi.toast.ToastPool.Slot;
+import io.chazza.advancementapi.transport.BukkitTransport;
+import io.chazza.advancementapi.transport.InMemoryTransport;
+
+public class ToastPoolTest {
+    private static final Toast FIRST = Toast.of("First", "minecraft:stone", FrameType.TASK);
+    private static final Toast SECOND = Toast.of("Second", "minecraft:stone", FrameType.TASK);
+    private static final Toast THIRD = Toast.of("Third", "minecraft:stone", FrameType.TASK);
+
+    private RecordingTransport transport = new RecordingTransport();
+    private ToastPool underTest = new ToastPool((Plugin) Proxy.newProxyInstance(Plugin.class.getClassLoader(),
+            new Class<?>[] { Plugin.class }, (proxy, method, args) -> "tests"));
+    private Player player = player(UUID.randomUUID());
+
+    @Before
+    public void setUp() {
+        AdvancementAPI.setTransport(transport);
+    }
+
+    @After
+    public void tearDown() {
+        AdvancementAPI.setTransport(new BukkitTransport());
+    }
+
+    private NamespacedKey use(Toast toast) {
+        Slot slot = underTest.acquire(toast);
+        underTest.release(slot);
+        return slot.id;
+    }
+
+    @Test
+    public void testAcquire_GIVEN_MoreThanCapacity_THEN_ExpectLeastRecentlyUsedEvicted() {
+        underTest.capacity(2);
+        NamespacedKey first = use(FIRST);
+        NamespacedKey second = use(SECOND);
+        use(FIRST);
+
+        NamespacedKey third = use(THIRD);
+        assertThat(underTest.size(), is(2));
+        assertThat(transport.getJson(first), notNullValue());
+        assertThat(transport.getJson(second), nullValue());
+        assertThat(transport.getJson(third), notNullValue());
+    }
+
+    @Test
+    public void testAcquire_GIVEN_SlotInUse_THEN_ExpectNotEvicted() {
+        underTest.capacity(1);
+        Slot first = underTest.acquire(FIRST);
+
+        NamespacedKey second = use(SECOND);
+        assertThat(underTest.size(), is(2));
+
+        // evicts the idle slot only
+        NamespacedKey third = use(THIRD);
+        assertThat(underTest.size(), is(2));
+        assertThat(transport.getJson(first.id), notNullValue());
+        assertThat(transport.getJson(second), nullValue());
+        assertThat(transport.getJson(third), notNullValue());
+    }
+
+    @Test
+    public void testAcquire_GIVEN_SameToast_THEN_ExpectSlotReused() {
+        NamespacedKey first = use(FIRST);
+
+        assertThat(use(FIRST), is(first));
+        assertThat(underTest.size(), is(1));
+    }
+
+    @Test
+    public void testShow_GIVEN_ToastStillShown_THEN_ExpectRevokedAndGrantedAgain() {
+        underTest.show(FIRST, player);
+        underTest.show(FIRST, player);
+        assertThat(transport.calls, is(Arrays.asList("grant", "revoke", "grant")));
+
+        // revokes the pending toasts, only the last one takes it back
+        underTest.stop();
+        assertThat(transport.calls, is(Arrays.asList("grant", "revoke", "grant", "revoke")));
+        assertThat(underTest.size(), is(0));
+    }
+
+    @Test
+    public void testShow_GIVEN_ToastShownAfterRevoke_THEN_ExpectOnlyGranted() {
+        underTest.show(FIRST, player);
+        underTest.stop();
+
+        underTest.show(FIRST, player);
+        assertThat(transport.calls, is(Arrays.asList("grant", "revoke", "grant")));
+    }
+
+    private static class RecordingTransport extends InMemoryTransport {
+        private final List<String> calls = new ArrayList<>();
+
+        @Override
+        public void grant(Player player, NamespacedKey id) {
+            calls.add("grant");
+            super.grant(player, id);
+        }
+
+        @Override
+        public void revoke(Player player, NamespacedKey id) {
+            calls.add("revoke");
+            super.revoke(player, id);
+        }
+    }
+}
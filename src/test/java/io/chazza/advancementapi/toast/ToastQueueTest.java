@@ -0,0 +1,120 @@
+package io.chazza.advancementapi.toast;
+
+import static io.chazza.advancementapi.TestPlayers.player;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.junit.Assert.assertThat;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+
+import org.bukkit.entity.Player;
+import org.junit.Test;
+
+import io.chazza.advancementapi.FrameType;
+
+public class ToastQueueTest {
+    private static final Toast FIRST = Toast.of("First", "minecraft:stone", FrameType.TASK);
+    private static final Toast SECOND = Toast.of("Second", "minecraft:stone", FrameType.TASK);
+    private static final Toast THIRD = Toast.of("Third", "minecraft:stone", FrameType.TASK);
+
+    private List<Toast> shown = new ArrayList<>();
+    private List<Player> shownTo = new ArrayList<>();
+    private ToastPool pool = new ToastPool(null) {
+        @Override
+        public void show(Toast toast, Player... players) {
+            shown.add(toast);
+            shownTo.addAll(Arrays.asList(players));
+        }
+    };
+    private ToastQueue underTest = new ToastQueue(pool).interval(1L);
+    private Player player = player(UUID.randomUUID());
+
+    private void tick(int ticks) {
+        for (int i = 0; i < ticks; i++) {
+            underTest.tick(uuid -> uuid.equals(player.getUniqueId()) ? player : null);
+        }
+    }
+
+    private static Toast toast(int index) {
+        return Toast.of("Toast " + index, "minecraft:stone", FrameType.TASK);
+    }
+
+    @Test
+    public void testShow_GIVEN_IdenticalToasts_THEN_ExpectMerged() {
+        underTest.show(FIRST, player);
+        underTest.show(FIRST, player);
+        underTest.show(SECOND, player);
+
+        tick(3);
+        assertThat(shown, is(Arrays.asList(FIRST, SECOND)));
+    }
+
+    @Test
+    public void testTick_GIVEN_Interval_THEN_ExpectOneToastPerInterval() {
+        underTest.interval(2L);
+        underTest.show(FIRST, player);
+        underTest.show(SECOND, player);
+
+        tick(2);
+        assertThat(shown, is(Collections.singletonList(FIRST)));
+        tick(1);
+        assertThat(shown, is(Arrays.asList(FIRST, SECOND)));
+    }
+
+    @Test
+    public void testShow_GIVEN_OverflowWithIdenticalToasts_THEN_ExpectDistinctToastsSummarized() {
+        underTest.maxQueued(1);
+        underTest.show(FIRST, player);
+        underTest.show(SECOND, player);
+        underTest.show(SECOND, player);
+        underTest.show(THIRD, player);
+
+        tick(3);
+        assertThat(shown, is(Arrays.asList(FIRST, Toast.of("+2 more", "minecraft:paper", FrameType.TASK))));
+    }
+
+    @Test
+    public void testShow_GIVEN_ManyOverflowed_THEN_ExpectBucketedSummary() {
+        underTest.maxQueued(1);
+        for (int i = 0; i < 26; i++) {
+            underTest.show(toast(i), player);
+        }
+
+        tick(2);
+        assertThat(shown.get(1), is(Toast.of("20+ more", "minecraft:paper", FrameType.TASK)));
+    }
+
+    @Test
+    public void testShow_GIVEN_OverflowDrop_THEN_ExpectNoSummary() {
+        underTest.maxQueued(1).overflow(ToastQueue.Overflow.DROP);
+        underTest.show(FIRST, player);
+        underTest.show(SECOND, player);
+
+        tick(3);
+        assertThat(shown, is(Collections.singletonList(FIRST)));
+    }
+
+    @Test
+    public void testTick_GIVEN_PlayerRejoined_THEN_ExpectShownToCurrentPlayer() {
+        Player before = player(player.getUniqueId());
+        underTest.show(FIRST, before);
+
+        tick(1);
+        assertThat(shown, is(Collections.singletonList(FIRST)));
+        assertThat(shownTo.get(0), sameInstance(player));
+    }
+
+    @Test
+    public void testTick_GIVEN_PlayerOffline_THEN_ExpectQueueDiscarded() {
+        underTest.show(FIRST, player);
+        underTest.show(SECOND, player);
+
+        underTest.tick(uuid -> null);
+        tick(2);
+        assertThat(shown, is(Collections.emptyList()));
+    }
+}
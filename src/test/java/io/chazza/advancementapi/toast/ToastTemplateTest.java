@@ -0,0 +1,47 @@
+package io.chazza.advancementapi.toast;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+import org.bukkit.NamespacedKey;
+import org.junit.Test;
+
+import com.google.gson.JsonElement;
+import com.google.gson.JsonParser;
+
+import io.chazza.advancementapi.AdvancementAPI;
+import io.chazza.advancementapi.Display;
+import io.chazza.advancementapi.FrameType;
+
+public class ToastTemplateTest {
+    @SuppressWarnings("deprecation")
+    private static final NamespacedKey nsk = new NamespacedKey("tests", "toast");
+
+    @Test
+    public void testToastTemplate_GIVEN_Values_THEN_ExpectJsonOfBuilder() {
+        //@formatter:off
+        JsonElement expected = AdvancementAPI.builder(nsk)
+                .display(Display.builder("Welcome \"home\"", "Desc", "minecraft:diamond")
+                        .frame(FrameType.GOAL)
+                        .toast(true)
+                        .announce(false)
+                        .hidden(true))
+                .build()
+                .toJson();
+        //@formatter:on
+
+        String json = ToastTemplate.DEFAULT.render("Welcome \"home\"", "Desc", "minecraft:diamond", FrameType.GOAL);
+        assertThat(new JsonParser().parse(json), is(expected));
+    }
+
+    @Test
+    public void testToastTemplate_GIVEN_Toast_THEN_ExpectTitleIconAndFrame() {
+        String json = ToastTemplate.DEFAULT.render(Toast.of("Hi", "minecraft:stone", FrameType.CHALLENGE));
+
+        JsonElement display = new JsonParser().parse(json).getAsJsonObject().get("display");
+        assertThat(display.getAsJsonObject().get("title").getAsJsonObject().get("text").getAsString(), is("Hi"));
+        assertThat(display.getAsJsonObject().get("icon").getAsJsonObject().get("item").getAsString(),
+                is("minecraft:stone"));
+        assertThat(display.getAsJsonObject().get("frame").getAsString(), is("challenge"));
+    }
+}
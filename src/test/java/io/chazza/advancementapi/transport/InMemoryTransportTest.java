@@ -0,0 +1,79 @@
+package io.chazza.advancementapi.transport;
+
+import static io.chazza.advancementapi.TestPlayers.player;
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.UUID;
+
+import org.bukkit.NamespacedKey;
+import org.bukkit.entity.Player;
+import org.junit.Test;
+
+public class InMemoryTransportTest {
+    @SuppressWarnings("deprecation")
+    private static final NamespacedKey nsk = new NamespacedKey("tests", "id");
+    private static final String JSON = "{\"criteria\":{\"a\":{\"trigger\":\"minecraft:impossible\"},"
+            + "\"b\":{\"trigger\":\"minecraft:impossible\"}}}";
+
+    private InMemoryTransport underTest = new InMemoryTransport();
+    private Player player = player(UUID.randomUUID());
+
+    @Test
+    public void testInMemoryTransport_GIVEN_Registered_THEN_ExpectJsonAndNamespaceLookup() {
+        assertThat(underTest.register(nsk, JSON), is(true));
+        assertThat(underTest.register(nsk, JSON), is(false));
+
+        assertThat(underTest.getJson(nsk), is(JSON));
+        assertThat(underTest.getAdvancements("tests").contains(nsk), is(true));
+        assertThat(underTest.getAdvancements("other").isEmpty(), is(true));
+    }
+
+    @Test
+    public void testInMemoryTransport_GIVEN_Unregistered_THEN_ExpectNoJson() {
+        underTest.register(nsk, JSON);
+
+        assertThat(underTest.unregister(nsk), is(true));
+        assertThat(underTest.unregister(nsk), is(false));
+        assertThat(underTest.getJson(nsk), is((String) null));
+    }
+
+    @Test
+    public void testInMemoryTransport_GIVEN_Grant_THEN_ExpectAllCriteriaAndDone() {
+        underTest.register(nsk, JSON);
+
+        underTest.grant(player, nsk);
+        assertThat(underTest.getAwardedCriteria(player.getUniqueId(), nsk), is(new HashSet<>(Arrays.asList("a", "b"))));
+        assertThat(underTest.isDone(player, nsk), is(true));
+    }
+
+    @Test
+    public void testInMemoryTransport_GIVEN_PartialAward_THEN_ExpectNotDone() {
+        underTest.register(nsk, JSON);
+
+        underTest.award(player, nsk, Arrays.asList("a", "unknown"));
+        assertThat(underTest.getAwardedCriteria(player.getUniqueId(), nsk), is(Collections.singleton("a")));
+        assertThat(underTest.isDone(player, nsk), is(false));
+    }
+
+    @Test
+    public void testInMemoryTransport_GIVEN_Requirements_THEN_ExpectDoneWithOneOfThem() {
+        underTest.register(nsk, "{\"criteria\":{\"a\":{\"trigger\":\"minecraft:impossible\"},"
+                + "\"b\":{\"trigger\":\"minecraft:impossible\"}},\"requirements\":[[\"a\",\"b\"]]}");
+
+        underTest.award(player, nsk, Collections.singleton("b"));
+        assertThat(underTest.isDone(player, nsk), is(true));
+    }
+
+    @Test
+    public void testInMemoryTransport_GIVEN_RevokeAll_THEN_ExpectNoCriteria() {
+        underTest.register(nsk, JSON);
+        underTest.award(player, nsk, Collections.singleton("a"));
+
+        underTest.revokeAll(player, Collections.singleton(nsk));
+        assertThat(underTest.getAwardedCriteria(player.getUniqueId(), nsk).isEmpty(), is(true));
+    }
+}